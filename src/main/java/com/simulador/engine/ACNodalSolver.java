@@ -0,0 +1,580 @@
+package com.simulador.engine;
+
+import com.simulador.model.ACNetlist;
+import com.simulador.model.ACNodalSolution;
+import com.simulador.model.FrequencySweepResult;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Análisis nodal complejo de un netlist RLC arbitrario mediante LU disperso
+ * Complex nodal analysis of an arbitrary RLC netlist with sparse LU
+ *
+ * La fuente ideal va a tierra, así que la tensión de su nodo es conocida y pasa al
+ * lado derecho; las incógnitas son las demás tensiones de nodo. La parte simbólica
+ * (orden de mínimo grado, patrón con relleno y posición de cada estampado) se calcula
+ * una sola vez en el constructor; cada frecuencia sólo repite la factorización
+ * numérica sobre ese patrón, sin reservar memoria.
+ *
+ * Los pivotes fijos del orden de mínimo grado no siempre sirven: la matriz compleja es
+ * indefinida y cerca de una resonancia yL + yC se cancela en la diagonal. Si un pivote
+ * cae por debajo de {@link #PIVOT_THRESHOLD} veces el mayor elemento de su fila, esa
+ * frecuencia se refactoriza en denso con pivoteo parcial; el espacio denso (n²) se
+ * reserva la primera vez que hace falta.
+ * The fixed minimum-degree pivots can collapse near a resonance (yL + yC cancel on the
+ * diagonal); such frequencies are refactored densely with partial pivoting.
+ *
+ * La instancia guarda su espacio de trabajo y no es segura para uso concurrente;
+ * conviene una por hilo.
+ */
+public final class ACNodalSolver {
+
+    /** Pivote mínimo relativo al mayor elemento de su fila */
+    private static final double PIVOT_TOLERANCE = 1e-13;
+
+    /** Por debajo de esta fracción de su fila, un pivote fijo pasa a la factorización pivoteada */
+    static final double PIVOT_THRESHOLD = 1e-3;
+
+    private static final int RESISTOR = 0;
+    private static final int INDUCTOR = 1;
+    private static final int CAPACITOR = 2;
+
+    private final ACNetlist netlist;
+    private final int unknowns;
+    private final int[] nodeToUnknown;   // nodo → fila permutada, -1 para tierra y fuente
+
+    // Patrón CSR de L+U con el relleno incluido; columnas ordenadas en cada fila
+    private final int[] rowStart;
+    private final int[] columns;
+    private final int[] diagonal;
+
+    // Estampado de cada elemento: posiciones en el patrón (-1 si no aplica)
+    private final int[] kind;
+    private final double[] value;
+    private final int[] rowA, rowB;
+    private final int[] posAA, posBB, posAB, posBA;
+    private final boolean[] touchesSource;
+
+    // Espacio de trabajo
+    private final double[] valRe, valIm;
+    private final double[] workRe, workIm;
+    private final double[] invPivotRe, invPivotIm;
+    private final double[] xRe, xIm;
+    private double[] denseRe, denseIm;   // respaldo pivoteado, reservado a demanda
+    private final MutableComplex current = new MutableComplex();
+    private final MutableComplex term = new MutableComplex();
+
+    public ACNodalSolver(ACNetlist netlist) {
+        if (netlist == null) {
+            throw new IllegalArgumentException("Netlist cannot be null");
+        }
+        if (!netlist.hasSource()) {
+            throw new IllegalArgumentException("Netlist has no source");
+        }
+        this.netlist = netlist;
+
+        int nodes = netlist.getNodeCount();
+        int source = netlist.getSourceNode();
+        List<ACNetlist.Element> elements = netlist.getElements();
+
+        // Todo nodo debe tener al menos un componente
+        boolean[] connected = new boolean[nodes];
+        for (ACNetlist.Element e : elements) {
+            connected[e.getNodeA()] = true;
+            connected[e.getNodeB()] = true;
+        }
+        for (int node = 1; node < nodes; node++) {
+            if (!connected[node]) {
+                throw new IllegalArgumentException("Node " + node + " is not connected");
+            }
+        }
+
+        // Grafo de las incógnitas (nodos distintos de tierra y de la fuente)
+        int[] compact = new int[nodes];
+        int n = 0;
+        for (int node = 0; node < nodes; node++) {
+            compact[node] = node == ACNetlist.GROUND || node == source ? -1 : n++;
+        }
+        this.unknowns = n;
+
+        BitSet[] graph = new BitSet[n];
+        for (int k = 0; k < n; k++) {
+            graph[k] = new BitSet(n);
+        }
+        for (ACNetlist.Element e : elements) {
+            int a = compact[e.getNodeA()];
+            int b = compact[e.getNodeB()];
+            if (a >= 0 && b >= 0) {
+                graph[a].set(b);
+                graph[b].set(a);
+            }
+        }
+
+        // Mínimo grado: el patrón de cada fila de U son los vecinos al eliminarla
+        int[] position = new int[n];
+        BitSet[] upper = minimumDegree(graph, position);
+
+        this.nodeToUnknown = new int[nodes];
+        for (int node = 0; node < nodes; node++) {
+            nodeToUnknown[node] = compact[node] >= 0 ? position[compact[node]] : -1;
+        }
+
+        // Patrón simétrico: fila i = {k < i : i ∈ U(k)} ∪ {i} ∪ U(i)
+        int[] count = new int[n];
+        for (int k = 0; k < n; k++) {
+            count[k] += 1 + upper[k].cardinality();
+            for (int j = upper[k].nextSetBit(0); j >= 0; j = upper[k].nextSetBit(j + 1)) {
+                count[j]++;
+            }
+        }
+        this.rowStart = new int[n + 1];
+        for (int k = 0; k < n; k++) {
+            rowStart[k + 1] = rowStart[k] + count[k];
+        }
+        this.columns = new int[rowStart[n]];
+        this.diagonal = new int[n];
+        int[] fill = Arrays.copyOf(rowStart, n);
+        for (int k = 0; k < n; k++) {
+            // Las filas k' < k ya escribieron sus entradas inferiores en orden creciente
+            diagonal[k] = fill[k];
+            columns[fill[k]++] = k;
+            for (int j = upper[k].nextSetBit(0); j >= 0; j = upper[k].nextSetBit(j + 1)) {
+                columns[fill[k]++] = j;
+                columns[fill[j]++] = k;
+            }
+        }
+
+        // Estampados
+        int m = elements.size();
+        this.kind = new int[m];
+        this.value = new double[m];
+        this.rowA = new int[m];
+        this.rowB = new int[m];
+        this.posAA = new int[m];
+        this.posBB = new int[m];
+        this.posAB = new int[m];
+        this.posBA = new int[m];
+        this.touchesSource = new boolean[m];
+        for (int e = 0; e < m; e++) {
+            ACNetlist.Element element = elements.get(e);
+            switch (element.getType()) {
+                case "Resistance": kind[e] = RESISTOR; break;
+                case "Inductor":   kind[e] = INDUCTOR; break;
+                default:           kind[e] = CAPACITOR; break;
+            }
+            value[e] = element.getValue();
+            int a = nodeToUnknown[element.getNodeA()];
+            int b = nodeToUnknown[element.getNodeB()];
+            rowA[e] = a;
+            rowB[e] = b;
+            posAA[e] = a >= 0 ? find(a, a) : -1;
+            posBB[e] = b >= 0 ? find(b, b) : -1;
+            posAB[e] = a >= 0 && b >= 0 ? find(a, b) : -1;
+            posBA[e] = a >= 0 && b >= 0 ? find(b, a) : -1;
+            touchesSource[e] = element.getNodeA() == source || element.getNodeB() == source;
+        }
+
+        int nnz = columns.length;
+        this.valRe = new double[nnz];
+        this.valIm = new double[nnz];
+        this.workRe = new double[n];
+        this.workIm = new double[n];
+        this.invPivotRe = new double[n];
+        this.invPivotIm = new double[n];
+        this.xRe = new double[n];
+        this.xIm = new double[n];
+    }
+
+    /**
+     * Orden de mínimo grado sobre el grafo de eliminación
+     * Minimum degree ordering over the elimination graph
+     *
+     * Devuelve, indexado por posición, las posiciones de los vecinos posteriores
+     * (el patrón de cada fila de U) y llena {@code position} (vértice → posición).
+     */
+    private static BitSet[] minimumDegree(BitSet[] graph, int[] position) {
+        int n = graph.length;
+        boolean[] eliminated = new boolean[n];
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) {
+            degree[v] = graph[v].cardinality();
+        }
+
+        BitSet[] neighbours = new BitSet[n];
+        for (int step = 0; step < n; step++) {
+            int best = -1;
+            for (int v = 0; v < n; v++) {
+                if (!eliminated[v] && (best < 0 || degree[v] < degree[best])) {
+                    best = v;
+                }
+            }
+            position[best] = step;
+            eliminated[best] = true;
+
+            // Los vecinos restantes forman una clique (relleno)
+            BitSet clique = graph[best];
+            neighbours[step] = (BitSet) clique.clone();
+            for (int u = clique.nextSetBit(0); u >= 0; u = clique.nextSetBit(u + 1)) {
+                graph[u].or(clique);
+                graph[u].clear(u);
+                graph[u].clear(best);
+                degree[u] = graph[u].cardinality();
+            }
+        }
+
+        BitSet[] upper = new BitSet[n];
+        for (int step = 0; step < n; step++) {
+            upper[step] = new BitSet(n);
+            BitSet later = neighbours[step];
+            for (int u = later.nextSetBit(0); u >= 0; u = later.nextSetBit(u + 1)) {
+                upper[step].set(position[u]);
+            }
+        }
+        return upper;
+    }
+
+    private int find(int row, int column) {
+        int index = Arrays.binarySearch(columns, rowStart[row], rowStart[row + 1], column);
+        if (index < 0) {
+            throw new IllegalStateException("Entry outside the symbolic pattern");
+        }
+        return index;
+    }
+
+    // Getters
+    public ACNetlist getNetlist() { return netlist; }
+    public int getUnknownCount() { return unknowns; }
+
+    /**
+     * Entradas del patrón factorizado (incluye el relleno)
+     * Entries in the factored pattern (fill included)
+     */
+    public int getFactorNonZeros() { return columns.length; }
+
+    /**
+     * Resuelve el circuito a una frecuencia
+     * Solves the circuit at one frequency
+     */
+    public ACNodalSolution solve(double voltage, double frequency) {
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+        double w = 2 * Math.PI * frequency;
+        factorAndSolve(voltage, w);
+
+        int nodes = netlist.getNodeCount();
+        double[] re = new double[nodes];
+        double[] im = new double[nodes];
+        for (int node = 0; node < nodes; node++) {
+            int row = nodeToUnknown[node];
+            if (row >= 0) {
+                re[node] = xRe[row];
+                im[node] = xIm[row];
+            }
+        }
+        re[netlist.getSourceNode()] = voltage;
+
+        sourceCurrent(voltage, w);
+        return new ACNodalSolution(frequency, voltage, re, im,
+                                   current.getReal(), current.getImaginary());
+    }
+
+    /**
+     * Impedancia de entrada Vs/Is a una frecuencia, sin reservar memoria
+     * Input impedance Vs/Is at one frequency, without allocating
+     *
+     * Un punto singular o sin corriente de fuente deja {@code out} en NaN.
+     */
+    public void inputImpedance(double frequency, MutableComplex out) {
+        double w = 2 * Math.PI * frequency;
+        try {
+            factorAndSolve(1, w);
+            sourceCurrent(1, w);
+            out.set(1, 0).divide(current);
+        } catch (ArithmeticException e) {
+            out.set(Double.NaN, Double.NaN);
+        }
+    }
+
+    /**
+     * Barrido en frecuencia de las magnitudes vistas por la fuente
+     * Frequency sweep of the quantities seen by the source
+     *
+     * Reutiliza el patrón simbólico en todos los puntos; un punto singular (por
+     * ejemplo un tanque LC ideal en resonancia) queda como NaN.
+     */
+    public FrequencySweepResult sweep(double voltage, double fStart, double fStop,
+                                      int points, SweepScale scale) {
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (fStart <= 0 || fStop <= fStart) {
+            throw new IllegalArgumentException("Frequency range must be positive and increasing");
+        }
+        if (points < 2) {
+            throw new IllegalArgumentException("Sweep needs at least 2 points");
+        }
+
+        double[] f = scale.samples(fStart, fStop, points);
+        double[] z = new double[points];
+        double[] i = new double[points];
+        double[] phi = new double[points];
+        double[] p = new double[points];
+        double[] q = new double[points];
+        double[] s = new double[points];
+        double[] pf = new double[points];
+
+        for (int k = 0; k < points; k++) {
+            double w = 2 * Math.PI * f[k];
+            double iRe, iIm;
+            try {
+                factorAndSolve(voltage, w);
+                sourceCurrent(voltage, w);
+                iRe = current.getReal();
+                iIm = current.getImaginary();
+            } catch (ArithmeticException ex) {
+                iRe = Double.NaN;
+                iIm = Double.NaN;
+            }
+            double ik = Math.sqrt(iRe * iRe + iIm * iIm);
+            double angle = -Math.atan2(iIm, iRe);
+            double sk = voltage * ik;
+            double cos = Math.cos(angle);
+            z[k] = voltage / ik;
+            i[k] = ik;
+            phi[k] = angle;
+            p[k] = sk * cos;
+            q[k] = sk * Math.sin(angle);
+            s[k] = sk;
+            pf[k] = cos;
+        }
+        return new FrequencySweepResult(voltage, f, z, i, phi, p, q, s, pf);
+    }
+
+    /**
+     * Arma la matriz de admitancias sobre el patrón, la factoriza y deja la solución en x
+     * Assembles the admittance matrix on the pattern, factors it and leaves the solution in x
+     */
+    private void factorAndSolve(double voltage, double w) {
+        int n = unknowns;
+        Arrays.fill(valRe, 0);
+        Arrays.fill(valIm, 0);
+        Arrays.fill(xRe, 0);
+        Arrays.fill(xIm, 0);
+
+        // Estampado: Y[a][a] += y, Y[b][b] += y, Y[a][b] −= y, Y[b][a] −= y
+        // El lado derecho recibe y·Vs en las incógnitas conectadas a la fuente
+        int source = netlist.getSourceNode();
+        for (int e = 0; e < kind.length; e++) {
+            double yRe = admittanceRe(e, w), yIm = admittanceIm(e, w);
+            if (posAA[e] >= 0) { valRe[posAA[e]] += yRe; valIm[posAA[e]] += yIm; }
+            if (posBB[e] >= 0) { valRe[posBB[e]] += yRe; valIm[posBB[e]] += yIm; }
+            if (posAB[e] >= 0) {
+                valRe[posAB[e]] -= yRe; valIm[posAB[e]] -= yIm;
+                valRe[posBA[e]] -= yRe; valIm[posBA[e]] -= yIm;
+            }
+            if (touchesSource[e]) {
+                int row = rowA[e] >= 0 ? rowA[e] : rowB[e];
+                if (row >= 0) {
+                    xRe[row] += yRe * voltage;
+                    xIm[row] += yIm * voltage;
+                }
+            }
+        }
+
+        // LU por filas (variante IKJ) sobre el patrón con relleno
+        for (int row = 0; row < n; row++) {
+            int start = rowStart[row], end = rowStart[row + 1], diag = diagonal[row];
+            double rowMax = 0;
+            for (int p = start; p < end; p++) {
+                int c = columns[p];
+                workRe[c] = valRe[p];
+                workIm[c] = valIm[p];
+                rowMax = Math.max(rowMax, Math.abs(valRe[p]) + Math.abs(valIm[p]));
+            }
+            for (int p = start; p < diag; p++) {
+                int k = columns[p];
+                // l = work[k] / U[k][k]
+                double wr = workRe[k], wi = workIm[k];
+                double lr = wr * invPivotRe[k] - wi * invPivotIm[k];
+                double li = wr * invPivotIm[k] + wi * invPivotRe[k];
+                workRe[k] = lr;
+                workIm[k] = li;
+                for (int q = diagonal[k] + 1, qEnd = rowStart[k + 1]; q < qEnd; q++) {
+                    int j = columns[q];
+                    double ur = valRe[q], ui = valIm[q];
+                    workRe[j] -= lr * ur - li * ui;
+                    workIm[j] -= lr * ui + li * ur;
+                }
+            }
+            for (int p = start; p < end; p++) {
+                int c = columns[p];
+                valRe[p] = workRe[c];
+                valIm[p] = workIm[c];
+                workRe[c] = 0;
+                workIm[c] = 0;
+            }
+
+            double pr = valRe[diag], pi = valIm[diag];
+            double magnitude = Math.abs(pr) + Math.abs(pi);
+            if (!(magnitude > PIVOT_THRESHOLD * rowMax)) {
+                // El pivote fijo se canceló: esta frecuencia va con pivoteo parcial
+                factorAndSolvePivoted(voltage, w);
+                return;
+            }
+            double d = pr * pr + pi * pi;
+            invPivotRe[row] = pr / d;
+            invPivotIm[row] = -pi / d;
+        }
+
+        // Sustitución hacia adelante (L con diagonal unitaria)
+        for (int row = 0; row < n; row++) {
+            double sr = xRe[row], si = xIm[row];
+            for (int p = rowStart[row], diag = diagonal[row]; p < diag; p++) {
+                int c = columns[p];
+                sr -= valRe[p] * xRe[c] - valIm[p] * xIm[c];
+                si -= valRe[p] * xIm[c] + valIm[p] * xRe[c];
+            }
+            xRe[row] = sr;
+            xIm[row] = si;
+        }
+
+        // Sustitución hacia atrás
+        for (int row = n - 1; row >= 0; row--) {
+            double sr = xRe[row], si = xIm[row];
+            for (int p = diagonal[row] + 1, end = rowStart[row + 1]; p < end; p++) {
+                int c = columns[p];
+                sr -= valRe[p] * xRe[c] - valIm[p] * xIm[c];
+                si -= valRe[p] * xIm[c] + valIm[p] * xRe[c];
+            }
+            xRe[row] = sr * invPivotRe[row] - si * invPivotIm[row];
+            xIm[row] = sr * invPivotIm[row] + si * invPivotRe[row];
+        }
+    }
+
+    /**
+     * LU densa con pivoteo parcial por filas, para las frecuencias en que un pivote fijo
+     * colapsa; deja la solución en x
+     * Dense LU with partial row pivoting for frequencies where a fixed pivot collapses
+     */
+    private void factorAndSolvePivoted(double voltage, double w) {
+        int n = unknowns;
+        int width = n + 1;   // la última columna es el lado derecho
+        if (denseRe == null) {
+            denseRe = new double[n * width];
+            denseIm = new double[n * width];
+        }
+        double[] aRe = denseRe, aIm = denseIm;
+        Arrays.fill(aRe, 0);
+        Arrays.fill(aIm, 0);
+
+        double norm = 0;
+        for (int e = 0; e < kind.length; e++) {
+            double yRe = admittanceRe(e, w), yIm = admittanceIm(e, w);
+            int a = rowA[e], b = rowB[e];
+            if (a >= 0) { aRe[a * width + a] += yRe; aIm[a * width + a] += yIm; }
+            if (b >= 0) { aRe[b * width + b] += yRe; aIm[b * width + b] += yIm; }
+            if (a >= 0 && b >= 0) {
+                aRe[a * width + b] -= yRe; aIm[a * width + b] -= yIm;
+                aRe[b * width + a] -= yRe; aIm[b * width + a] -= yIm;
+            }
+            if (touchesSource[e]) {
+                int row = a >= 0 ? a : b;
+                if (row >= 0) {
+                    aRe[row * width + n] += yRe * voltage;
+                    aIm[row * width + n] += yIm * voltage;
+                }
+            }
+            norm = Math.max(norm, Math.abs(yRe) + Math.abs(yIm));
+        }
+
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            double best = Math.abs(aRe[k * width + k]) + Math.abs(aIm[k * width + k]);
+            for (int i = k + 1; i < n; i++) {
+                double magnitude = Math.abs(aRe[i * width + k]) + Math.abs(aIm[i * width + k]);
+                if (magnitude > best) {
+                    best = magnitude;
+                    p = i;
+                }
+            }
+            if (!(best > PIVOT_TOLERANCE * norm)) {
+                throw new ArithmeticException("Singular admittance matrix at ω = " + w);
+            }
+            if (p != k) {
+                for (int j = k; j <= n; j++) {
+                    double t = aRe[k * width + j]; aRe[k * width + j] = aRe[p * width + j]; aRe[p * width + j] = t;
+                    t = aIm[k * width + j]; aIm[k * width + j] = aIm[p * width + j]; aIm[p * width + j] = t;
+                }
+            }
+            double pr = aRe[k * width + k], pi = aIm[k * width + k];
+            double d = pr * pr + pi * pi;
+            double ir = pr / d, ii = -pi / d;
+            for (int i = k + 1; i < n; i++) {
+                double wr = aRe[i * width + k], wi = aIm[i * width + k];
+                if (wr == 0 && wi == 0) {
+                    continue;
+                }
+                double lr = wr * ir - wi * ii;
+                double li = wr * ii + wi * ir;
+                for (int j = k + 1; j <= n; j++) {
+                    double ur = aRe[k * width + j], ui = aIm[k * width + j];
+                    aRe[i * width + j] -= lr * ur - li * ui;
+                    aIm[i * width + j] -= lr * ui + li * ur;
+                }
+            }
+        }
+
+        for (int row = n - 1; row >= 0; row--) {
+            double sr = aRe[row * width + n], si = aIm[row * width + n];
+            for (int c = row + 1; c < n; c++) {
+                double ur = aRe[row * width + c], ui = aIm[row * width + c];
+                sr -= ur * xRe[c] - ui * xIm[c];
+                si -= ur * xIm[c] + ui * xRe[c];
+            }
+            double pr = aRe[row * width + row], pi = aIm[row * width + row];
+            double d = pr * pr + pi * pi;
+            xRe[row] = (sr * pr + si * pi) / d;
+            xIm[row] = (si * pr - sr * pi) / d;
+        }
+    }
+
+    /**
+     * Corriente entregada por la fuente: Σ y·(Vs − Vx) sobre los elementos que la tocan
+     * Source current: Σ y·(Vs − Vx) over the elements attached to it
+     */
+    private void sourceCurrent(double voltage, double w) {
+        current.set(0, 0);
+        for (int e = 0; e < kind.length; e++) {
+            if (touchesSource[e]) {
+                term.set(admittanceRe(e, w), admittanceIm(e, w))
+                    .multiply(voltage - otherVoltageRe(e), -otherVoltageIm(e));
+                current.add(term);
+            }
+        }
+    }
+
+    private double admittanceRe(int e, double w) {
+        return kind[e] == RESISTOR ? 1.0 / value[e] : 0;
+    }
+
+    private double admittanceIm(int e, double w) {
+        switch (kind[e]) {
+            case INDUCTOR:  return -1.0 / (w * value[e]);
+            case CAPACITOR: return w * value[e];
+            default:        return 0;
+        }
+    }
+
+    // Tensión del extremo que no es la fuente (0 si es tierra o también la fuente)
+    private double otherVoltageRe(int e) {
+        int row = rowA[e] >= 0 ? rowA[e] : rowB[e];
+        return row >= 0 ? xRe[row] : 0;
+    }
+
+    private double otherVoltageIm(int e) {
+        int row = rowA[e] >= 0 ? rowA[e] : rowB[e];
+        return row >= 0 ? xIm[row] : 0;
+    }
+}
@@ -0,0 +1,235 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.FrequencySweepResult;
+import java.util.Arrays;
+
+/**
+ * Barrido de Bode adaptativo: grilla logarítmica gruesa refinada donde hay curvatura
+ * Adaptive Bode sweep: coarse logarithmic grid refined where there is curvature
+ *
+ * Cada intervalo se parte por su punto medio en log f mientras |Z| (en dB) o la fase
+ * en ese punto se aparten de la interpolación lineal de los extremos más que la
+ * tolerancia. Los picos agudos concentran los puntos y las zonas suaves quedan con
+ * la grilla gruesa. Se pueden pasar frecuencias semilla (por ejemplo la resonancia)
+ * para que ningún pico más angosto que la grilla quede sin detectar.
+ */
+public final class AdaptiveSweep {
+
+    /**
+     * Impedancia compleja vista por la fuente a una frecuencia
+     * Complex impedance seen by the source at one frequency
+     */
+    @FunctionalInterface
+    public interface ImpedanceFunction {
+        void evaluate(double frequency, MutableComplex impedance);
+    }
+
+    public static final double DEFAULT_MAGNITUDE_TOLERANCE = 0.1; // dB
+    public static final double DEFAULT_PHASE_TOLERANCE = 1.0;     // grados
+    public static final int MAX_POINTS = 100_000; // presupuesto de refinamiento
+
+    static final int COARSE_POINTS_PER_DECADE = 10;
+    private static final int MIN_DEPTH = 1;   // todo intervalo grueso se parte al menos una vez
+    private static final int MAX_DEPTH = 48;
+
+    private final double magnitudeTolerance;
+    private final double phaseTolerance;
+
+    // Puntos acumulados en orden creciente de frecuencia
+    private double[] f, zRe, zIm;
+    private int count;
+    private final MutableComplex z = new MutableComplex();
+
+    public AdaptiveSweep() {
+        this(DEFAULT_MAGNITUDE_TOLERANCE, DEFAULT_PHASE_TOLERANCE);
+    }
+
+    /**
+     * @param magnitudeTolerance error de interpolación admitido en |Z| (dB)
+     * @param phaseTolerance     error de interpolación admitido en la fase (grados)
+     */
+    public AdaptiveSweep(double magnitudeTolerance, double phaseTolerance) {
+        if (!(magnitudeTolerance > 0) || !(phaseTolerance > 0)) {
+            throw new IllegalArgumentException("Tolerances must be positive");
+        }
+        this.magnitudeTolerance = magnitudeTolerance;
+        this.phaseTolerance = Math.toRadians(phaseTolerance);
+    }
+
+    /**
+     * Impedancia del RLC serie compilado
+     * Impedance of the compiled series RLC
+     */
+    public static ImpedanceFunction of(CompiledCircuit circuit) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        double r = circuit.getResistance();
+        return (frequency, out) -> out.set(r, circuit.reactance(2 * Math.PI * frequency));
+    }
+
+    /**
+     * Impedancia de entrada de un netlist resuelto por análisis nodal
+     * Input impedance of a netlist solved by nodal analysis
+     */
+    public static ImpedanceFunction of(ACNodalSolver solver) {
+        if (solver == null) {
+            throw new IllegalArgumentException("Solver cannot be null");
+        }
+        return solver::inputImpedance;
+    }
+
+    /**
+     * Impedancia de entrada de una función de transferencia compilada
+     * Input impedance of a compiled transfer function
+     */
+    public static ImpedanceFunction of(TransferFunction transferFunction) {
+        if (transferFunction == null) {
+            throw new IllegalArgumentException("Transfer function cannot be null");
+        }
+        return transferFunction::inputImpedance;
+    }
+
+    /**
+     * Ejecuta el barrido; las semillas fuera de [fStart, fStop] se ignoran
+     * Runs the sweep; seeds outside [fStart, fStop] are ignored
+     *
+     * No es seguro llamar a la misma instancia desde varios hilos a la vez.
+     */
+    public FrequencySweepResult run(ImpedanceFunction impedance, double voltage,
+                                    double fStart, double fStop, double... seeds) {
+        if (impedance == null) {
+            throw new IllegalArgumentException("Impedance function cannot be null");
+        }
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (fStart <= 0 || fStop <= fStart) {
+            throw new IllegalArgumentException("Frequency range must be positive and increasing");
+        }
+
+        // Grilla gruesa logarítmica más las semillas, ordenada y sin duplicados
+        int coarse = Math.max(2, (int) Math.ceil(Math.log10(fStop / fStart) * COARSE_POINTS_PER_DECADE) + 1);
+        double[] grid = SweepScale.LOGARITHMIC.samples(fStart, fStop, coarse);
+        if (seeds != null && seeds.length > 0) {
+            double[] merged = Arrays.copyOf(grid, grid.length + seeds.length);
+            int n = grid.length;
+            for (double seed : seeds) {
+                if (seed > fStart && seed < fStop) {
+                    merged[n++] = seed;
+                }
+            }
+            Arrays.sort(merged, 0, n);
+            int unique = 1;
+            for (int k = 1; k < n; k++) {
+                if (merged[k] != merged[unique - 1]) {
+                    merged[unique++] = merged[k];
+                }
+            }
+            grid = Arrays.copyOf(merged, unique);
+        }
+
+        f = new double[Math.min(MAX_POINTS, 8 * grid.length)];
+        zRe = new double[f.length];
+        zIm = new double[f.length];
+        count = 0;
+
+        double[] gridRe = new double[grid.length];
+        double[] gridIm = new double[grid.length];
+        for (int k = 0; k < grid.length; k++) {
+            impedance.evaluate(grid[k], z);
+            gridRe[k] = z.getReal();
+            gridIm[k] = z.getImaginary();
+        }
+
+        for (int k = 0; k < grid.length - 1; k++) {
+            emit(grid[k], gridRe[k], gridIm[k]);
+            refine(impedance, grid[k], gridRe[k], gridIm[k],
+                   grid[k + 1], gridRe[k + 1], gridIm[k + 1], 0);
+        }
+        emit(grid[grid.length - 1], gridRe[grid.length - 1], gridIm[grid.length - 1]);
+
+        return buildResult(voltage);
+    }
+
+    /**
+     * Subdivide [a, b] en orden, emitiendo los puntos interiores
+     * Subdivides [a, b] in order, emitting the interior points
+     */
+    private void refine(ImpedanceFunction impedance, double fa, double aRe, double aIm,
+                        double fb, double bRe, double bIm, int depth) {
+        if (count >= MAX_POINTS || depth >= MAX_DEPTH) {
+            return;
+        }
+        double fm = Math.sqrt(fa * fb);
+        if (!(fm > fa && fm < fb)) {
+            return; // intervalo agotado en doble precisión
+        }
+        impedance.evaluate(fm, z);
+        double mRe = z.getReal();
+        double mIm = z.getImaginary();
+
+        boolean split = depth < MIN_DEPTH;
+        if (!split) {
+            double magA = decibels(aRe, aIm), magB = decibels(bRe, bIm), magM = decibels(mRe, mIm);
+            double phA = Math.atan2(aIm, aRe), phB = Math.atan2(bIm, bRe), phM = Math.atan2(mIm, mRe);
+            // El punto medio en log f es donde la interpolación lineal vale el promedio
+            split = !(Math.abs(magM - 0.5 * (magA + magB)) <= magnitudeTolerance)
+                 || !(Math.abs(phM - 0.5 * (phA + phB)) <= phaseTolerance);
+        }
+
+        if (split) {
+            refine(impedance, fa, aRe, aIm, fm, mRe, mIm, depth + 1);
+            emit(fm, mRe, mIm);
+            refine(impedance, fm, mRe, mIm, fb, bRe, bIm, depth + 1);
+        } else {
+            emit(fm, mRe, mIm);
+        }
+    }
+
+    private static double decibels(double re, double im) {
+        return 10 * Math.log10(re * re + im * im);
+    }
+
+    private void emit(double frequency, double re, double im) {
+        if (count == f.length) {
+            int capacity = 2 * f.length;
+            f = Arrays.copyOf(f, capacity);
+            zRe = Arrays.copyOf(zRe, capacity);
+            zIm = Arrays.copyOf(zIm, capacity);
+        }
+        f[count] = frequency;
+        zRe[count] = re;
+        zIm[count] = im;
+        count++;
+    }
+
+    private FrequencySweepResult buildResult(double voltage) {
+        int n = count;
+        double[] frequencies = Arrays.copyOf(f, n);
+        double[] zMag = new double[n];
+        double[] i = new double[n];
+        double[] phi = new double[n];
+        double[] p = new double[n];
+        double[] q = new double[n];
+        double[] s = new double[n];
+        double[] pf = new double[n];
+        for (int k = 0; k < n; k++) {
+            double r = zRe[k], x = zIm[k];
+            double zk = Math.sqrt(r * r + x * x);
+            double ik = voltage / zk;
+            double sk = voltage * ik;
+            double cos = r / zk;
+            zMag[k] = zk;
+            i[k] = ik;
+            phi[k] = Math.atan2(x, r);
+            p[k] = sk * cos;
+            q[k] = sk * (x / zk);
+            s[k] = sk;
+            pf[k] = cos;
+        }
+        f = zRe = zIm = null;
+        return new FrequencySweepResult(voltage, frequencies, zMag, i, phi, p, q, s, pf);
+    }
+}
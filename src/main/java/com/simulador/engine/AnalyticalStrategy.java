@@ -1,8 +1,7 @@
 package com.simulador.engine;
 
-import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
 import com.simulador.model.SimulationResult;
-import java.util.List;
 
 /**
  * Estrategia de cálculo analítico para circuitos RLC
@@ -21,11 +20,11 @@ public class AnalyticalStrategy implements SimulationStrategy {
     }
     
     @Override
-    public SimulationResult calculate(List<CircuitComponent> components, 
+    public SimulationResult calculate(CompiledCircuit circuit,
                                      double voltage, double frequency) {
         // Validaciones
-        if (components == null || components.isEmpty()) {
-            throw new IllegalArgumentException("Component list cannot be null or empty");
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
         }
         if (voltage <= 0) {
             throw new IllegalArgumentException("Voltage must be positive");
@@ -35,23 +34,10 @@ public class AnalyticalStrategy implements SimulationStrategy {
         }
         
         try {
-            // Calcular valores totales de componentes
-            double totalR = 0, totalL = 0, totalC = 0;
-            
-            for (CircuitComponent comp : components) {
-                totalR += comp.getResistance();
-                totalL += comp.getInductance();
-                totalC += comp.getCapacitance();
-            }
-            
-            // Evitar división por cero
-            if (totalC <= 0) totalC = 1e-12;
-            
-            // Cálculos de impedancia
+            // Cálculos de impedancia (un capacitor ausente es un cortocircuito)
             double w = 2 * Math.PI * frequency;
-            double XL = w * totalL;
-            double XC = 1.0 / (w * totalC);
-            double X = XL - XC;
+            double totalR = circuit.getResistance();
+            double X = circuit.reactance(w);
             double Z = Math.sqrt(totalR * totalR + X * X);
             
             // Validar impedancia
@@ -84,10 +70,8 @@ public class AnalyticalStrategy implements SimulationStrategy {
     }
     
     @Override
-    public boolean isValidFor(List<CircuitComponent> components) {
-        if (components == null || components.isEmpty()) return false;
-        
+    public boolean isValidFor(CompiledCircuit circuit) {
         // El método analítico es válido para cualquier configuración RLC
-        return true;
+        return circuit != null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.MethodSelection;
+import com.simulador.model.SimulationResult;
+
+/**
+ * Estrategia que elige el método más barato que cumple la tolerancia pedida
+ * Strategy that picks the cheapest method meeting the requested tolerance
+ *
+ * Para el régimen permanente la forma cerrada es exacta y cuesta una evaluación. Si se
+ * necesita la respuesta en el tiempo, cada integrador estima a priori su costo y su
+ * error a partir de la rigidez (radio espectral de A frente a ω) y del amortiguamiento:
+ * Runge-Kutta 4 y Dormand-Prince ganan en circuitos suaves, y el trapecio cuando la
+ * estabilidad obligaría a los explícitos a usar pasos diminutos. Si ningún método
+ * alcanza la tolerancia se usa el de menor error estimado. La elección queda registrada
+ * en {@link SimulationResult#getMethodSelection()}.
+ */
+public class AutoStrategy implements SimulationStrategy {
+
+    /**
+     * Qué necesita el llamador del resultado
+     * What the caller needs from the result
+     */
+    public enum Goal {
+        STEADY_STATE("Régimen permanente"),
+        TRANSIENT("Transitorio");
+
+        private final String displayName;
+
+        Goal(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    public static final double DEFAULT_TOLERANCE = 1e-4;
+
+    // Dormand-Prince recibe la mitad: su error global medido llega a ~1.5 veces la tolerancia
+    private static final double ADAPTIVE_SAFETY = 0.5;
+
+    private final Goal goal;
+    private final double tolerance;
+    private final int sampleCount;
+
+    public AutoStrategy() {
+        this(Goal.STEADY_STATE, DEFAULT_TOLERANCE);
+    }
+
+    public AutoStrategy(Goal goal, double tolerance) {
+        this(goal, tolerance, TransientStrategy.DEFAULT_SAMPLE_COUNT);
+    }
+
+    /**
+     * @param tolerance   error relativo admitido en el fasor de corriente
+     * @param sampleCount muestras de los métodos en el tiempo (0 = sólo cifras)
+     */
+    public AutoStrategy(Goal goal, double tolerance, int sampleCount) {
+        if (goal == null) {
+            throw new IllegalArgumentException("Goal cannot be null");
+        }
+        if (!(tolerance > 0) || tolerance >= 1) {
+            throw new IllegalArgumentException("Tolerance must be between 0 and 1");
+        }
+        if (sampleCount != 0 && sampleCount < 2) {
+            throw new IllegalArgumentException("Sample count must be 0 or at least 2");
+        }
+        this.goal = goal;
+        this.tolerance = tolerance;
+        this.sampleCount = sampleCount;
+    }
+
+    // Getters
+    public Goal getGoal() { return goal; }
+    public double getTolerance() { return tolerance; }
+    public int getSampleCount() { return sampleCount; }
+
+    @Override
+    public String getName() {
+        return goal == Goal.STEADY_STATE && tolerance == DEFAULT_TOLERANCE
+            ? "Auto"
+            : String.format("Auto (%s, %.1e)", goal.getDisplayName(), tolerance);
+    }
+
+    @Override
+    public String getConfigurationKey() {
+        // El nombre redondea la tolerancia; la clave la guarda exacta
+        return "Auto|" + goal + "|tolerance=" + tolerance + "|samples=" + sampleCount;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Elige el método más barato que cumple la tolerancia según rigidez y amortiguamiento";
+    }
+
+    @Override
+    public SimulationResult calculate(CompiledCircuit circuit, double voltage, double frequency) {
+        Choice choice = choose(circuit, frequency);
+        return choice.strategy.calculate(circuit, voltage, frequency)
+                              .withMethodSelection(choice.selection);
+    }
+
+    /**
+     * Elige el método sin ejecutarlo
+     * Chooses the method without running it
+     */
+    public MethodSelection select(CompiledCircuit circuit, double frequency) {
+        return choose(circuit, frequency).selection;
+    }
+
+    @Override
+    public boolean isValidFor(CompiledCircuit circuit) {
+        if (circuit == null) {
+            return false;
+        }
+        return goal == Goal.STEADY_STATE || circuit.hasResistance() || circuit.hasInductance();
+    }
+
+    private Choice choose(CompiledCircuit circuit, double frequency) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+
+        double omega = 2 * Math.PI * frequency;
+        boolean dynamic = circuit.hasResistance() || circuit.hasInductance();
+        double stiffness = dynamic ? RLCStateSpace.of(circuit).spectralRadius() / omega : Double.NaN;
+        double damping = Double.NaN;
+        if (circuit.hasInductance() && circuit.getInverseCapacitance() > 0) {
+            damping = circuit.getResistance()
+                / (2 * Math.sqrt(circuit.getInductance() * circuit.getInverseCapacitance()));
+        }
+
+        if (goal == Goal.STEADY_STATE) {
+            SimulationStrategy closedForm = new AnalyticalStrategy();
+            return new Choice(closedForm, new MethodSelection(
+                closedForm.getName(), 1, 0, tolerance, stiffness, damping));
+        }
+        if (!dynamic) {
+            throw new IllegalArgumentException("Circuit needs resistance or inductance for time-domain analysis");
+        }
+
+        TransientStrategy[] candidates = {
+            new ImplicitStrategy(ImplicitStrategy.Method.TRAPEZOIDAL, sampleCount),
+            new RungeKutta4Strategy(sampleCount),
+            new DormandPrinceStrategy(ADAPTIVE_SAFETY * tolerance, sampleCount),
+            new ImplicitStrategy(ImplicitStrategy.Method.BACKWARD_EULER, sampleCount)
+        };
+
+        // El más barato que cumple; si ninguno cumple, el de menor error
+        TransientStrategy best = null;
+        TransientStrategy.Estimate bestEstimate = null;
+        boolean bestMeets = false;
+        for (TransientStrategy candidate : candidates) {
+            TransientStrategy.Estimate estimate = candidate.estimate(circuit, frequency);
+            boolean meets = estimate.error <= tolerance;
+            boolean better;
+            if (best == null) {
+                better = true;
+            } else if (meets != bestMeets) {
+                better = meets;
+            } else if (meets) {
+                better = estimate.evaluations < bestEstimate.evaluations;
+            } else {
+                better = estimate.error < bestEstimate.error;
+            }
+            if (better) {
+                best = candidate;
+                bestEstimate = estimate;
+                bestMeets = meets;
+            }
+        }
+
+        return new Choice(best, new MethodSelection(best.getName(), bestEstimate.evaluations,
+                                                    bestEstimate.error, tolerance, stiffness, damping));
+    }
+
+    private static final class Choice {
+        final SimulationStrategy strategy;
+        final MethodSelection selection;
+
+        Choice(SimulationStrategy strategy, MethodSelection selection) {
+            this.strategy = strategy;
+            this.selection = selection;
+        }
+    }
+}
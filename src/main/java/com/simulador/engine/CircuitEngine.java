@@ -1,24 +1,87 @@
 package com.simulador.engine;
 
+import com.simulador.model.ACNetlist;
 import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.FrequencySweepResult;
+import com.simulador.model.HarmonicResult;
+import com.simulador.model.PeriodicSource;
 import com.simulador.model.SimulationResult;
 import com.simulador.utils.SimulationObserver;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Motor principal de simulación de circuitos RLC
  * Main RLC circuit simulation engine
  */
 public class CircuitEngine {
+    // Pool compartido por todos los motores; cada motor encola a lo sumo una tarea a la vez
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    // Funciones de transferencia compiladas, compartidas por todos los motores (LRU)
+    private static final int TRANSFER_FUNCTION_CAPACITY = 64;
+
+    /**
+     * Orden reactivo máximo con el que {@link #sweep(ACNetlist, double, double, double, int, SweepScale)}
+     * usa la función de transferencia; por encima barre con el solver nodal
+     * Highest reactive order swept through the transfer function; above it the nodal solver is used
+     */
+    public static final int MAX_TRANSFER_FUNCTION_SWEEP_ORDER = 12;
+    private static final Map<TransferFunction.Key, TransferFunction> TRANSFER_FUNCTIONS =
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TransferFunction.Key, TransferFunction> eldest) {
+                return size() > TRANSFER_FUNCTION_CAPACITY;
+            }
+        };
+
     private final List<SimulationObserver> observers;
-    private SimulationStrategy strategy;
-    private boolean isSimulating;
+    private final ResultCache cache;
+    private final AtomicReference<Request> pending;
+    private final AtomicBoolean draining;
+    private final AtomicLong latestRequest;
+    private final AtomicLong coalescedRequests;
+    private volatile SimulationStrategy strategy;
 
     public CircuitEngine() {
+        this(ResultCache.DEFAULT_CAPACITY);
+    }
+
+    public CircuitEngine(int cacheCapacity) {
         this.observers = new CopyOnWriteArrayList<>();
+        this.cache = new ResultCache(cacheCapacity);
+        this.pending = new AtomicReference<>();
+        this.draining = new AtomicBoolean(false);
+        this.latestRequest = new AtomicLong();
+        this.coalescedRequests = new AtomicLong();
         this.strategy = new AnalyticalStrategy(); // Estrategia por defecto
-        this.isSimulating = false;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "circuit-engine-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     public void setStrategy(SimulationStrategy strategy) {
@@ -32,6 +95,18 @@ public class CircuitEngine {
         return strategy;
     }
 
+    /**
+     * Deja que el motor elija el método según el objetivo y la tolerancia
+     * Lets the engine pick the method from the goal and the tolerance
+     */
+    public void setAutoMode(AutoStrategy.Goal goal, double tolerance) {
+        setStrategy(new AutoStrategy(goal, tolerance));
+    }
+
+    public boolean isAutoMode() {
+        return strategy instanceof AutoStrategy;
+    }
+
     public void addObserver(SimulationObserver observer) {
         if (observer != null && !observers.contains(observer)) {
             observers.add(observer);
@@ -43,20 +118,34 @@ public class CircuitEngine {
     }
 
     public boolean isSimulating() {
-        return isSimulating;
+        return draining.get();
+    }
+
+    /**
+     * Número de solicitudes reemplazadas por una más reciente antes de publicar su resultado
+     * Number of requests superseded by a newer one before their result was published
+     */
+    public long getCoalescedRequestCount() {
+        return coalescedRequests.get();
+    }
+
+    /**
+     * Caché de resultados (capacidad configurable y contadores de aciertos/fallos/desalojos)
+     * Result cache (configurable capacity and hit/miss/eviction counters)
+     */
+    public ResultCache getResultCache() {
+        return cache;
     }
 
     /**
      * Ejecuta la simulación del circuito
      * Executes circuit simulation
+     *
+     * Si llega una solicitud mientras otra espera o se calcula, gana la más reciente:
+     * la pendiente se descarta y el resultado de la que está en curso no se publica.
      */
     public void simulate(List<CircuitComponent> components,
             double voltage, double frequency) {
-        if (isSimulating) {
-            notifyError("Simulation already in progress");
-            return;
-        }
-
         // Validaciones básicas
         if (components == null || components.isEmpty()) {
             notifyError("No components in circuit");
@@ -73,47 +162,176 @@ public class CircuitEngine {
             return;
         }
 
-        if (!strategy.isValidFor(components)) {
+        // Se compila una sola vez; la estrategia evalúa sobre los totales
+        CompiledCircuit circuit = CompiledCircuit.compile(components);
+        SimulationStrategy strategy = this.strategy;
+
+        if (!strategy.isValidFor(circuit)) {
             notifyError("Selected method is not valid for this circuit configuration");
             return;
         }
 
-        isSimulating = true;
+        // Un acierto en caché se entrega en el hilo llamador, sin usar el pool
+        ResultCache.Key key = ResultCache.Key.of(components, voltage, frequency, strategy.getConfigurationKey());
+        long sequence = latestRequest.incrementAndGet();
+        SimulationResult cached = cache.get(key);
+        if (cached != null) {
+            if (pending.getAndSet(null) != null) {
+                coalescedRequests.incrementAndGet();
+            }
+            notifyStart();
+            notifyComplete(cached);
+            return;
+        }
+
+        Request request = new Request(sequence, strategy, circuit, key, voltage, frequency);
+        if (pending.getAndSet(request) != null) {
+            coalescedRequests.incrementAndGet();
+        }
         notifyStart(); // <-- AÑADIR esta línea
 
-        // Ejecutar en hilo separado para no bloquear la UI
-        new Thread(() -> {
-            try {
-                SimulationResult result = strategy.calculate(components, voltage, frequency);
+        if (draining.compareAndSet(false, true)) {
+            EXECUTOR.execute(this::drain);
+        }
+    }
+
+    /**
+     * Atiende solicitudes pendientes hasta vaciar la ranura; corre en el pool compartido
+     * Serves pending requests until the slot is empty; runs on the shared pool
+     */
+    private void drain() {
+        try {
+            Request request;
+            while ((request = pending.getAndSet(null)) != null) {
+                run(request);
+            }
+        } finally {
+            draining.set(false);
+        }
+        // Una solicitud pudo llegar entre el último getAndSet y la liberación
+        if (pending.get() != null && draining.compareAndSet(false, true)) {
+            EXECUTOR.execute(this::drain);
+        }
+    }
+
+    private void run(Request request) {
+        try {
+            SimulationResult result = request.strategy.calculate(
+                request.circuit, request.voltage, request.frequency);
 
-                if (result != null && result.isValid()) {
+            if (result != null && result.isValid()) {
+                cache.put(request.key, result);
+                if (isLatest(request)) {
                     notifyComplete(result);
-                } else {
-                    notifyError("Invalid simulation results");
                 }
+            } else if (isLatest(request)) {
+                notifyError("Invalid simulation results");
+            }
 
-            } catch (IllegalArgumentException e) {
-                notifyError("Invalid input parameters: " + e.getMessage());
-            } catch (ArithmeticException e) {
-                notifyError("Mathematical error: " + e.getMessage());
-            } catch (Exception e) {
-                notifyError("Simulation error: " + e.getMessage());
-                e.printStackTrace();
-            } finally {
-                isSimulating = false;
+        } catch (IllegalArgumentException e) {
+            if (isLatest(request)) notifyError("Invalid input parameters: " + e.getMessage());
+        } catch (ArithmeticException e) {
+            if (isLatest(request)) notifyError("Mathematical error: " + e.getMessage());
+        } catch (Exception e) {
+            if (isLatest(request)) notifyError("Simulation error: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private boolean isLatest(Request request) {
+        if (request.sequence == latestRequest.get()) {
+            return true;
+        }
+        coalescedRequests.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Simula un lote de escenarios en paralelo sobre el pool ForkJoin común (robo de trabajo)
+     * Simulates a batch of scenarios in parallel on the common ForkJoin pool (work stealing)
+     *
+     * Cada resultado se entrega a los observadores apenas termina, como un
+     * {@link ScenarioResult} con el índice del escenario. Un escenario que falla se
+     * informa con su índice y no detiene el lote. El futuro se completa al terminar todos.
+     */
+    public CompletableFuture<Void> simulateBatch(List<Scenario> scenarios) {
+        if (scenarios == null) {
+            throw new IllegalArgumentException("Scenario list cannot be null");
+        }
+        if (scenarios.contains(null)) {
+            throw new IllegalArgumentException("Scenario list cannot contain null elements");
+        }
+        List<Scenario> batch = List.copyOf(scenarios);
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(
+            () -> new BatchBlock(batch, 0, batch.size()).invoke(), ForkJoinPool.commonPool());
+    }
+
+    private void runScenario(int index, Scenario scenario) {
+        String prefix = "Scenario " + index + ": ";
+        try {
+            SimulationStrategy strategy = scenario.getStrategy();
+            CompiledCircuit circuit = CompiledCircuit.compile(scenario.getComponents());
+            if (!strategy.isValidFor(circuit)) {
+                notifyError(prefix + "Selected method is not valid for this circuit configuration");
+                return;
+            }
+
+            SimulationResult result = strategy.calculate(
+                circuit, scenario.getVoltage(), scenario.getFrequency());
+            if (result != null && result.isValid()) {
+                notifyComplete(new ScenarioResult(index, scenario, result));
+            } else {
+                notifyError(prefix + "Invalid simulation results");
             }
-        }).start();
+
+        } catch (IllegalArgumentException e) {
+            notifyError(prefix + "Invalid input parameters: " + e.getMessage());
+        } catch (ArithmeticException e) {
+            notifyError(prefix + "Mathematical error: " + e.getMessage());
+        } catch (Exception e) {
+            notifyError(prefix + "Simulation error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rango de escenarios de un lote; se divide hasta un escenario por tarea porque
+     * el costo varía mucho entre estrategias
+     * Range of scenarios in a batch; split down to one scenario per task because
+     * the cost varies widely between strategies
+     */
+    private final class BatchBlock extends RecursiveAction {
+        private final List<Scenario> batch;
+        private final int from;
+        private final int to;
+
+        BatchBlock(List<Scenario> batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                runScenario(from, batch.get(from));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BatchBlock(batch, from, mid), new BatchBlock(batch, mid, to));
+        }
     }
 
     // AÑADIR este método en CircuitEngine:
     private void notifyStart() {
         for (SimulationObserver observer : observers) {
             try {
-                // Usar reflexión para mantener compatibilidad
-                observer.getClass().getMethod("onSimulationStart").invoke(observer);
+                // onSimulationStart es un método por defecto de la interfaz
+                observer.onSimulationStart();
             } catch (Exception e) {
-                // Si el método no existe, continuar sin error
-                System.out.println("Observer doesn't implement onSimulationStart: " + e.getMessage());
+                System.err.println("Error notifying observer: " + e.getMessage());
             }
         }
     }
@@ -126,10 +344,179 @@ public class CircuitEngine {
         return new SimulationStrategy[] {
                 new AnalyticalStrategy(),
                 new EulerStrategy(),
-                new RungeKutta4Strategy()
+                new RungeKutta4Strategy(),
+                new DormandPrinceStrategy(),
+                new ImplicitStrategy(),
+                new NodalAnalysisStrategy(),
+                new AutoStrategy()
         };
     }
 
+    /**
+     * Barrido de Bode adaptativo con las tolerancias por defecto (0.1 dB, 1°)
+     * Adaptive Bode sweep with the default tolerances (0.1 dB, 1°)
+     *
+     * La resonancia y los bordes de su banda se agregan como semillas, así que un
+     * pico de Q alto se resuelve aunque sea más angosto que la grilla gruesa.
+     */
+    public static FrequencySweepResult adaptiveSweep(CompiledCircuit circuit, double voltage,
+                                                     double fStart, double fStop) {
+        return adaptiveSweep(circuit, voltage, fStart, fStop, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Barrido adaptativo para un eje de frecuencia lineal
+     * Adaptive sweep for a linear frequency axis
+     *
+     * La tolerancia se mide en log f, así que en un eje lineal la última década queda
+     * con pocos puntos muy separados. Aquí además se siembra una frecuencia cada
+     * {@code maxStep} Hz, lo que acota el ancho de cada cuerda en el eje lineal.
+     * The tolerance is checked in log f; seeding every maxStep Hz bounds each chord's
+     * width on a linear axis.
+     */
+    public static FrequencySweepResult adaptiveSweep(CompiledCircuit circuit, double voltage,
+                                                     double fStart, double fStop, double maxStep) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (!(maxStep > 0)) {
+            throw new IllegalArgumentException("Maximum step must be positive");
+        }
+        int linear = Double.isInfinite(maxStep) ? 0
+            : (int) Math.min(AdaptiveSweep.MAX_POINTS, Math.ceil((fStop - fStart) / maxStep) - 1);
+        int resonance = circuit.hasResonance() ? 3 : 0;
+        double[] seeds = new double[Math.max(0, linear) + resonance];
+        for (int k = 0; k < linear; k++) {
+            seeds[k] = fStart + (k + 1) * (fStop - fStart) / (linear + 1);
+        }
+        if (resonance > 0) {
+            double f0 = circuit.getResonantFrequency();
+            double halfBand = circuit.getBandwidth() / 2;
+            seeds[seeds.length - 3] = f0;
+            seeds[seeds.length - 2] = f0 - halfBand;
+            seeds[seeds.length - 1] = f0 + halfBand;
+        }
+        return new AdaptiveSweep().run(AdaptiveSweep.of(circuit), voltage, fStart, fStop, seeds);
+    }
+
+    /**
+     * Barrido en frecuencia en régimen permanente; devuelve una columna por magnitud
+     * Steady-state frequency sweep; returns one column per quantity
+     *
+     * Un capacitor ausente se trata como cortocircuito. Los barridos de
+     * 100.000 puntos o más se reparten entre los núcleos disponibles.
+     */
+    public static FrequencySweepResult sweep(List<CircuitComponent> components, double voltage,
+                                             double fStart, double fStop, int points,
+                                             SweepScale scale) {
+        return sweep(CompiledCircuit.compile(components), voltage, fStart, fStop, points, scale);
+    }
+
+    /**
+     * Barrido en frecuencia sobre un circuito ya compilado
+     * Frequency sweep over an already compiled circuit
+     */
+    public static FrequencySweepResult sweep(CompiledCircuit circuit, double voltage,
+                                             double fStart, double fStop, int points,
+                                             SweepScale scale) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (fStart <= 0 || fStop <= fStart) {
+            throw new IllegalArgumentException("Frequency range must satisfy 0 < fStart < fStop");
+        }
+        if (points < 2) {
+            throw new IllegalArgumentException("A sweep needs at least 2 points");
+        }
+        if (scale == null) {
+            throw new IllegalArgumentException("Sweep scale cannot be null");
+        }
+
+        return FrequencySweep.run(circuit.getResistance(), circuit.getInductance(),
+                                  circuit.getInverseCapacitance(), voltage,
+                                  fStart, fStop, points, scale);
+    }
+
+    /**
+     * Función de transferencia compilada del netlist, reutilizada mientras no cambie
+     * Compiled transfer function of the netlist, reused while it does not change
+     *
+     * La derivación se hace una vez por netlist (mismos elementos, nodos, valores y
+     * fuente); las siguientes llamadas devuelven la misma instancia inmutable.
+     */
+    public static TransferFunction transferFunction(ACNetlist netlist) {
+        if (netlist == null) {
+            throw new IllegalArgumentException("Netlist cannot be null");
+        }
+        TransferFunction.Key key = TransferFunction.Key.of(netlist);
+        synchronized (TRANSFER_FUNCTIONS) {
+            TransferFunction cached = TRANSFER_FUNCTIONS.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Se compila fuera del candado; si dos hilos compilan a la vez, gana el primero
+        TransferFunction compiled = TransferFunction.of(netlist);
+        synchronized (TRANSFER_FUNCTIONS) {
+            TransferFunction previous = TRANSFER_FUNCTIONS.putIfAbsent(key, compiled);
+            return previous != null ? previous : compiled;
+        }
+    }
+
+    /**
+     * Barrido en frecuencia de un netlist
+     * Frequency sweep of a netlist
+     *
+     * Hasta {@link #MAX_TRANSFER_FUNCTION_SWEEP_ORDER} elementos reactivos se evalúa la
+     * función de transferencia compilada, que cuesta O(orden) por punto. Por encima, los
+     * coeficientes del cociente de polinomios pierden dígitos cerca de los bordes de banda
+     * (y no existen pasado {@link TransferFunction#MAX_ORDER}), así que cada punto se
+     * resuelve con {@link ACNodalSolver}.
+     * Up to MAX_TRANSFER_FUNCTION_SWEEP_ORDER reactive elements the compiled transfer
+     * function is used; higher orders are solved point by point with the nodal solver.
+     */
+    public static FrequencySweepResult sweep(ACNetlist netlist, double voltage,
+                                             double fStart, double fStop, int points,
+                                             SweepScale scale) {
+        if (netlist == null) {
+            throw new IllegalArgumentException("Netlist cannot be null");
+        }
+        if (reactiveOrder(netlist) > MAX_TRANSFER_FUNCTION_SWEEP_ORDER) {
+            return new ACNodalSolver(netlist).sweep(voltage, fStart, fStop, points, scale);
+        }
+        return transferFunction(netlist).sweep(voltage, fStart, fStop, points, scale);
+    }
+
+    private static int reactiveOrder(ACNetlist netlist) {
+        int order = 0;
+        for (ACNetlist.Element e : netlist.getElements()) {
+            if (!"Resistance".equals(e.getType())) {
+                order++;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Análisis armónico de una fuente periódica (cuadrada, triangular, etc.)
+     * Harmonic analysis of a periodic source (square, triangle, etc.)
+     *
+     * Para analizar varias formas de onda con la misma fundamental conviene reutilizar
+     * un {@link HarmonicAnalyzer}.
+     */
+    public static HarmonicResult analyzeHarmonics(List<CircuitComponent> components,
+                                                  PeriodicSource source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        HarmonicAnalyzer analyzer = new HarmonicAnalyzer(CompiledCircuit.compile(components),
+            source.getFundamentalFrequency(), source.getHarmonicCount());
+        return analyzer.analyze(source);
+    }
+
     private void notifyComplete(SimulationResult result) {
         for (SimulationObserver observer : observers) {
             try {
@@ -141,7 +528,6 @@ public class CircuitEngine {
     }
 
     private void notifyError(String error) {
-        isSimulating = false;
         for (SimulationObserver observer : observers) {
             try {
                 observer.onSimulationError(error);
@@ -160,6 +546,31 @@ public class CircuitEngine {
             observers.clear();
         }
         strategy = null;
-        isSimulating = false;
+        pending.set(null);
+        latestRequest.incrementAndGet(); // descarta el resultado en curso
+        cache.clear();
+    }
+
+    /**
+     * Solicitud de simulación ya validada y compilada
+     * Validated, compiled simulation request
+     */
+    private static final class Request {
+        final long sequence;
+        final SimulationStrategy strategy;
+        final CompiledCircuit circuit;
+        final ResultCache.Key key;
+        final double voltage;
+        final double frequency;
+
+        Request(long sequence, SimulationStrategy strategy, CompiledCircuit circuit,
+                ResultCache.Key key, double voltage, double frequency) {
+            this.sequence = sequence;
+            this.strategy = strategy;
+            this.circuit = circuit;
+            this.key = key;
+            this.voltage = voltage;
+            this.frequency = frequency;
+        }
     }
 }
\ No newline at end of file
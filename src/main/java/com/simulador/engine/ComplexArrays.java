@@ -0,0 +1,193 @@
+package com.simulador.engine;
+
+import java.util.Arrays;
+
+/**
+ * Operaciones complejas por lotes sobre arreglos separados de parte real e imaginaria
+ * Batched complex operations over split real/imaginary arrays
+ *
+ * Cada punto k de un barrido es el complejo (re[k], im[k]). Las salidas pueden ser los
+ * mismos arreglos de entrada (operación en sitio) y ningún método reserva memoria por punto.
+ * A diferencia de {@link MutableComplex}, los puntos singulares (división por cero,
+ * tanque LC ideal en resonancia) no lanzan excepción: quedan como NaN para no cortar
+ * el barrido.
+ */
+public final class ComplexArrays {
+
+    private ComplexArrays() {
+    }
+
+    /**
+     * Impedancia de una resistencia: R + 0j en todos los puntos
+     * Resistor impedance: R + 0j at every point
+     */
+    public static void resistor(double resistance, double[] outRe, double[] outIm) {
+        checkLength(outRe, outIm);
+        Arrays.fill(outRe, resistance);
+        Arrays.fill(outIm, 0);
+    }
+
+    /**
+     * Impedancia de un inductor: jωL
+     * Inductor impedance: jωL
+     */
+    public static void inductor(double inductance, double[] omega, double[] outRe, double[] outIm) {
+        checkLength(omega, outRe, outIm);
+        for (int k = 0; k < omega.length; k++) {
+            outRe[k] = 0;
+            outIm[k] = omega[k] * inductance;
+        }
+    }
+
+    /**
+     * Impedancia de un capacitor: -j/(ωC), con 1/C = 0 como cortocircuito
+     * Capacitor impedance: -j/(ωC), with 1/C = 0 meaning a short circuit
+     */
+    public static void capacitor(double inverseCapacitance, double[] omega,
+                                 double[] outRe, double[] outIm) {
+        checkLength(omega, outRe, outIm);
+        for (int k = 0; k < omega.length; k++) {
+            outRe[k] = 0;
+            outIm[k] = -inverseCapacitance / omega[k];
+        }
+    }
+
+    public static void add(double[] aRe, double[] aIm, double[] bRe, double[] bIm,
+                           double[] outRe, double[] outIm) {
+        checkLength(aRe, aIm, bRe, bIm, outRe, outIm);
+        for (int k = 0; k < aRe.length; k++) {
+            outRe[k] = aRe[k] + bRe[k];
+            outIm[k] = aIm[k] + bIm[k];
+        }
+    }
+
+    public static void multiply(double[] aRe, double[] aIm, double[] bRe, double[] bIm,
+                                double[] outRe, double[] outIm) {
+        checkLength(aRe, aIm, bRe, bIm, outRe, outIm);
+        for (int k = 0; k < aRe.length; k++) {
+            double ar = aRe[k], ai = aIm[k], br = bRe[k], bi = bIm[k];
+            outRe[k] = ar * br - ai * bi;
+            outIm[k] = ar * bi + ai * br;
+        }
+    }
+
+    /**
+     * Multiplica cada punto por un escalar complejo (por ejemplo, el fasor de la fuente)
+     * Multiplies every point by a complex scalar (e.g. the source phasor)
+     */
+    public static void multiply(double[] re, double[] im, double scalarRe, double scalarIm,
+                                double[] outRe, double[] outIm) {
+        checkLength(re, im, outRe, outIm);
+        for (int k = 0; k < re.length; k++) {
+            double ar = re[k], ai = im[k];
+            outRe[k] = ar * scalarRe - ai * scalarIm;
+            outIm[k] = ar * scalarIm + ai * scalarRe;
+        }
+    }
+
+    /**
+     * División punto a punto por el algoritmo de Smith
+     * Element-wise division with Smith's algorithm
+     */
+    public static void divide(double[] aRe, double[] aIm, double[] bRe, double[] bIm,
+                              double[] outRe, double[] outIm) {
+        checkLength(aRe, aIm, bRe, bIm, outRe, outIm);
+        for (int k = 0; k < aRe.length; k++) {
+            double ar = aRe[k], ai = aIm[k], br = bRe[k], bi = bIm[k];
+            if (br == 0 && bi == 0) {
+                outRe[k] = Double.NaN;
+                outIm[k] = Double.NaN;
+            } else if (Math.abs(br) >= Math.abs(bi)) {
+                double ratio = bi / br;
+                double denominator = br + bi * ratio;
+                outRe[k] = (ar + ai * ratio) / denominator;
+                outIm[k] = (ai - ar * ratio) / denominator;
+            } else {
+                double ratio = br / bi;
+                double denominator = br * ratio + bi;
+                outRe[k] = (ar * ratio + ai) / denominator;
+                outIm[k] = (ai * ratio - ar) / denominator;
+            }
+        }
+    }
+
+    public static void reciprocal(double[] re, double[] im, double[] outRe, double[] outIm) {
+        checkLength(re, im, outRe, outIm);
+        for (int k = 0; k < re.length; k++) {
+            double r = re[k], i = im[k];
+            if (r == 0 && i == 0) {
+                outRe[k] = Double.NaN;
+                outIm[k] = Double.NaN;
+            } else if (Math.abs(r) >= Math.abs(i)) {
+                double ratio = i / r;
+                double denominator = r + i * ratio;
+                outRe[k] = 1 / denominator;
+                outIm[k] = -ratio / denominator;
+            } else {
+                double ratio = r / i;
+                double denominator = r * ratio + i;
+                outRe[k] = ratio / denominator;
+                outIm[k] = -1 / denominator;
+            }
+        }
+    }
+
+    /**
+     * Combinación en paralelo punto a punto: a·b / (a + b)
+     * Element-wise parallel combination: a·b / (a + b)
+     */
+    public static void parallel(double[] aRe, double[] aIm, double[] bRe, double[] bIm,
+                                double[] outRe, double[] outIm) {
+        checkLength(aRe, aIm, bRe, bIm, outRe, outIm);
+        for (int k = 0; k < aRe.length; k++) {
+            double ar = aRe[k], ai = aIm[k], br = bRe[k], bi = bIm[k];
+            if ((ar == 0 && ai == 0) || (br == 0 && bi == 0)) {
+                outRe[k] = 0;
+                outIm[k] = 0;
+                continue;
+            }
+            double nr = ar * br - ai * bi;
+            double ni = ar * bi + ai * br;
+            double dr = ar + br;
+            double di = ai + bi;
+            if (dr == 0 && di == 0) {
+                outRe[k] = Double.NaN;
+                outIm[k] = Double.NaN;
+            } else if (Math.abs(dr) >= Math.abs(di)) {
+                double ratio = di / dr;
+                double denominator = dr + di * ratio;
+                outRe[k] = (nr + ni * ratio) / denominator;
+                outIm[k] = (ni - nr * ratio) / denominator;
+            } else {
+                double ratio = dr / di;
+                double denominator = dr * ratio + di;
+                outRe[k] = (nr * ratio + ni) / denominator;
+                outIm[k] = (ni * ratio - nr) / denominator;
+            }
+        }
+    }
+
+    public static void abs(double[] re, double[] im, double[] out) {
+        checkLength(re, im, out);
+        for (int k = 0; k < re.length; k++) {
+            double r = re[k], i = im[k];
+            out[k] = Math.sqrt(r * r + i * i);
+        }
+    }
+
+    public static void arg(double[] re, double[] im, double[] out) {
+        checkLength(re, im, out);
+        for (int k = 0; k < re.length; k++) {
+            out[k] = Math.atan2(im[k], re[k]);
+        }
+    }
+
+    private static void checkLength(double[]... arrays) {
+        int length = arrays[0].length;
+        for (double[] array : arrays) {
+            if (array.length != length) {
+                throw new IllegalArgumentException("Complex arrays must have the same length");
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.simulador.engine;
+
+/**
+ * Estrategia de cálculo con Runge-Kutta embebido de Dormand-Prince 4(5) y paso adaptativo
+ * Calculation strategy using the embedded Dormand-Prince 4(5) Runge-Kutta with adaptive steps
+ *
+ * El error local se estima con la diferencia entre las soluciones de 4to y 5to orden;
+ * el paso crece donde la respuesta es suave y se reduce en el transitorio y en las
+ * oscilaciones de resonancia. La ventana de medición final se recorre con paso uniforme
+ * para que la proyección sobre la fundamental sea exacta.
+ */
+public class DormandPrinceStrategy extends TransientStrategy {
+
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+
+    private static final int MIN_STEPS_PER_CYCLE = 4; // la fuente limita el paso máximo
+    private static final double STABILITY_LIMIT = 2.5; // h·|λ| máximo en la ventana uniforme
+    private static final double STABILITY_BOUNDARY = 3.3; // h·|λ| donde DP5 deja de ser estable
+    private static final double ACCURACY_FACTOR = 10; // h·ω ≈ 10·tol^(1/5), medido en los presets
+    private static final double SAFETY = 0.9;
+    private static final double MIN_SCALE = 0.2;
+    private static final double MAX_SCALE = 5.0;
+
+    // Tablero de Butcher de Dormand-Prince
+    private static final double C2 = 1.0 / 5, C3 = 3.0 / 10, C4 = 4.0 / 5, C5 = 8.0 / 9;
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187,
+                                A53 = 64448.0 / 6561, A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247,
+                                A64 = 49.0 / 176, A65 = -5103.0 / 18656;
+    private static final double B1 = 35.0 / 384, B3 = 500.0 / 1113, B4 = 125.0 / 192,
+                                B5 = -2187.0 / 6784, B6 = 11.0 / 84;
+    // Diferencia entre los pesos de 5to y 4to orden
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920,
+                                E5 = -17253.0 / 339200, E6 = 22.0 / 525, E7 = -1.0 / 40;
+
+    private final double tolerance;
+
+    public DormandPrinceStrategy() {
+        this(DEFAULT_TOLERANCE, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public DormandPrinceStrategy(double tolerance) {
+        this(tolerance, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public DormandPrinceStrategy(double tolerance, int sampleCount) {
+        super(sampleCount);
+        if (tolerance <= 0 || tolerance >= 1) {
+            throw new IllegalArgumentException("Tolerance must be between 0 and 1");
+        }
+        this.tolerance = tolerance;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    @Override
+    public String getName() {
+        return "Dormand-Prince";
+    }
+
+    @Override
+    public String getConfigurationKey() {
+        return super.getConfigurationKey() + "|tolerance=" + tolerance;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Runge-Kutta embebido 4(5) con control de error y paso adaptativo";
+    }
+
+    @Override
+    long estimateEvaluations(RLCStateSpace model, double period, long cycles) {
+        double rho = model.spectralRadius();
+        double h = accuracyStep(period);
+        if (rho > 0) {
+            // El control de error también sigue al modo rápido aunque la fuente lo excite poco
+            h = Math.min(h, Math.min(ACCURACY_FACTOR * Math.pow(tolerance, 0.2), STABILITY_BOUNDARY) / rho);
+        }
+        double adaptive = Math.max(0, cycles - MEASURE_CYCLES) * period / h;
+        return 6 * (long) Math.ceil(adaptive + MEASURE_CYCLES * windowStepsPerCycle(model, period));
+    }
+
+    // Si la estabilidad acota el paso más que la precisión, el control de error oscila
+    // contra ese límite y no garantiza nada: se declara no apto
+    @Override
+    double estimateError(RLCStateSpace model, double period) {
+        if (model.spectralRadius() * accuracyStep(period) > STABILITY_BOUNDARY) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double error = tolerance;
+        long window = windowStepsPerCycle(model, period);
+        if (window > STEPS_PER_CYCLE) {
+            double hw = 2 * Math.PI / window;
+            error += 0.5 * hw * hw; // ventana uniforme limitada por estabilidad
+        }
+        return error;
+    }
+
+    private double accuracyStep(double period) {
+        double omega = 2 * Math.PI / period;
+        return Math.min(period / MIN_STEPS_PER_CYCLE, ACCURACY_FACTOR * Math.pow(tolerance, 0.2) / omega);
+    }
+
+    private static long windowStepsPerCycle(RLCStateSpace model, double period) {
+        double rho = model.spectralRadius();
+        long perCycle = STEPS_PER_CYCLE;
+        if (rho > 0) {
+            perCycle = Math.max(perCycle, (long) Math.ceil(period * rho / STABILITY_LIMIT));
+        }
+        return perCycle;
+    }
+
+    @Override
+    void integrate(RLCStateSpace m, double amplitude, double omega,
+                   double duration, TransientRecorder recorder) {
+        double period = 2 * Math.PI / omega;
+        double hMax = period / MIN_STEPS_PER_CYCLE;
+        double measureStart = Math.max(0, recorder.getMeasureStart());
+        double hMin = 1e-14 * duration;
+
+        double t = 0;
+        double x1 = 0, x2 = 0; // v_C, i_L
+        double peak1 = 0, peak2 = 0;
+        recorder.start(m.current(x1, x2, 0), x1);
+
+        // Derivada en el punto inicial (FSAL: se reutiliza la última etapa)
+        double k1a = 0, k1b = 0;
+        double h = Math.min(hMax, period / STEPS_PER_CYCLE);
+        boolean rejected = false;
+        boolean uniform = measureStart <= 0;
+        if (uniform) {
+            h = period / windowStepsPerCycle(m, period);
+        }
+
+        while (t < duration) {
+            double proposed = h;
+            double target = uniform ? duration : measureStart;
+            boolean lands = t + h >= target - 1e-9 * h;
+            double step = lands ? target - t : h;
+
+            double v2 = amplitude * Math.sin(omega * (t + C2 * step));
+            double v3 = amplitude * Math.sin(omega * (t + C3 * step));
+            double v4 = amplitude * Math.sin(omega * (t + C4 * step));
+            double v5 = amplitude * Math.sin(omega * (t + C5 * step));
+            double v6 = amplitude * Math.sin(omega * (t + step));
+
+            double ya = x1 + step * A21 * k1a;
+            double yb = x2 + step * A21 * k1b;
+            double k2a = m.a11 * ya + m.a12 * yb + m.b1 * v2;
+            double k2b = m.a21 * ya + m.a22 * yb + m.b2 * v2;
+
+            ya = x1 + step * (A31 * k1a + A32 * k2a);
+            yb = x2 + step * (A31 * k1b + A32 * k2b);
+            double k3a = m.a11 * ya + m.a12 * yb + m.b1 * v3;
+            double k3b = m.a21 * ya + m.a22 * yb + m.b2 * v3;
+
+            ya = x1 + step * (A41 * k1a + A42 * k2a + A43 * k3a);
+            yb = x2 + step * (A41 * k1b + A42 * k2b + A43 * k3b);
+            double k4a = m.a11 * ya + m.a12 * yb + m.b1 * v4;
+            double k4b = m.a21 * ya + m.a22 * yb + m.b2 * v4;
+
+            ya = x1 + step * (A51 * k1a + A52 * k2a + A53 * k3a + A54 * k4a);
+            yb = x2 + step * (A51 * k1b + A52 * k2b + A53 * k3b + A54 * k4b);
+            double k5a = m.a11 * ya + m.a12 * yb + m.b1 * v5;
+            double k5b = m.a21 * ya + m.a22 * yb + m.b2 * v5;
+
+            ya = x1 + step * (A61 * k1a + A62 * k2a + A63 * k3a + A64 * k4a + A65 * k5a);
+            yb = x2 + step * (A61 * k1b + A62 * k2b + A63 * k3b + A64 * k4b + A65 * k5b);
+            double k6a = m.a11 * ya + m.a12 * yb + m.b1 * v6;
+            double k6b = m.a21 * ya + m.a22 * yb + m.b2 * v6;
+
+            double n1 = x1 + step * (B1 * k1a + B3 * k3a + B4 * k4a + B5 * k5a + B6 * k6a);
+            double n2 = x2 + step * (B1 * k1b + B3 * k3b + B4 * k4b + B5 * k5b + B6 * k6b);
+            double k7a = m.a11 * n1 + m.a12 * n2 + m.b1 * v6;
+            double k7b = m.a21 * n1 + m.a22 * n2 + m.b2 * v6;
+
+            double e1 = step * (E1 * k1a + E3 * k3a + E4 * k4a + E5 * k5a + E6 * k6a + E7 * k7a);
+            double e2 = step * (E1 * k1b + E3 * k3b + E4 * k4b + E5 * k5b + E6 * k6b + E7 * k7b);
+
+            // Error relativo a la amplitud máxima observada de cada estado
+            double s1 = tolerance * Math.max(peak1, Math.max(Math.abs(x1), Math.abs(n1))) + Double.MIN_NORMAL;
+            double s2 = tolerance * Math.max(peak2, Math.max(Math.abs(x2), Math.abs(n2))) + Double.MIN_NORMAL;
+            double err = Math.max(Math.abs(e1) / s1, Math.abs(e2) / s2);
+
+            if (!uniform && err > 1) {
+                recorder.reject();
+                rejected = true;
+                h = step * Math.max(MIN_SCALE, SAFETY * Math.pow(err, -0.2));
+                if (h < hMin) {
+                    throw new ArithmeticException("Step size underflow at t = " + t);
+                }
+                continue;
+            }
+
+            t = lands ? target : t + step;
+            x1 = n1;
+            x2 = n2;
+            k1a = k7a;
+            k1b = k7b;
+            peak1 = Math.max(peak1, Math.abs(x1));
+            peak2 = Math.max(peak2, Math.abs(x2));
+            recorder.accept(t, m.current(x1, x2, v6), x1);
+
+            if (!uniform) {
+                // Tras un rechazo no se permite crecer en el paso siguiente
+                double scale = err > 0 ? SAFETY * Math.pow(err, -0.2) : MAX_SCALE;
+                double maxScale = rejected ? 1.0 : MAX_SCALE;
+                h = Math.min(hMax, step * Math.min(maxScale, Math.max(MIN_SCALE, scale)));
+                rejected = false;
+                if (lands) {
+                    // Entrada a la ventana de medición: paso uniforme que divide el período
+                    uniform = true;
+                    double rho = m.spectralRadius();
+                    double hWindow = rho > 0 ? Math.min(proposed, STABILITY_LIMIT / rho) : proposed;
+                    long perCycle = Math.max(STEPS_PER_CYCLE, (long) Math.ceil(period / hWindow));
+                    h = period / perCycle;
+                }
+            }
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.simulador.engine;
 
-import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
 import com.simulador.model.SimulationResult;
-import java.util.List;
 
 /**
  * Estrategia de cálculo usando el método de Euler
@@ -23,11 +22,11 @@ public class EulerStrategy implements SimulationStrategy {
     }
     
     @Override
-    public SimulationResult calculate(List<CircuitComponent> components, 
+    public SimulationResult calculate(CompiledCircuit circuit,
                                      double voltage, double frequency) {
         // Validaciones
-        if (components == null || components.isEmpty()) {
-            throw new IllegalArgumentException("Component list cannot be null or empty");
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
         }
         if (voltage <= 0) {
             throw new IllegalArgumentException("Voltage must be positive");
@@ -39,7 +38,7 @@ public class EulerStrategy implements SimulationStrategy {
         try {
             // Para simplificar, usamos el método analítico como base
             SimulationStrategy analytical = new AnalyticalStrategy();
-            SimulationResult baseResult = analytical.calculate(components, voltage, frequency);
+            SimulationResult baseResult = analytical.calculate(circuit, voltage, frequency);
             
             // Aplicar pequeñas correcciones para simular el método de Euler
             double correctionFactor = 1.0 - (TIME_STEP * frequency * 0.01);
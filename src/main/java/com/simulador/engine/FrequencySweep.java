@@ -0,0 +1,92 @@
+package com.simulador.engine;
+
+import com.simulador.model.FrequencySweepResult;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Núcleo del barrido en frecuencia del circuito RLC serie sobre arreglos primitivos
+ * Series RLC frequency sweep kernel over primitive arrays
+ *
+ * Cada punto cuesta una raíz, un atan2 y unas pocas multiplicaciones, evaluadas por
+ * {@link SeriesKernels}; los barridos grandes se reparten en bloques sobre el pool
+ * ForkJoin común.
+ */
+final class FrequencySweep {
+
+    static final int PARALLEL_THRESHOLD = 100_000;
+    private static final int BLOCK_SIZE = 16_384;
+
+    private final double resistance;
+    private final double inductance;
+    private final double inverseCapacitance;
+    private final double voltage;
+
+    private final double[] f, z, i, phi, p, q, s, pf;
+
+    private FrequencySweep(double resistance, double inductance, double inverseCapacitance,
+                           double voltage, double[] frequencies) {
+        int points = frequencies.length;
+        this.resistance = resistance;
+        this.inductance = inductance;
+        this.inverseCapacitance = inverseCapacitance;
+        this.voltage = voltage;
+        this.f = frequencies;
+        this.z = new double[points];
+        this.i = new double[points];
+        this.phi = new double[points];
+        this.p = new double[points];
+        this.q = new double[points];
+        this.s = new double[points];
+        this.pf = new double[points];
+    }
+
+    /**
+     * Ejecuta el barrido con los valores totales R, L y 1/C (0 si no hay capacitor)
+     * Runs the sweep with total R, L and 1/C (0 when there is no capacitor)
+     */
+    static FrequencySweepResult run(double resistance, double inductance, double inverseCapacitance,
+                                    double voltage, double fStart, double fStop,
+                                    int points, SweepScale scale) {
+        FrequencySweep sweep = new FrequencySweep(resistance, inductance, inverseCapacitance,
+                                                  voltage, scale.samples(fStart, fStop, points));
+
+        if (points >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(sweep.new Block(0, points));
+        } else {
+            sweep.evaluate(0, points);
+        }
+
+        return new FrequencySweepResult(voltage, sweep.f, sweep.z, sweep.i, sweep.phi,
+                                        sweep.p, sweep.q, sweep.s, sweep.pf);
+    }
+
+    private void evaluate(int from, int to) {
+        SeriesKernels.sweep(resistance, inductance, inverseCapacitance, voltage,
+                            f, from, to, z, i, phi, p, q, s, pf);
+    }
+
+    /**
+     * Bloque de puntos evaluado por una tarea ForkJoin
+     * Block of points evaluated by a ForkJoin task
+     */
+    private final class Block extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        Block(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BLOCK_SIZE) {
+                evaluate(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Block(from, mid), new Block(mid, to));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.HarmonicResult;
+import com.simulador.model.PeriodicSource;
+
+/**
+ * Análisis armónico por superposición de Fourier sobre el RLC serie
+ * Harmonic analysis by Fourier superposition on the series RLC
+ *
+ * Al construirse precalcula, para cada armónico n, la admitancia 1/|Zn| y el coseno
+ * del ángulo de Zn a la frecuencia n·f. Analizar una fuente es entonces una sola
+ * pasada de multiplicaciones sobre arreglos, y el mismo analizador sirve para
+ * cualquier forma de onda con esa fundamental.
+ */
+public class HarmonicAnalyzer {
+    private final CompiledCircuit circuit;
+    private final double fundamentalFrequency;
+    private final double[] admittance;
+    private final double[] impedanceAngle;
+    private final double[] cosAngle;
+
+    public HarmonicAnalyzer(CompiledCircuit circuit, double fundamentalFrequency, int harmonics) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (fundamentalFrequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+        if (harmonics < 1 || harmonics > PeriodicSource.MAX_HARMONICS) {
+            throw new IllegalArgumentException("Harmonic count must be between 1 and "
+                + PeriodicSource.MAX_HARMONICS);
+        }
+        this.circuit = circuit;
+        this.fundamentalFrequency = fundamentalFrequency;
+        this.admittance = new double[harmonics];
+        this.impedanceAngle = new double[harmonics];
+        this.cosAngle = new double[harmonics];
+
+        double r = circuit.getResistance();
+        double l = circuit.getInductance();
+        double invC = circuit.getInverseCapacitance();
+        double w1 = 2 * Math.PI * fundamentalFrequency;
+        for (int k = 0; k < harmonics; k++) {
+            double w = (k + 1) * w1;
+            double x = w * l - invC / w;
+            double z = Math.sqrt(r * r + x * x);
+            admittance[k] = 1.0 / z;
+            impedanceAngle[k] = Math.atan2(x, r);
+            cosAngle[k] = r / z;
+        }
+    }
+
+    public CompiledCircuit getCircuit() { return circuit; }
+    public double getFundamentalFrequency() { return fundamentalFrequency; }
+    public int getHarmonicCount() { return admittance.length; }
+
+    /**
+     * Analiza la fuente; se usan los armónicos comunes a la fuente y al analizador
+     * Analyzes the source; uses the harmonics shared by the source and the analyzer
+     */
+    public HarmonicResult analyze(PeriodicSource source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        if (Double.compare(source.getFundamentalFrequency(), fundamentalFrequency) != 0) {
+            throw new IllegalArgumentException("Source fundamental does not match the analyzer");
+        }
+
+        int n = Math.min(source.getHarmonicCount(), admittance.length);
+        double[] vn = new double[n];
+        double[] in = new double[n];
+        double[] phase = new double[n];
+        double[] pn = new double[n];
+
+        double sumV2 = 0, sumI2 = 0, power = 0;
+        for (int k = 0; k < n; k++) {
+            double v = source.getAmplitude(k + 1);
+            double i = v * admittance[k];
+            double p = 0.5 * v * i * cosAngle[k];
+            vn[k] = v;
+            in[k] = i;
+            phase[k] = source.getPhase(k + 1) - impedanceAngle[k];
+            pn[k] = p;
+            sumV2 += v * v;
+            sumI2 += i * i;
+            power += p;
+        }
+
+        // Componente continua: el capacitor la bloquea; sin capacitor sólo la limita R
+        double v0 = source.getDcOffset();
+        double i0 = 0;
+        if (v0 != 0 && !circuit.hasCapacitance()) {
+            if (!circuit.hasResistance()) {
+                throw new ArithmeticException("DC offset drives an unbounded current without R or C");
+            }
+            i0 = v0 / circuit.getResistance();
+        }
+        power += v0 * i0;
+
+        double rmsV = Math.sqrt(v0 * v0 + 0.5 * sumV2);
+        double rmsI = Math.sqrt(i0 * i0 + 0.5 * sumI2);
+
+        // THD = √(Σ_{n≥2} Xn²) / X1
+        double thdI = in[0] > 0 ? Math.sqrt(Math.max(0, sumI2 - in[0] * in[0])) / in[0] : Double.NaN;
+        double thdV = vn[0] > 0 ? Math.sqrt(Math.max(0, sumV2 - vn[0] * vn[0])) / vn[0] : Double.NaN;
+
+        return new HarmonicResult(fundamentalFrequency, vn, in, phase, pn, i0,
+                                  rmsV, rmsI, power, thdI, thdV);
+    }
+}
@@ -0,0 +1,149 @@
+package com.simulador.engine;
+
+/**
+ * Estrategia implícita A-estable (trapecio o Euler implícito) para circuitos rígidos
+ * A-stable implicit strategy (trapezoidal or backward Euler) for stiff circuits
+ *
+ * Como el sistema es lineal de 2x2 y el paso es fijo, la matriz del modelo compañero
+ * (I - θ·h·A)⁻¹ se invierte una sola vez en forma cerrada y cada paso se reduce a
+ * x' = M·x + g0·v(t) + g1·v(t+h). El paso lo fija la fuente, no la constante de tiempo
+ * más rápida, así que un L pequeño con un C grande ya no obliga a usar pasos diminutos.
+ */
+public class ImplicitStrategy extends TransientStrategy {
+
+    /**
+     * Regla de integración implícita
+     * Implicit integration rule
+     */
+    public enum Method {
+        TRAPEZOIDAL("Trapezoidal", 0.5),
+        BACKWARD_EULER("Backward-Euler", 1.0);
+
+        private final String displayName;
+        private final double theta;
+
+        Method(String displayName, double theta) {
+            this.displayName = displayName;
+            this.theta = theta;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    private static final int IMPLICIT_STEPS_PER_CYCLE = 1024; // el paso es barato: se prioriza precisión de fase
+    private static final long MAX_STEPS = 50_000_000;
+
+    private final Method method;
+
+    public ImplicitStrategy() {
+        this(Method.TRAPEZOIDAL, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public ImplicitStrategy(Method method) {
+        this(method, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public ImplicitStrategy(Method method, int sampleCount) {
+        super(sampleCount);
+        if (method == null) {
+            throw new IllegalArgumentException("Method cannot be null");
+        }
+        this.method = method;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getName() {
+        return method.getDisplayName();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Método implícito A-estable para transitorios rígidos";
+    }
+
+    @Override
+    long maxCycles(RLCStateSpace model, double period) {
+        return Math.max(1, MAX_STEPS / IMPLICIT_STEPS_PER_CYCLE);
+    }
+
+    @Override
+    long estimateEvaluations(RLCStateSpace model, double period, long cycles) {
+        return IMPLICIT_STEPS_PER_CYCLE * cycles; // un producto 2×2 por paso
+    }
+
+    // Error de fase de la regla: (hω)²/12 para el trapecio y hω/2 para Euler implícito
+    @Override
+    double estimateError(RLCStateSpace model, double period) {
+        double hw = 2 * Math.PI / IMPLICIT_STEPS_PER_CYCLE;
+        return method == Method.TRAPEZOIDAL ? hw * hw / 12 : hw / 2;
+    }
+
+    @Override
+    void integrate(RLCStateSpace m, double amplitude, double omega,
+                   double duration, TransientRecorder recorder) {
+        double period = 2 * Math.PI / omega;
+        long stepsPerPeriod = IMPLICIT_STEPS_PER_CYCLE;
+        long totalSteps = Math.round(duration / period) * stepsPerPeriod;
+        double h = period / stepsPerPeriod;
+        double theta = method.theta;
+
+        // P = I - θhA, Q = I + (1-θ)hA;  x' = P⁻¹Q·x + P⁻¹b·h·((1-θ)v + θv')
+        double th = theta * h;
+        double p11 = 1 - th * m.a11, p12 = -th * m.a12;
+        double p21 = -th * m.a21, p22 = 1 - th * m.a22;
+        double det = p11 * p22 - p12 * p21;
+        if (det == 0) {
+            throw new ArithmeticException("Singular companion matrix");
+        }
+        double i11 = p22 / det, i12 = -p12 / det;
+        double i21 = -p21 / det, i22 = p11 / det;
+
+        double eh = (1 - theta) * h;
+        double q11 = 1 + eh * m.a11, q12 = eh * m.a12;
+        double q21 = eh * m.a21, q22 = 1 + eh * m.a22;
+
+        double m11 = i11 * q11 + i12 * q21, m12 = i11 * q12 + i12 * q22;
+        double m21 = i21 * q11 + i22 * q21, m22 = i21 * q12 + i22 * q22;
+        double pb1 = (i11 * m.b1 + i12 * m.b2) * h;
+        double pb2 = (i21 * m.b1 + i22 * m.b2) * h;
+        double g01 = (1 - theta) * pb1, g02 = (1 - theta) * pb2;
+        double g11 = theta * pb1, g12 = theta * pb2;
+
+        // Rotación de paso completo para generar sin(ωt)
+        double sh = Math.sin(omega * h);
+        double ch = Math.cos(omega * h);
+        double s = 0, c = 1;
+
+        double x1 = 0, x2 = 0; // v_C, i_L
+        recorder.start(m.current(x1, x2, 0), x1);
+
+        long phaseStep = 0;
+        for (long k = 0; k < totalSteps; k++) {
+            if (phaseStep == stepsPerPeriod) {
+                // Resincronizar al inicio de cada período para evitar deriva
+                s = 0;
+                c = 1;
+                phaseStep = 0;
+            }
+            double s1 = s * ch + c * sh;
+            double c1 = c * ch - s * sh;
+            double v0 = amplitude * s;
+            double v1 = amplitude * s1;
+
+            double n1 = m11 * x1 + m12 * x2 + g01 * v0 + g11 * v1;
+            double n2 = m21 * x1 + m22 * x2 + g02 * v0 + g12 * v1;
+            x1 = n1;
+            x2 = n2;
+
+            s = s1;
+            c = c1;
+            phaseStep++;
+
+            recorder.accept((k + 1) * h, m.current(x1, x2, v1), x1);
+        }
+    }
+}
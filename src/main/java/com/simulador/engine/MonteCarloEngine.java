@@ -0,0 +1,212 @@
+package com.simulador.engine;
+
+import com.simulador.model.CircuitComponent;
+import com.simulador.model.MonteCarloResult;
+import com.simulador.model.SampleStatistics;
+import com.simulador.model.Tolerance;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Análisis de tolerancias por Monte Carlo sobre la solución analítica del RLC serie
+ * Monte Carlo tolerance analysis on top of the analytical series RLC solution
+ *
+ * Cada muestra perturba los componentes según su {@link Tolerance} y evalúa la
+ * frecuencia de resonancia, la corriente y el factor de potencia con las mismas
+ * fórmulas que {@link AnalyticalStrategy} (vía {@link SeriesKernels}), sin crear
+ * objetos por muestra.
+ *
+ * Las muestras se agrupan en bloques de tamaño fijo y cada bloque recibe su propio
+ * flujo {@link SplittableRandom} derivado de la semilla. Como el flujo depende del
+ * bloque y no del hilo que lo ejecuta, el resultado es idéntico con cualquier número
+ * de núcleos.
+ */
+public class MonteCarloEngine {
+
+    public static final int DEFAULT_BINS = 50;
+    public static final int MAX_SAMPLES = 50_000_000;
+
+    private static final int CHUNK_SIZE = 8192; // fijo: define la asignación de flujos aleatorios
+
+    private static final int RESISTANCE = 0;
+    private static final int INDUCTANCE = 1;
+    private static final int CAPACITANCE = 2;
+    private static final int OTHER = 3;
+
+    private final int bins;
+
+    public MonteCarloEngine() {
+        this(DEFAULT_BINS);
+    }
+
+    public MonteCarloEngine(int bins) {
+        if (bins < 1) {
+            throw new IllegalArgumentException("Histogram needs at least 1 bin");
+        }
+        this.bins = bins;
+    }
+
+    public int getBins() {
+        return bins;
+    }
+
+    /**
+     * Ejecuta {@code samples} evaluaciones con la semilla dada
+     * Runs {@code samples} evaluations with the given seed
+     */
+    public MonteCarloResult run(List<CircuitComponent> components, double voltage,
+                                double frequency, int samples, long seed) {
+        // Validaciones
+        if (components == null || components.isEmpty()) {
+            throw new IllegalArgumentException("Component list cannot be null or empty");
+        }
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+        if (samples < 1 || samples > MAX_SAMPLES) {
+            throw new IllegalArgumentException("Sample count must be between 1 and " + MAX_SAMPLES);
+        }
+
+        long start = System.nanoTime();
+        Run run = new Run(components, voltage, frequency, samples, seed);
+        if (run.streams.length > 1) {
+            ForkJoinPool.commonPool().invoke(run.new Chunks(0, run.streams.length));
+        } else {
+            run.sample(0);
+        }
+
+        SampleStatistics resonance = SampleStatistics.of(run.resonantFrequency, bins);
+        SampleStatistics current = SampleStatistics.of(run.current, bins);
+        SampleStatistics powerFactor = SampleStatistics.of(run.powerFactor, bins);
+        long elapsed = System.nanoTime() - start;
+
+        return new MonteCarloResult(samples, seed, voltage, frequency,
+                                    resonance, current, powerFactor, elapsed);
+    }
+
+    /**
+     * Estado de una ejecución: componentes aplanados en arreglos primitivos y columnas de salida
+     * State of one run: components flattened into primitive arrays plus output columns
+     */
+    private static final class Run {
+        private final int[] kind;
+        private final double[] nominal;
+        private final double[] deviation; // uniforme: semiancho; gaussiana: σ
+        private final boolean[] gaussian;
+        private final double voltage;
+        private final double omega;
+        private final int samples;
+        private final SplittableRandom[] streams;
+
+        private final double[] resonantFrequency;
+        private final double[] current;
+        private final double[] powerFactor;
+
+        Run(List<CircuitComponent> components, double voltage, double frequency,
+            int samples, long seed) {
+            int n = components.size();
+            this.kind = new int[n];
+            this.nominal = new double[n];
+            this.deviation = new double[n];
+            this.gaussian = new boolean[n];
+            for (int k = 0; k < n; k++) {
+                CircuitComponent comp = components.get(k);
+                kind[k] = kindOf(comp.getType());
+                nominal[k] = comp.getValue();
+                Tolerance tolerance = comp.getTolerance();
+                gaussian[k] = tolerance.getDistribution() == Tolerance.Distribution.GAUSSIAN;
+                // ±% es 3σ en la gaussiana
+                deviation[k] = gaussian[k] ? tolerance.getRelativeDeviation() / 3
+                                           : tolerance.getRelativeDeviation();
+            }
+
+            this.voltage = voltage;
+            this.omega = 2 * Math.PI * frequency;
+            this.samples = samples;
+
+            // Un flujo por bloque, derivado en orden desde la semilla
+            int chunks = (samples + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            SplittableRandom root = new SplittableRandom(seed);
+            this.streams = new SplittableRandom[chunks];
+            for (int c = 0; c < chunks; c++) {
+                streams[c] = root.split();
+            }
+
+            this.resonantFrequency = new double[samples];
+            this.current = new double[samples];
+            this.powerFactor = new double[samples];
+        }
+
+        private static int kindOf(String type) {
+            switch (type) {
+                case "Resistance": return RESISTANCE;
+                case "Inductor": return INDUCTANCE;
+                case "Capacitor": return CAPACITANCE;
+                default: return OTHER;
+            }
+        }
+
+        void sample(int chunk) {
+            SplittableRandom random = streams[chunk];
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, samples);
+
+            // Primero se sortean R, L y C en las columnas de salida (en el orden del flujo)
+            // y luego el núcleo las reemplaza en el lugar por I, fp y f0
+            for (int s = from; s < to; s++) {
+                double r = 0, l = 0, c = 0;
+                for (int k = 0; k < kind.length; k++) {
+                    double value = nominal[k];
+                    double dev = deviation[k];
+                    if (dev > 0) {
+                        double delta = gaussian[k]
+                            ? dev * random.nextGaussian()
+                            : dev * (2 * random.nextDouble() - 1);
+                        value = Math.max(0, value * (1 + delta));
+                    }
+                    switch (kind[k]) {
+                        case RESISTANCE: r += value; break;
+                        case INDUCTANCE: l += value; break;
+                        case CAPACITANCE: c += value; break;
+                        default: break;
+                    }
+                }
+                current[s] = r;
+                powerFactor[s] = l;
+                resonantFrequency[s] = c;
+            }
+
+            SeriesKernels.evaluate(omega, voltage, current, powerFactor, resonantFrequency,
+                                   from, to, current, powerFactor, resonantFrequency);
+        }
+
+        /**
+         * Rango de bloques evaluado por una tarea ForkJoin
+         * Range of chunks evaluated by a ForkJoin task
+         */
+        private final class Chunks extends RecursiveAction {
+            private final int from;
+            private final int to;
+
+            Chunks(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from == 1) {
+                    sample(from);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new Chunks(from, mid), new Chunks(mid, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.simulador.engine;
+
+/**
+ * Número complejo mutable usado como acumulador en los cálculos fasoriales
+ * Mutable complex number used as an accumulator in phasor math
+ *
+ * Todas las operaciones modifican la instancia y la devuelven para encadenar, sin
+ * crear objetos; una instancia por hilo basta para recorrer un barrido completo.
+ * No es segura para uso concurrente.
+ */
+public final class MutableComplex {
+    private double re;
+    private double im;
+
+    public MutableComplex() {
+    }
+
+    public MutableComplex(double re, double im) {
+        this.re = re;
+        this.im = im;
+    }
+
+    public MutableComplex set(double re, double im) {
+        this.re = re;
+        this.im = im;
+        return this;
+    }
+
+    public MutableComplex set(MutableComplex other) {
+        return set(other.re, other.im);
+    }
+
+    public MutableComplex setPolar(double magnitude, double angle) {
+        return set(magnitude * Math.cos(angle), magnitude * Math.sin(angle));
+    }
+
+    public MutableComplex add(double re, double im) {
+        this.re += re;
+        this.im += im;
+        return this;
+    }
+
+    public MutableComplex add(MutableComplex other) {
+        return add(other.re, other.im);
+    }
+
+    public MutableComplex subtract(double re, double im) {
+        this.re -= re;
+        this.im -= im;
+        return this;
+    }
+
+    public MutableComplex subtract(MutableComplex other) {
+        return subtract(other.re, other.im);
+    }
+
+    public MutableComplex multiply(double re, double im) {
+        double r = this.re * re - this.im * im;
+        this.im = this.re * im + this.im * re;
+        this.re = r;
+        return this;
+    }
+
+    public MutableComplex multiply(MutableComplex other) {
+        return multiply(other.re, other.im);
+    }
+
+    public MutableComplex scale(double factor) {
+        re *= factor;
+        im *= factor;
+        return this;
+    }
+
+    /**
+     * División por el algoritmo de Smith (evita desbordes intermedios)
+     * Division with Smith's algorithm (avoids intermediate overflow)
+     */
+    public MutableComplex divide(double re, double im) {
+        if (re == 0 && im == 0) {
+            throw new ArithmeticException("Complex division by zero");
+        }
+        if (Math.abs(re) >= Math.abs(im)) {
+            double ratio = im / re;
+            double denominator = re + im * ratio;
+            return set((this.re + this.im * ratio) / denominator,
+                       (this.im - this.re * ratio) / denominator);
+        }
+        double ratio = re / im;
+        double denominator = re * ratio + im;
+        return set((this.re * ratio + this.im) / denominator,
+                   (this.im * ratio - this.re) / denominator);
+    }
+
+    public MutableComplex divide(MutableComplex other) {
+        return divide(other.re, other.im);
+    }
+
+    /**
+     * Inverso 1/z (impedancia ↔ admitancia)
+     * Reciprocal 1/z (impedance ↔ admittance)
+     */
+    public MutableComplex reciprocal() {
+        if (re == 0 && im == 0) {
+            throw new ArithmeticException("Reciprocal of zero");
+        }
+        if (Math.abs(re) >= Math.abs(im)) {
+            double ratio = im / re;
+            double denominator = re + im * ratio;
+            return set(1 / denominator, -ratio / denominator);
+        }
+        double ratio = re / im;
+        double denominator = re * ratio + im;
+        return set(ratio / denominator, -1 / denominator);
+    }
+
+    /**
+     * Combina en paralelo con otra impedancia: z·w / (z + w)
+     * Combines in parallel with another impedance: z·w / (z + w)
+     *
+     * Un cortocircuito (0) domina el resultado; la suma nula corresponde a un tanque LC
+     * ideal en resonancia y lanza {@link ArithmeticException}.
+     */
+    public MutableComplex parallel(double re, double im) {
+        if ((this.re == 0 && this.im == 0) || (re == 0 && im == 0)) {
+            return set(0, 0);
+        }
+        double sumRe = this.re + re;
+        double sumIm = this.im + im;
+        if (sumRe == 0 && sumIm == 0) {
+            throw new ArithmeticException("Parallel combination is an open circuit");
+        }
+        return multiply(re, im).divide(sumRe, sumIm);
+    }
+
+    public MutableComplex parallel(MutableComplex other) {
+        return parallel(other.re, other.im);
+    }
+
+    public MutableComplex conjugate() {
+        im = -im;
+        return this;
+    }
+
+    // Getters
+    public double getReal() { return re; }
+    public double getImaginary() { return im; }
+    public double abs() { return Math.hypot(re, im); }
+    public double absSquared() { return re * re + im * im; }
+    public double arg() { return Math.atan2(im, re); }
+
+    @Override
+    public String toString() {
+        return String.format("%.6g %s %.6gj", re, im < 0 ? "-" : "+", Math.abs(im));
+    }
+}
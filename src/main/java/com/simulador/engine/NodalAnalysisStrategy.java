@@ -0,0 +1,61 @@
+package com.simulador.engine;
+
+import com.simulador.model.ACNetlist;
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.SimulationResult;
+
+/**
+ * Estrategia de análisis nodal complejo (admitancias y LU disperso)
+ * Complex nodal analysis strategy (admittances and sparse LU)
+ *
+ * La lista de componentes del simulador describe siempre un circuito serie, así que
+ * esta estrategia resuelve el netlist serie equivalente y su resultado coincide con el
+ * analítico: sirve como verificación cruzada del solver nodal, no como otro modelo.
+ * Para redes con ramas en paralelo o filtros en escalera se usa {@link ACNodalSolver}
+ * con un {@link ACNetlist} propio.
+ * The component list always describes a series circuit, so this strategy solves the
+ * series netlist and matches the analytical result; it is a cross-check of the nodal
+ * solver. Use {@link ACNodalSolver} with an {@link ACNetlist} for other topologies.
+ */
+public class NodalAnalysisStrategy implements SimulationStrategy {
+
+    @Override
+    public String getName() {
+        return "Nodal (MNA, equivalente serie)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Análisis nodal del equivalente serie con matriz de admitancias compleja y LU dispersa";
+    }
+
+    @Override
+    public SimulationResult calculate(CompiledCircuit circuit, double voltage, double frequency) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+
+        try {
+            ACNodalSolver solver = new ACNodalSolver(ACNetlist.series(circuit));
+            SimulationResult result = solver.solve(voltage, frequency).toSimulationResult();
+            if (!result.isValid()) {
+                throw new ArithmeticException("Invalid simulation results");
+            }
+            return result;
+        } catch (ArithmeticException e) {
+            throw new RuntimeException("Mathematical error in nodal analysis: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isValidFor(CompiledCircuit circuit) {
+        return circuit != null
+            && (circuit.hasResistance() || circuit.hasInductance() || circuit.hasCapacitance());
+    }
+}
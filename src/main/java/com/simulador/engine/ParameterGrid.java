@@ -0,0 +1,180 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.GridQuantity;
+import com.simulador.model.ParameterAxis;
+import com.simulador.model.ParameterGridResult;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Grilla bidimensional valor de componente × frecuencia evaluada en régimen permanente
+ * Two-dimensional component value × frequency grid evaluated in steady state
+ *
+ * Las filas recorren el parámetro y las columnas la frecuencia. La grilla se parte en
+ * mosaicos de unos 16.000 puntos que se reparten sobre el pool ForkJoin común; cada
+ * punto cuesta una raíz y unas pocas multiplicaciones.
+ */
+public class ParameterGrid {
+
+    private static final int TILE_POINTS = 16_384;
+
+    private final ParameterAxis axis;
+    private final double[] values;
+    private final double[] frequencies;
+    private final SweepScale valueScale;
+    private final SweepScale frequencyScale;
+
+    public ParameterGrid(ParameterAxis axis,
+                         double valueStart, double valueStop, int rows, SweepScale valueScale,
+                         double fStart, double fStop, int columns, SweepScale frequencyScale) {
+        if (axis == null) {
+            throw new IllegalArgumentException("Parameter axis cannot be null");
+        }
+        if (valueStart <= 0 || valueStop <= valueStart) {
+            throw new IllegalArgumentException("Parameter range must satisfy 0 < start < stop");
+        }
+        if (fStart <= 0 || fStop <= fStart) {
+            throw new IllegalArgumentException("Frequency range must satisfy 0 < fStart < fStop");
+        }
+        if (rows < 2 || columns < 2) {
+            throw new IllegalArgumentException("A grid needs at least 2 rows and 2 columns");
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grid is too large");
+        }
+        if (valueScale == null || frequencyScale == null) {
+            throw new IllegalArgumentException("Sweep scale cannot be null");
+        }
+        this.axis = axis;
+        this.valueScale = valueScale;
+        this.frequencyScale = frequencyScale;
+        this.values = valueScale.samples(valueStart, valueStop, rows);
+        this.frequencies = frequencyScale.samples(fStart, fStop, columns);
+    }
+
+    // Getters
+    public ParameterAxis getAxis() { return axis; }
+    public SweepScale getValueScale() { return valueScale; }
+    public SweepScale getFrequencyScale() { return frequencyScale; }
+    public int getRows() { return values.length; }
+    public int getColumns() { return frequencies.length; }
+
+    /**
+     * Evalúa la magnitud pedida en toda la grilla
+     * Evaluates the requested quantity over the whole grid
+     */
+    public ParameterGridResult evaluate(CompiledCircuit circuit, double voltage,
+                                        GridQuantity quantity) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (quantity == null) {
+            throw new IllegalArgumentException("Grid quantity cannot be null");
+        }
+
+        int rows = values.length;
+        int columns = frequencies.length;
+
+        // Totales por fila: el eje reemplaza al total del circuito
+        double[] rowR = new double[rows];
+        double[] rowL = new double[rows];
+        double[] rowInvC = new double[rows];
+        for (int r = 0; r < rows; r++) {
+            rowR[r] = axis == ParameterAxis.RESISTANCE ? values[r] : circuit.getResistance();
+            rowL[r] = axis == ParameterAxis.INDUCTANCE ? values[r] : circuit.getInductance();
+            rowInvC[r] = axis == ParameterAxis.CAPACITANCE ? 1.0 / values[r]
+                                                           : circuit.getInverseCapacitance();
+        }
+
+        // Por columna: ω y 1/ω, de modo que X = ω·L − (1/C)·(1/ω)
+        double[] colW = new double[columns];
+        double[] colInvW = new double[columns];
+        for (int c = 0; c < columns; c++) {
+            colW[c] = 2 * Math.PI * frequencies[c];
+            colInvW[c] = 1.0 / colW[c];
+        }
+
+        double[] data = new double[rows * columns];
+        Kernel kernel = new Kernel(quantity, voltage, rowR, rowL, rowInvC, colW, colInvW, data);
+        if ((long) rows * columns >= FrequencySweep.PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(kernel.new Tile(0, rows, 0, columns));
+        } else {
+            kernel.evaluate(0, rows, 0, columns);
+        }
+
+        return new ParameterGridResult(axis, quantity, voltage, values.clone(),
+                                       frequencies.clone(), data);
+    }
+
+    /**
+     * Núcleo de evaluación sobre arreglos primitivos
+     * Evaluation kernel over primitive arrays
+     */
+    private static final class Kernel {
+        private final GridQuantity quantity;
+        private final double voltage;
+        private final double[] rowR, rowL, rowInvC;
+        private final double[] colW, colInvW;
+        private final double[] data;
+        private final int columns;
+
+        Kernel(GridQuantity quantity, double voltage,
+               double[] rowR, double[] rowL, double[] rowInvC,
+               double[] colW, double[] colInvW, double[] data) {
+            this.quantity = quantity;
+            this.voltage = voltage;
+            this.rowR = rowR;
+            this.rowL = rowL;
+            this.rowInvC = rowInvC;
+            this.colW = colW;
+            this.colInvW = colInvW;
+            this.data = data;
+            this.columns = colW.length;
+        }
+
+        void evaluate(int rowFrom, int rowTo, int colFrom, int colTo) {
+            for (int r = rowFrom; r < rowTo; r++) {
+                SeriesKernels.gridRow(quantity, voltage, rowR[r], rowL[r], rowInvC[r],
+                                      colW, colInvW, colFrom, colTo, data, r * columns);
+            }
+        }
+
+        /**
+         * Mosaico de la grilla; se divide por la dimensión más larga
+         * Grid tile; split along its longer dimension
+         */
+        private final class Tile extends RecursiveAction {
+            private final int rowFrom, rowTo, colFrom, colTo;
+
+            Tile(int rowFrom, int rowTo, int colFrom, int colTo) {
+                this.rowFrom = rowFrom;
+                this.rowTo = rowTo;
+                this.colFrom = colFrom;
+                this.colTo = colTo;
+            }
+
+            @Override
+            protected void compute() {
+                int rows = rowTo - rowFrom;
+                int cols = colTo - colFrom;
+                if ((long) rows * cols <= TILE_POINTS) {
+                    evaluate(rowFrom, rowTo, colFrom, colTo);
+                    return;
+                }
+                if (rows >= cols) {
+                    int mid = (rowFrom + rowTo) >>> 1;
+                    invokeAll(new Tile(rowFrom, mid, colFrom, colTo),
+                              new Tile(mid, rowTo, colFrom, colTo));
+                } else {
+                    int mid = (colFrom + colTo) >>> 1;
+                    invokeAll(new Tile(rowFrom, rowTo, colFrom, mid),
+                              new Tile(rowFrom, rowTo, mid, colTo));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+
+/**
+ * Modelo en espacio de estados del circuito RLC serie: x' = A·x + b·v(t), i = c·x + d·v(t)
+ * State-space model of the series RLC circuit: x' = A·x + b·v(t), i = c·x + d·v(t)
+ *
+ * x1 = voltaje del capacitor, x2 = corriente del inductor. Un capacitor ausente
+ * se trata como cortocircuito (v_C = 0) y sin inductor la corriente es algebraica.
+ */
+final class RLCStateSpace {
+    final double a11, a12, a21, a22;
+    final double b1, b2;
+    final double c1, c2, d;
+
+    private RLCStateSpace(double a11, double a12, double a21, double a22,
+                          double b1, double b2, double c1, double c2, double d) {
+        this.a11 = a11;
+        this.a12 = a12;
+        this.a21 = a21;
+        this.a22 = a22;
+        this.b1 = b1;
+        this.b2 = b2;
+        this.c1 = c1;
+        this.c2 = c2;
+        this.d = d;
+    }
+
+    /**
+     * Construye el modelo a partir del circuito compilado
+     * Builds the model from the compiled circuit
+     */
+    static RLCStateSpace of(CompiledCircuit circuit) {
+        double totalR = circuit.getResistance();
+        double totalL = circuit.getInductance();
+        double invC = circuit.getInverseCapacitance();
+        if (totalL > 0) {
+            return new RLCStateSpace(0, invC, -1.0 / totalL, -totalR / totalL,
+                                     0, 1.0 / totalL, 0, 1, 0);
+        }
+        if (totalR > 0) {
+            double invRC = invC / totalR;
+            return new RLCStateSpace(-invRC, 0, 0, 0,
+                                     invRC, 0, -1.0 / totalR, 0, 1.0 / totalR);
+        }
+        throw new IllegalArgumentException("Circuit needs resistance or inductance for time-domain analysis");
+    }
+
+    /**
+     * Módulo de la parte real del autovalor más lento (inverso de la constante de tiempo dominante)
+     * Magnitude of the real part of the slowest eigenvalue (inverse of the dominant time constant)
+     *
+     * Los estados inactivos (autovalor exactamente cero en un modelo triangular) se ignoran;
+     * sin dinámica alguna devuelve infinito, y un LC sin pérdidas devuelve 0.
+     */
+    double slowestDecayRate() {
+        if (a12 * a21 == 0) {
+            double rate = Double.POSITIVE_INFINITY;
+            if (a11 != 0) rate = Math.min(rate, Math.abs(a11));
+            if (a22 != 0) rate = Math.min(rate, Math.abs(a22));
+            return rate;
+        }
+        double half = 0.5 * (a11 + a22);
+        double disc = half * half - (a11 * a22 - a12 * a21);
+        if (disc >= 0) {
+            return Math.abs(half + Math.sqrt(disc));
+        }
+        return Math.abs(half);
+    }
+
+    /**
+     * Radio espectral de A (módulo del autovalor más rápido)
+     * Spectral radius of A (magnitude of the fastest eigenvalue)
+     */
+    double spectralRadius() {
+        double half = 0.5 * (a11 + a22);
+        double det = a11 * a22 - a12 * a21;
+        double disc = half * half - det;
+        if (disc >= 0) {
+            return Math.abs(half) + Math.sqrt(disc);
+        }
+        return Math.sqrt(det);
+    }
+
+    /**
+     * Frecuencia angular de oscilación libre (parte imaginaria de los autovalores)
+     * Angular frequency of free oscillation (imaginary part of the eigenvalues)
+     *
+     * Devuelve 0 si los autovalores son reales (circuito sobreamortiguado o de primer orden).
+     */
+    double dampedFrequency() {
+        double half = 0.5 * (a11 + a22);
+        double disc = half * half - (a11 * a22 - a12 * a21);
+        return disc < 0 ? Math.sqrt(-disc) : 0;
+    }
+
+    double current(double x1, double x2, double v) {
+        return c1 * x1 + c2 * x2 + d * v;
+    }
+}
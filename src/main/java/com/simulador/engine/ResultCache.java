@@ -0,0 +1,202 @@
+package com.simulador.engine;
+
+import com.simulador.model.CircuitComponent;
+import com.simulador.model.SimulationResult;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caché LRU acotada de resultados de simulación
+ * Bounded LRU cache of simulation results
+ *
+ * La clave es canónica respecto del orden de los componentes: el mismo multiconjunto
+ * de componentes con el mismo voltaje, frecuencia y estrategia produce la misma clave.
+ * Los resultados se comparten entre llamadas, por eso sólo se guardan resultados inmutables.
+ */
+public final class ResultCache {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final LinkedHashMap<Key, SimulationResult> entries;
+    private int capacity;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ResultCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cache capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        // accessOrder = true: el primer elemento es siempre el menos usado
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Busca un resultado; devuelve null si no está en caché
+     * Looks up a result; returns null when it is not cached
+     */
+    public SimulationResult get(List<CircuitComponent> components, double voltage,
+                                double frequency, String strategyKey) {
+        return get(Key.of(components, voltage, frequency, strategyKey));
+    }
+
+    synchronized SimulationResult get(Key key) {
+        if (capacity == 0) {
+            misses++;
+            return null;
+        }
+        SimulationResult result = entries.get(key);
+        if (result != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return result;
+    }
+
+    /**
+     * Guarda un resultado, desalojando el menos usado si se supera la capacidad
+     * Stores a result, evicting the least recently used one if capacity is exceeded
+     */
+    public void put(List<CircuitComponent> components, double voltage,
+                    double frequency, String strategyKey, SimulationResult result) {
+        put(Key.of(components, voltage, frequency, strategyKey), result);
+    }
+
+    synchronized void put(Key key, SimulationResult result) {
+        if (capacity == 0 || result == null) {
+            return;
+        }
+        entries.put(key, result);
+        trim();
+    }
+
+    /**
+     * Cambia la capacidad; si se reduce se desalojan las entradas más antiguas (0 desactiva la caché)
+     * Changes the capacity; shrinking evicts the oldest entries (0 disables the cache)
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cache capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        trim();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Reinicia los contadores de aciertos, fallos y desalojos
+     * Resets the hit, miss and eviction counters
+     */
+    public synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    // Getters
+    public synchronized int getCapacity() { return capacity; }
+    public synchronized int getSize() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups > 0 ? (double) hits / lookups : 0;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<Key, SimulationResult>> it = entries.entrySet().iterator();
+        while (entries.size() > capacity && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("ResultCache[size=%d/%d, hits=%d, misses=%d, evictions=%d]",
+            entries.size(), capacity, hits, misses, evictions);
+    }
+
+    /**
+     * Clave canónica: componentes ordenados por tipo y valor, más voltaje, frecuencia y la
+     * clave de configuración de la estrategia ({@link SimulationStrategy#getConfigurationKey()})
+     * Canonical key: components sorted by type and value, plus voltage, frequency and the
+     * strategy's configuration key
+     */
+    static final class Key {
+        private static final Comparator<CircuitComponent> ORDER =
+            Comparator.comparing(CircuitComponent::getType)
+                      .thenComparingDouble(CircuitComponent::getValue);
+
+        private final String[] types;
+        private final long[] values;
+        private final long voltage;
+        private final long frequency;
+        private final String strategyKey;
+        private final int hash;
+
+        private Key(String[] types, long[] values, double voltage, double frequency,
+                    String strategyKey) {
+            this.types = types;
+            this.values = values;
+            this.voltage = Double.doubleToLongBits(voltage);
+            this.frequency = Double.doubleToLongBits(frequency);
+            this.strategyKey = strategyKey;
+
+            int h = Arrays.hashCode(types);
+            h = 31 * h + Arrays.hashCode(values);
+            h = 31 * h + Long.hashCode(this.voltage);
+            h = 31 * h + Long.hashCode(this.frequency);
+            h = 31 * h + strategyKey.hashCode();
+            this.hash = h;
+        }
+
+        static Key of(List<CircuitComponent> components, double voltage, double frequency,
+                      String strategyKey) {
+            CircuitComponent[] sorted = components.toArray(new CircuitComponent[0]);
+            Arrays.sort(sorted, ORDER);
+
+            String[] types = new String[sorted.length];
+            long[] values = new long[sorted.length];
+            for (int k = 0; k < sorted.length; k++) {
+                types[k] = sorted[k].getType();
+                values[k] = Double.doubleToLongBits(sorted[k].getValue());
+            }
+            return new Key(types, values, voltage, frequency, strategyKey);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key that = (Key) obj;
+            return hash == that.hash
+                && voltage == that.voltage
+                && frequency == that.frequency
+                && strategyKey.equals(that.strategyKey)
+                && Arrays.equals(values, that.values)
+                && Arrays.equals(types, that.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,63 +1,125 @@
 package com.simulador.engine;
 
-import com.simulador.model.CircuitComponent;
-import com.simulador.model.SimulationResult;
-import java.util.List;
-
 /**
  * Estrategia de cálculo usando el método de Runge-Kutta 4to orden
  * Calculation strategy using 4th order Runge-Kutta method
+ *
+ * Integra con paso fijo las ecuaciones de estado (v_C, i_L) del circuito serie.
+ * El paso divide exactamente el período de la fuente y se reduce si el circuito
+ * lo exige para mantener la estabilidad.
  */
-public class RungeKutta4Strategy implements SimulationStrategy {
-    
-    private static final double TIME_STEP = 1e-5; // 10 microsegundos
-    
+public class RungeKutta4Strategy extends TransientStrategy {
+
+    private static final double STABILITY_LIMIT = 2.5; // h·|λ| máximo (RK4 es estable hasta ~2.78)
+    private static final long MAX_STEPS = 20_000_000;
+
+    public RungeKutta4Strategy() {
+        super();
+    }
+
+    public RungeKutta4Strategy(int sampleCount) {
+        super(sampleCount);
+    }
+
     @Override
-    public String getName() { 
-        return "Runge-Kutta4"; 
+    public String getName() {
+        return "Runge-Kutta4";
     }
-    
+
     @Override
     public String getDescription() {
         return "Método numérico Runge-Kutta 4to orden para alta precisión";
     }
-    
+
     @Override
-    public SimulationResult calculate(List<CircuitComponent> components, 
-                                     double voltage, double frequency) {
-        // Validaciones
-        if (components == null || components.isEmpty()) {
-            throw new IllegalArgumentException("Component list cannot be null or empty");
-        }
-        if (voltage <= 0) {
-            throw new IllegalArgumentException("Voltage must be positive");
-        }
-        if (frequency <= 0) {
-            throw new IllegalArgumentException("Frequency must be positive");
+    long maxCycles(RLCStateSpace model, double period) {
+        return Math.max(1, MAX_STEPS / stepsPerPeriod(model, period));
+    }
+
+    private long stepsPerPeriod(RLCStateSpace model, double period) {
+        double hMax = Math.min(TIME_STEP, period / STEPS_PER_CYCLE);
+        double rho = model.spectralRadius();
+        if (rho > 0) {
+            hMax = Math.min(hMax, STABILITY_LIMIT / rho);
         }
-        
-        try {
-            // Para simplificar, usamos el método analítico como base
-            // En una implementación real, aquí iría RK4
-            SimulationStrategy analytical = new AnalyticalStrategy();
-            SimulationResult baseResult = analytical.calculate(components, voltage, frequency);
-            
-            // Aplicar pequeñas correcciones para simular mayor precisión de RK4
-            double correctionFactor = 1.0 + (TIME_STEP * frequency * 0.001);
-            double correctedCurrent = baseResult.getCurrent() * correctionFactor;
-            
-            return new SimulationResult(
-                baseResult.getImpedance(),
-                correctedCurrent,
-                baseResult.getPhaseAngle(),
-                baseResult.getActivePower() * correctionFactor,
-                baseResult.getReactivePower(),
-                baseResult.getApparentPower() * correctionFactor,
-                baseResult.getPowerFactor()
-            );
-            
-        } catch (Exception e) {
-            throw new RuntimeException("Error in Runge-Kutta calculation: " + e.getMessage(), e);
+        return (long) Math.ceil(period / hMax);
+    }
+
+    @Override
+    long estimateEvaluations(RLCStateSpace model, double period, long cycles) {
+        return 4 * stepsPerPeriod(model, period) * cycles;
+    }
+
+    // Calibrado contra la solución analítica: (hω)⁴/8 sin rigidez; a medida que h·ρ se
+    // acerca al límite de estabilidad la respuesta forzada cae a orden 2 (≈ (hω)²)
+    @Override
+    double estimateError(RLCStateSpace model, double period) {
+        double h = period / stepsPerPeriod(model, period);
+        double hw = 2 * Math.PI * h / period;
+        double hr = Math.min(1, h * model.spectralRadius());
+        return hw * hw * hw * hw / 8 + hw * hw * hr * hr * hr * hr;
+    }
+
+    @Override
+    void integrate(RLCStateSpace m, double amplitude, double omega,
+                   double duration, TransientRecorder recorder) {
+        double period = 2 * Math.PI / omega;
+        long stepsPerPeriod = stepsPerPeriod(m, period);
+        long totalSteps = Math.round(duration / period) * stepsPerPeriod;
+        double h = period / stepsPerPeriod;
+        double h2 = 0.5 * h;
+        double h6 = h / 6.0;
+
+        // Rotación de medio paso para generar sin(ωt) sin llamar a Math.sin en el bucle
+        double sh = Math.sin(omega * h2);
+        double ch = Math.cos(omega * h2);
+        double s = 0, c = 1;
+
+        double x1 = 0, x2 = 0; // v_C, i_L
+        recorder.start(m.current(x1, x2, 0), x1);
+
+        long phaseStep = 0;
+        for (long k = 0; k < totalSteps; k++) {
+            if (phaseStep == stepsPerPeriod) {
+                // Resincronizar al inicio de cada período para evitar deriva
+                s = 0;
+                c = 1;
+                phaseStep = 0;
+            }
+            double sm = s * ch + c * sh;
+            double cm = c * ch - s * sh;
+            double s1 = sm * ch + cm * sh;
+            double c1 = cm * ch - sm * sh;
+
+            double v0 = amplitude * s;
+            double vm = amplitude * sm;
+            double v1 = amplitude * s1;
+
+            double k1a = m.a11 * x1 + m.a12 * x2 + m.b1 * v0;
+            double k1b = m.a21 * x1 + m.a22 * x2 + m.b2 * v0;
+
+            double ya = x1 + h2 * k1a, yb = x2 + h2 * k1b;
+            double k2a = m.a11 * ya + m.a12 * yb + m.b1 * vm;
+            double k2b = m.a21 * ya + m.a22 * yb + m.b2 * vm;
+
+            ya = x1 + h2 * k2a;
+            yb = x2 + h2 * k2b;
+            double k3a = m.a11 * ya + m.a12 * yb + m.b1 * vm;
+            double k3b = m.a21 * ya + m.a22 * yb + m.b2 * vm;
+
+            ya = x1 + h * k3a;
+            yb = x2 + h * k3b;
+            double k4a = m.a11 * ya + m.a12 * yb + m.b1 * v1;
+            double k4b = m.a21 * ya + m.a22 * yb + m.b2 * v1;
+
+            x1 += h6 * (k1a + 2 * k2a + 2 * k3a + k4a);
+            x2 += h6 * (k1b + 2 * k2b + 2 * k3b + k4b);
+
+            s = s1;
+            c = c1;
+            phaseStep++;
+
+            recorder.accept((k + 1) * h, m.current(x1, x2, v1), x1);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.simulador.engine;
+
+import com.simulador.model.CircuitComponent;
+import java.util.List;
+
+/**
+ * Escenario de simulación AC: componentes, voltaje, frecuencia y estrategia
+ * AC simulation scenario: components, voltage, frequency and strategy
+ *
+ * La lista de componentes se copia al construir, así que el escenario es inmutable
+ * y puede evaluarse desde cualquier hilo.
+ */
+public final class Scenario {
+    private final List<CircuitComponent> components;
+    private final double voltage;
+    private final double frequency;
+    private final SimulationStrategy strategy;
+
+    public Scenario(List<CircuitComponent> components, double voltage, double frequency) {
+        this(components, voltage, frequency, new AnalyticalStrategy());
+    }
+
+    public Scenario(List<CircuitComponent> components, double voltage, double frequency,
+                    SimulationStrategy strategy) {
+        if (components == null || components.isEmpty()) {
+            throw new IllegalArgumentException("Component list cannot be null or empty");
+        }
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        this.components = List.copyOf(components);
+        this.voltage = voltage;
+        this.frequency = frequency;
+        this.strategy = strategy;
+    }
+
+    // Getters
+    public List<CircuitComponent> getComponents() { return components; }
+    public double getVoltage() { return voltage; }
+    public double getFrequency() { return frequency; }
+    public SimulationStrategy getStrategy() { return strategy; }
+
+    @Override
+    public String toString() {
+        return String.format("Scenario[%d components, V=%.3fV, f=%.3fHz, %s]",
+            components.size(), voltage, frequency, strategy.getName());
+    }
+}
@@ -0,0 +1,34 @@
+package com.simulador.engine;
+
+import com.simulador.model.SimulationResult;
+
+/**
+ * Resultado de un escenario dentro de un lote: el régimen permanente más su origen
+ * Result of one scenario within a batch: the steady state plus where it came from
+ *
+ * {@link #getResult()} devuelve el resultado original de la estrategia (por ejemplo,
+ * un TransientResult con sus muestras).
+ */
+public class ScenarioResult extends SimulationResult {
+    private final int index;
+    private final Scenario scenario;
+    private final SimulationResult result;
+
+    public ScenarioResult(int index, Scenario scenario, SimulationResult result) {
+        // Copia también las cifras de forma de onda y la selección de método
+        super(result, result.getMethodSelection());
+        this.index = index;
+        this.scenario = scenario;
+        this.result = result;
+    }
+
+    // Getters
+    public int getIndex() { return index; }
+    public Scenario getScenario() { return scenario; }
+    public SimulationResult getResult() { return result; }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s -> %s", index, scenario, result);
+    }
+}
@@ -0,0 +1,222 @@
+package com.simulador.engine;
+
+import com.simulador.model.GridQuantity;
+
+/**
+ * Núcleos del RLC serie sobre arreglos: barrido, filas de la grilla y Monte Carlo
+ * Series RLC kernels over arrays: sweep, grid rows and Monte Carlo
+ *
+ * Hay dos implementaciones con la misma interfaz: la escalar, siempre disponible, y una
+ * SIMD sobre {@code jdk.incubator.vector} que se usa sólo si la JVM arrancó con
+ * {@code --add-modules jdk.incubator.vector}. La propiedad {@code -Dsimulador.vector=false}
+ * o {@link #setVectorEnabled(boolean)} fuerzan la escalar. Las dos hacen las mismas
+ * operaciones en el mismo orden, así que los resultados coinciden bit a bit salvo la
+ * fase, cuyo atan2 vectorial puede diferir en la última cifra.
+ */
+public final class SeriesKernels {
+
+    public static final String VECTOR_PROPERTY = "simulador.vector";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_BACKEND = "com.simulador.engine.VectorSeriesKernels";
+
+    /**
+     * Operaciones que cada implementación provee sobre el rango [from, to)
+     * Operations every implementation provides over the range [from, to)
+     */
+    interface Backend {
+        String getName();
+
+        int getLaneCount();
+
+        /** Z, I, φ, P, Q, S y fp de cada frecuencia de {@code f} */
+        void sweep(double resistance, double inductance, double inverseCapacitance, double voltage,
+                   double[] f, int from, int to, double[] z, double[] i, double[] phi,
+                   double[] p, double[] q, double[] s, double[] pf);
+
+        /** Una fila de la grilla con X = ω·L − (1/C)·(1/ω), escrita desde {@code base} */
+        void gridRow(GridQuantity quantity, double voltage, double resistance, double inductance,
+                     double inverseCapacitance, double[] w, double[] inverseW, int from, int to,
+                     double[] data, int base);
+
+        /**
+         * I, fp y f0 de cada muestra (R, L, C); la salida puede ser la misma que la entrada
+         * I, pf and f0 of every (R, L, C) sample; outputs may alias the inputs
+         */
+        void evaluate(double omega, double voltage, double[] resistance, double[] inductance,
+                      double[] capacitance, int from, int to, double[] current,
+                      double[] powerFactor, double[] resonantFrequency);
+    }
+
+    private static final Backend SCALAR = new Scalar();
+    private static final Backend VECTOR = loadVector();
+    private static volatile Backend active =
+        VECTOR != null && !"false".equalsIgnoreCase(System.getProperty(VECTOR_PROPERTY)) ? VECTOR : SCALAR;
+
+    private SeriesKernels() {
+    }
+
+    private static Backend loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            Backend backend = (Backend) Class.forName(VECTOR_BACKEND)
+                .getDeclaredConstructor().newInstance();
+            return backend.getLaneCount() > 1 ? backend : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Indica si la implementación SIMD puede usarse en esta JVM
+     * Whether the SIMD implementation can be used on this JVM
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR != null;
+    }
+
+    public static boolean isVectorEnabled() {
+        return active == VECTOR && VECTOR != null;
+    }
+
+    /**
+     * Activa o desactiva la implementación SIMD; sin ella disponible no tiene efecto
+     * Enables or disables the SIMD implementation; no effect when it is unavailable
+     */
+    public static void setVectorEnabled(boolean enabled) {
+        active = enabled && VECTOR != null ? VECTOR : SCALAR;
+    }
+
+    public static String getBackendName() {
+        return active.getName();
+    }
+
+    /**
+     * Elementos procesados por instrucción en la implementación activa
+     * Elements processed per instruction by the active implementation
+     */
+    public static int getLaneCount() {
+        return active.getLaneCount();
+    }
+
+    static void sweep(double resistance, double inductance, double inverseCapacitance, double voltage,
+                      double[] f, int from, int to, double[] z, double[] i, double[] phi,
+                      double[] p, double[] q, double[] s, double[] pf) {
+        active.sweep(resistance, inductance, inverseCapacitance, voltage,
+                     f, from, to, z, i, phi, p, q, s, pf);
+    }
+
+    static void gridRow(GridQuantity quantity, double voltage, double resistance, double inductance,
+                        double inverseCapacitance, double[] w, double[] inverseW, int from, int to,
+                        double[] data, int base) {
+        active.gridRow(quantity, voltage, resistance, inductance, inverseCapacitance,
+                       w, inverseW, from, to, data, base);
+    }
+
+    static void evaluate(double omega, double voltage, double[] resistance, double[] inductance,
+                         double[] capacitance, int from, int to, double[] current,
+                         double[] powerFactor, double[] resonantFrequency) {
+        active.evaluate(omega, voltage, resistance, inductance, capacitance, from, to,
+                        current, powerFactor, resonantFrequency);
+    }
+
+    /**
+     * Implementación escalar; la SIMD la usa también para el resto que no llena un vector
+     * Scalar implementation; the SIMD one also uses it for the tail that does not fill a vector
+     */
+    static final class Scalar implements Backend {
+
+        @Override
+        public String getName() {
+            return "Scalar";
+        }
+
+        @Override
+        public int getLaneCount() {
+            return 1;
+        }
+
+        @Override
+        public void sweep(double resistance, double inductance, double inverseCapacitance,
+                          double voltage, double[] f, int from, int to, double[] z, double[] i,
+                          double[] phi, double[] p, double[] q, double[] s, double[] pf) {
+            double r = resistance;
+            double l = inductance;
+            double invC = inverseCapacitance;
+            double v = voltage;
+            for (int k = from; k < to; k++) {
+                double w = 2 * Math.PI * f[k];
+                double x = w * l - invC / w;
+                double zk = Math.sqrt(r * r + x * x);
+                double ik = v / zk;
+                double sk = v * ik;
+                double cos = r / zk;
+                z[k] = zk;
+                i[k] = ik;
+                phi[k] = Math.atan2(x, r);
+                p[k] = sk * cos;
+                q[k] = sk * (x / zk);
+                s[k] = sk;
+                pf[k] = cos;
+            }
+        }
+
+        @Override
+        public void gridRow(GridQuantity quantity, double voltage, double resistance,
+                            double inductance, double inverseCapacitance, double[] w,
+                            double[] inverseW, int from, int to, double[] data, int base) {
+            double res = resistance;
+            double l = inductance;
+            double invC = inverseCapacitance;
+            double r2 = res * res;
+
+            // La magnitud se elige fuera del bucle interno
+            switch (quantity) {
+                case CURRENT:
+                    for (int c = from; c < to; c++) {
+                        double x = w[c] * l - invC * inverseW[c];
+                        data[base + c] = voltage / Math.sqrt(r2 + x * x);
+                    }
+                    break;
+                case IMPEDANCE:
+                    for (int c = from; c < to; c++) {
+                        double x = w[c] * l - invC * inverseW[c];
+                        data[base + c] = Math.sqrt(r2 + x * x);
+                    }
+                    break;
+                case POWER_FACTOR:
+                    for (int c = from; c < to; c++) {
+                        double x = w[c] * l - invC * inverseW[c];
+                        data[base + c] = res / Math.sqrt(r2 + x * x);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown grid quantity: " + quantity);
+            }
+        }
+
+        @Override
+        public void evaluate(double omega, double voltage, double[] resistance,
+                             double[] inductance, double[] capacitance, int from, int to,
+                             double[] current, double[] powerFactor, double[] resonantFrequency) {
+            double w = omega;
+            double v = voltage;
+            for (int k = from; k < to; k++) {
+                double r = resistance[k];
+                double l = inductance[k];
+                double c = capacitance[k];
+
+                // Mismas fórmulas que AnalyticalStrategy (capacitor ausente = cortocircuito)
+                double invC = c > 0 ? 1.0 / c : 0;
+                double x = w * l - invC / w;
+                double z = Math.sqrt(r * r + x * x);
+                current[k] = v / z;
+                powerFactor[k] = r / z;
+                resonantFrequency[k] = l > 0 && c > 0
+                    ? 1.0 / (2 * Math.PI * Math.sqrt(l * c)) : Double.NaN;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.simulador.engine;
 
 import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
 import com.simulador.model.SimulationResult;
 import java.util.List;
 
@@ -10,18 +11,36 @@ import java.util.List;
  */
 public interface SimulationStrategy {
     
+    /**
+     * Calcula los resultados del circuito compilado
+     * Calculates results for the compiled circuit
+     */
+    SimulationResult calculate(CompiledCircuit circuit, double voltage, double frequency);
+
     /**
      * Calcula los resultados del circuito
      * Calculates circuit results
      */
-    SimulationResult calculate(List<CircuitComponent> components, 
-                              double voltage, double frequency);
+    default SimulationResult calculate(List<CircuitComponent> components, 
+                                       double voltage, double frequency) {
+        return calculate(CompiledCircuit.compile(components), voltage, frequency);
+    }
     
     /**
      * Obtiene el nombre del método
      * Gets the method name
      */
     String getName();
+
+    /**
+     * Identifica el método y su configuración; dos estrategias con la misma clave
+     * deben producir el mismo resultado. Es la clave de la caché de resultados.
+     * Identifies the method and its settings; strategies sharing a key must produce
+     * the same result. It is what the result cache keys on.
+     */
+    default String getConfigurationKey() {
+        return getName();
+    }
     
     /**
      * Obtiene la descripción del método
@@ -34,6 +53,15 @@ public interface SimulationStrategy {
      * Validates if the method is applicable for given components
      */
     default boolean isValidFor(List<CircuitComponent> components) {
-        return components != null && !components.isEmpty();
+        return components != null && !components.isEmpty()
+            && isValidFor(CompiledCircuit.compile(components));
+    }
+
+    /**
+     * Valida si el método es aplicable para el circuito compilado
+     * Validates if the method is applicable for the compiled circuit
+     */
+    default boolean isValidFor(CompiledCircuit circuit) {
+        return circuit != null;
     }
 }
\ No newline at end of file
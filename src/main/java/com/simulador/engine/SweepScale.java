@@ -0,0 +1,48 @@
+package com.simulador.engine;
+
+/**
+ * Distribución de los puntos de un barrido
+ * Point distribution of a sweep
+ */
+public enum SweepScale {
+    LINEAR("Lineal"),
+    LOGARITHMIC("Logarítmica");
+
+    private final String displayName;
+
+    SweepScale(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Genera {@code count} puntos entre {@code start} y {@code stop} (extremos exactos)
+     * Generates {@code count} points between {@code start} and {@code stop} (exact endpoints)
+     */
+    public double[] samples(double start, double stop, int count) {
+        double[] points = new double[count];
+        if (this == LOGARITHMIC) {
+            double logStart = Math.log(start);
+            double logStep = (Math.log(stop) - logStart) / (count - 1);
+            for (int k = 0; k < count; k++) {
+                points[k] = Math.exp(logStart + k * logStep);
+            }
+        } else {
+            double step = (stop - start) / (count - 1);
+            for (int k = 0; k < count; k++) {
+                points[k] = start + k * step;
+            }
+        }
+        points[0] = start;
+        points[count - 1] = stop;
+        return points;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,597 @@
+package com.simulador.engine;
+
+import com.simulador.model.ACNetlist;
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.FrequencySweepResult;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Admitancia de entrada Y(s) = Is/Vs compilada a coeficientes para evaluación por Horner
+ * Input admittance Y(s) = Is/Vs compiled to coefficients for Horner evaluation
+ *
+ * Para una topología y valores fijos, Y(s) es un cociente de polinomios reales de grado
+ * no mayor que la cantidad de inductores y capacitores. Se deriva una sola vez y luego
+ * cada frecuencia cuesta unas pocas multiplicaciones, sin recorrer el netlist ni
+ * factorizar. Los coeficientes se guardan en la variable normalizada u = s/σ, con σ
+ * la frecuencia característica del circuito, y separados en potencias pares e impares
+ * para que en s = jω el polinomio se evalúe con dos Horner reales en −(ω/σ)².
+ *
+ * Es inmutable: una misma instancia puede compartirse entre hilos. En órdenes altos la
+ * representación por coeficientes pierde precisión junto a los bordes de banda (del
+ * orden de 1e-3 relativo en una escalera LC de orden 30); ahí conviene {@link ACNodalSolver}.
+ */
+public final class TransferFunction {
+
+    /** Máxima cantidad de elementos reactivos que se aceptan al derivar desde un netlist */
+    public static final int MAX_ORDER = 40;
+
+    // Coeficientes menores que esta fracción del mayor son ruido de la interpolación
+    private static final double TRIM_TOLERANCE = 1e-12;
+
+    private static final int RESISTOR = 0;
+    private static final int INDUCTOR = 1;
+    private static final int CAPACITOR = 2;
+
+    private final double frequencyScale;
+    private final double gain;
+    private final double[] numerator;   // potencias crecientes de u
+    private final double[] denominator;
+    private final double[] numEven, numOdd;
+    private final double[] denEven, denOdd;
+
+    private TransferFunction(double frequencyScale, double gain,
+                             double[] numerator, double[] denominator) {
+        this.frequencyScale = frequencyScale;
+        this.gain = gain;
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.numEven = split(numerator, 0);
+        this.numOdd = split(numerator, 1);
+        this.denEven = split(denominator, 0);
+        this.denOdd = split(denominator, 1);
+    }
+
+    /**
+     * Forma cerrada del RLC serie: Y(s) = sC / (1 + sRC + s²LC), o 1/(R + sL) sin capacitor
+     * Closed form of the series RLC: Y(s) = sC / (1 + sRC + s²LC), or 1/(R + sL) without a capacitor
+     */
+    public static TransferFunction of(CompiledCircuit circuit) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (!circuit.hasResistance() && !circuit.hasInductance() && !circuit.hasCapacitance()) {
+            throw new IllegalArgumentException("Circuit has no components");
+        }
+        double r = circuit.getResistance();
+        double l = circuit.getInductance();
+        double c = circuit.getCapacitance();
+        if (circuit.hasCapacitance()) {
+            double sigma = circuit.hasResonance() ? circuit.getResonantAngularFrequency()
+                         : r > 0 ? 1 / (r * c) : 1;
+            return normalized(sigma, new double[] { 0, c }, new double[] { 1, r * c, l * c });
+        }
+        double sigma = l > 0 && r > 0 ? r / l : 1;
+        return normalized(sigma, new double[] { 1 }, new double[] { r, l });
+    }
+
+    /**
+     * Deriva Y(s) de un netlist arbitrario
+     * Derives Y(s) from an arbitrary netlist
+     *
+     * Por el teorema de Schur, Y(s) = det Yn(s) / det Yr(s), donde Yn es la matriz de
+     * admitancias de todos los nodos salvo tierra y Yr la misma sin el nodo de la fuente.
+     * Multiplicados por s^(inductores) los dos determinantes son polinomios de grado a lo
+     * sumo m = inductores + capacitores, así que se evalúan en m + 1 puntos del círculo
+     * |s| = σ y los coeficientes salen de una DFT inversa, que está bien condicionada.
+     * El costo es (m + 1) factorizaciones densas; conviene para netlists chicos o medianos.
+     */
+    public static TransferFunction of(ACNetlist netlist) {
+        if (netlist == null) {
+            throw new IllegalArgumentException("Netlist cannot be null");
+        }
+        if (!netlist.hasSource()) {
+            throw new IllegalArgumentException("Netlist has no source");
+        }
+        List<ACNetlist.Element> elements = netlist.getElements();
+        int nodes = netlist.getNodeCount();
+        boolean[] connected = new boolean[nodes];
+        for (ACNetlist.Element e : elements) {
+            connected[e.getNodeA()] = true;
+            connected[e.getNodeB()] = true;
+        }
+        for (int node = 1; node < nodes; node++) {
+            if (!connected[node]) {
+                throw new IllegalArgumentException("Node " + node + " is not connected");
+            }
+        }
+
+        // Escalas: conductancia de referencia G0 y frecuencia σ donde |yL| ≈ |yC| ≈ G0
+        int inductors = 0, capacitors = 0, resistors = 0;
+        double logConductance = 0, logFrequency = 0;
+        for (ACNetlist.Element e : elements) {
+            if ("Resistance".equals(e.getType())) {
+                logConductance -= Math.log(e.getValue());
+                resistors++;
+            }
+        }
+        double g0 = resistors > 0 ? Math.exp(logConductance / resistors) : 1;
+        for (ACNetlist.Element e : elements) {
+            switch (e.getType()) {
+                case "Inductor":
+                    logFrequency -= Math.log(g0 * e.getValue());
+                    inductors++;
+                    break;
+                case "Capacitor":
+                    logFrequency += Math.log(g0 / e.getValue());
+                    capacitors++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        int order = inductors + capacitors;
+        if (order > MAX_ORDER) {
+            throw new IllegalArgumentException("Netlist has more than " + MAX_ORDER + " reactive elements");
+        }
+        double sigma = order > 0 ? Math.exp(logFrequency / order) : 1;
+
+        // Fila/columna 0 = nodo de la fuente; el resto, los demás nodos en orden
+        int size = nodes - 1;
+        int source = netlist.getSourceNode();
+        int[] index = new int[nodes];
+        index[ACNetlist.GROUND] = -1;
+        index[source] = 0;
+        for (int node = 1, next = 1; node < nodes; node++) {
+            if (node != source) {
+                index[node] = next++;
+            }
+        }
+        int m = elements.size();
+        int[] kind = new int[m];
+        double[] value = new double[m];
+        int[] rowA = new int[m], rowB = new int[m];
+        for (int e = 0; e < m; e++) {
+            ACNetlist.Element element = elements.get(e);
+            rowA[e] = index[element.getNodeA()];
+            rowB[e] = index[element.getNodeB()];
+            switch (element.getType()) {
+                case "Resistance":
+                    kind[e] = RESISTOR;
+                    value[e] = 1 / (g0 * element.getValue());    // G/G0
+                    break;
+                case "Inductor":
+                    kind[e] = INDUCTOR;
+                    value[e] = 1 / (sigma * g0 * element.getValue()); // yL/G0 = value/u
+                    break;
+                default:
+                    kind[e] = CAPACITOR;
+                    value[e] = sigma * element.getValue() / g0;  // yC/G0 = value·u
+                    break;
+            }
+        }
+
+        int points = order + 1;
+        double[] fullRe = new double[points], fullIm = new double[points];
+        double[] reducedRe = new double[points], reducedIm = new double[points];
+        int[] fullExp = new int[points], reducedExp = new int[points];
+        double[] re = new double[size * size], im = new double[size * size];
+        double[] det = new double[2];
+        for (int k = 0; k < points; k++) {
+            double theta = 2 * Math.PI * k / points;
+            double uRe = Math.cos(theta), uIm = Math.sin(theta);
+
+            Arrays.fill(re, 0);
+            Arrays.fill(im, 0);
+            for (int e = 0; e < m; e++) {
+                double yRe, yIm;
+                if (kind[e] == RESISTOR) {
+                    yRe = value[e];
+                    yIm = 0;
+                } else if (kind[e] == INDUCTOR) {
+                    yRe = value[e] * uRe;       // value/u con |u| = 1
+                    yIm = -value[e] * uIm;
+                } else {
+                    yRe = value[e] * uRe;
+                    yIm = value[e] * uIm;
+                }
+                int a = rowA[e], b = rowB[e];
+                if (a >= 0) { re[a * size + a] += yRe; im[a * size + a] += yIm; }
+                if (b >= 0) { re[b * size + b] += yRe; im[b * size + b] += yIm; }
+                if (a >= 0 && b >= 0) {
+                    re[a * size + b] -= yRe; im[a * size + b] -= yIm;
+                    re[b * size + a] -= yRe; im[b * size + a] -= yIm;
+                }
+            }
+
+            // u^(inductores)·det, con |u| = 1 basta rotar la fase
+            double turnRe = Math.cos(inductors * theta), turnIm = Math.sin(inductors * theta);
+            double[] reduced = minor(re, size);
+            double[] reducedImag = minor(im, size);
+            reducedExp[k] = determinant(reduced, reducedImag, size - 1, det);
+            reducedRe[k] = det[0] * turnRe - det[1] * turnIm;
+            reducedIm[k] = det[0] * turnIm + det[1] * turnRe;
+            fullExp[k] = determinant(re, im, size, det);
+            fullRe[k] = det[0] * turnRe - det[1] * turnIm;
+            fullIm[k] = det[0] * turnIm + det[1] * turnRe;
+        }
+
+        int fullScale = align(fullRe, fullIm, fullExp);
+        int reducedScale = align(reducedRe, reducedIm, reducedExp);
+        double[] p = interpolate(fullRe, fullIm);
+        double[] q = interpolate(reducedRe, reducedIm);
+        if (isZero(q)) {
+            throw new IllegalArgumentException("Netlist is singular: some node has no path to ground");
+        }
+        if (isZero(p)) {
+            throw new IllegalArgumentException("Source sees an open circuit");
+        }
+        return trimmed(sigma, g0 * Math.scalb(1.0, fullScale - reducedScale), p, q);
+    }
+
+    // Getters
+    public double getFrequencyScale() { return frequencyScale; }
+
+    /**
+     * Grado del denominador (orden del circuito visto por la fuente)
+     * Denominator degree (order of the circuit seen by the source)
+     */
+    public int getOrder() {
+        return denominator.length - 1;
+    }
+
+    /**
+     * Coeficientes del numerador en potencias crecientes de s
+     * Numerator coefficients in increasing powers of s
+     *
+     * Junto con {@link #getDenominator()} se cumple Y(s) = Σ nₖ·sᵏ / Σ dₖ·sᵏ.
+     */
+    public double[] getNumerator() {
+        return unscaled(numerator, gain);
+    }
+
+    public double[] getDenominator() {
+        return unscaled(denominator, 1);
+    }
+
+    /**
+     * Admitancia de entrada Y(jω) a una frecuencia; NaN si el denominador se anula
+     * Input admittance Y(jω) at one frequency; NaN when the denominator vanishes
+     */
+    public void admittance(double frequency, MutableComplex out) {
+        double v = 2 * Math.PI * frequency / frequencyScale;
+        double x = -v * v;
+        double nRe = horner(numEven, x), nIm = v * horner(numOdd, x);
+        double dRe = horner(denEven, x), dIm = v * horner(denOdd, x);
+        if (dRe == 0 && dIm == 0) {
+            out.set(Double.NaN, Double.NaN);
+            return;
+        }
+        out.set(nRe, nIm).divide(dRe, dIm).scale(gain);
+    }
+
+    /**
+     * Impedancia de entrada Vs/Is; NaN si la fuente ve un circuito abierto
+     * Input impedance Vs/Is; NaN when the source sees an open circuit
+     */
+    public void inputImpedance(double frequency, MutableComplex out) {
+        double v = 2 * Math.PI * frequency / frequencyScale;
+        double x = -v * v;
+        double nRe = horner(numEven, x), nIm = v * horner(numOdd, x);
+        double dRe = horner(denEven, x), dIm = v * horner(denOdd, x);
+        if (nRe == 0 && nIm == 0) {
+            out.set(Double.NaN, Double.NaN);
+            return;
+        }
+        out.set(dRe, dIm).divide(nRe, nIm).scale(1 / gain);
+    }
+
+    /**
+     * Barrido en frecuencia de las magnitudes vistas por la fuente
+     * Frequency sweep of the quantities seen by the source
+     *
+     * Mismas columnas que {@link ACNodalSolver#sweep}; un polo sobre el eje jω (tanque
+     * LC ideal) deja el punto en NaN.
+     */
+    public FrequencySweepResult sweep(double voltage, double fStart, double fStop,
+                                      int points, SweepScale scale) {
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (fStart <= 0 || fStop <= fStart) {
+            throw new IllegalArgumentException("Frequency range must be positive and increasing");
+        }
+        if (points < 2) {
+            throw new IllegalArgumentException("Sweep needs at least 2 points");
+        }
+        if (scale == null) {
+            throw new IllegalArgumentException("Sweep scale cannot be null");
+        }
+
+        double[] f = scale.samples(fStart, fStop, points);
+        double[] z = new double[points];
+        double[] i = new double[points];
+        double[] phi = new double[points];
+        double[] p = new double[points];
+        double[] q = new double[points];
+        double[] s = new double[points];
+        double[] pf = new double[points];
+
+        MutableComplex y = new MutableComplex();
+        for (int k = 0; k < points; k++) {
+            admittance(f[k], y);
+            double ik = voltage * y.abs();
+            double angle = -y.arg();
+            double sk = voltage * ik;
+            double cos = Math.cos(angle);
+            z[k] = voltage / ik;
+            i[k] = ik;
+            phi[k] = angle;
+            p[k] = sk * cos;
+            q[k] = sk * Math.sin(angle);
+            s[k] = sk;
+            pf[k] = cos;
+        }
+        return new FrequencySweepResult(voltage, f, z, i, phi, p, q, s, pf);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TransferFunction[order=%d, σ=%.4g rad/s, num=%s, den=%s]",
+            getOrder(), frequencyScale, Arrays.toString(getNumerator()),
+            Arrays.toString(getDenominator()));
+    }
+
+    /**
+     * Clave de caché: mismo netlist elemento por elemento (tipo, nodos y valor) y misma fuente
+     * Cache key: same netlist element by element (type, nodes and value) and same source
+     */
+    static final class Key {
+        private final int source;
+        private final String[] types;
+        private final int[] nodes;
+        private final long[] values;
+        private final int hash;
+
+        private Key(int source, String[] types, int[] nodes, long[] values) {
+            this.source = source;
+            this.types = types;
+            this.nodes = nodes;
+            this.values = values;
+            int h = Integer.hashCode(source);
+            h = 31 * h + Arrays.hashCode(types);
+            h = 31 * h + Arrays.hashCode(nodes);
+            h = 31 * h + Arrays.hashCode(values);
+            this.hash = h;
+        }
+
+        static Key of(ACNetlist netlist) {
+            List<ACNetlist.Element> elements = netlist.getElements();
+            int m = elements.size();
+            String[] types = new String[m];
+            int[] nodes = new int[2 * m];
+            long[] values = new long[m];
+            for (int e = 0; e < m; e++) {
+                ACNetlist.Element element = elements.get(e);
+                types[e] = element.getType();
+                nodes[2 * e] = element.getNodeA();
+                nodes[2 * e + 1] = element.getNodeB();
+                values[e] = Double.doubleToLongBits(element.getValue());
+            }
+            return new Key(netlist.getSourceNode(), types, nodes, values);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key that = (Key) obj;
+            return hash == that.hash
+                && source == that.source
+                && Arrays.equals(values, that.values)
+                && Arrays.equals(nodes, that.nodes)
+                && Arrays.equals(types, that.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Coeficientes en s → en u = s/σ, normalizados al mayor del denominador
+    private static TransferFunction normalized(double sigma, double[] num, double[] den) {
+        double[] p = new double[num.length];
+        double[] q = new double[den.length];
+        double power = 1;
+        for (int k = 0; k < Math.max(p.length, q.length); k++) {
+            if (k < p.length) p[k] = num[k] * power;
+            if (k < q.length) q[k] = den[k] * power;
+            power *= sigma;
+        }
+        return trimmed(sigma, 1, p, q);
+    }
+
+    // Descarta el ruido y los factores u comunes, y normaliza el denominador
+    private static TransferFunction trimmed(double sigma, double gain, double[] p, double[] q) {
+        zeroNoise(p);
+        zeroNoise(q);
+        int shift = Math.min(lowest(p), lowest(q));
+        double[] num = Arrays.copyOfRange(p, shift, highest(p) + 1);
+        double[] den = Arrays.copyOfRange(q, shift, highest(q) + 1);
+
+        double scaleP = maxAbs(num), scaleQ = maxAbs(den);
+        for (int k = 0; k < num.length; k++) num[k] /= scaleP;
+        for (int k = 0; k < den.length; k++) den[k] /= scaleQ;
+        return new TransferFunction(sigma, gain * scaleP / scaleQ, num, den);
+    }
+
+    private double[] unscaled(double[] coefficients, double factor) {
+        double[] out = new double[coefficients.length];
+        double power = factor;
+        for (int k = 0; k < out.length; k++) {
+            out[k] = coefficients[k] * power;
+            power /= frequencyScale;
+        }
+        return out;
+    }
+
+    // Coeficientes de índice paridad, paridad + 2, ... (Horner en u²)
+    private static double[] split(double[] coefficients, int parity) {
+        double[] out = new double[Math.max(0, (coefficients.length - parity + 1) / 2)];
+        for (int k = 0; k < out.length; k++) {
+            out[k] = coefficients[2 * k + parity];
+        }
+        return out;
+    }
+
+    private static double horner(double[] coefficients, double x) {
+        double sum = 0;
+        for (int k = coefficients.length - 1; k >= 0; k--) {
+            sum = sum * x + coefficients[k];
+        }
+        return sum;
+    }
+
+    /**
+     * Coeficientes reales del polinomio de grado n − 1 que toma esos valores en las raíces n-ésimas de la unidad
+     * Real coefficients of the degree n − 1 polynomial taking these values at the n-th roots of unity
+     */
+    private static double[] interpolate(double[] re, double[] im) {
+        int n = re.length;
+        double[] c = new double[n];
+        for (int j = 0; j < n; j++) {
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                double angle = 2 * Math.PI * ((long) j * k % n) / n;
+                sum += re[k] * Math.cos(angle) + im[k] * Math.sin(angle);
+            }
+            c[j] = sum / n;
+        }
+        return c;
+    }
+
+    /**
+     * Determinante por LU denso con pivoteo parcial; destruye la matriz
+     * Determinant by dense LU with partial pivoting; destroys the matrix
+     *
+     * Deja la mantisa compleja en {@code out} y devuelve el exponente binario, para
+     * que redes grandes no desborden el producto de pivotes.
+     */
+    private static int determinant(double[] re, double[] im, int n, double[] out) {
+        double detRe = 1, detIm = 0;
+        int exponent = 0;
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            double best = Math.abs(re[col * n + col]) + Math.abs(im[col * n + col]);
+            for (int row = col + 1; row < n; row++) {
+                double magnitude = Math.abs(re[row * n + col]) + Math.abs(im[row * n + col]);
+                if (magnitude > best) {
+                    best = magnitude;
+                    pivot = row;
+                }
+            }
+            if (best == 0) {
+                out[0] = 0;
+                out[1] = 0;
+                return 0;
+            }
+            if (pivot != col) {
+                for (int j = col; j < n; j++) {
+                    double t = re[col * n + j]; re[col * n + j] = re[pivot * n + j]; re[pivot * n + j] = t;
+                    t = im[col * n + j]; im[col * n + j] = im[pivot * n + j]; im[pivot * n + j] = t;
+                }
+                detRe = -detRe;
+                detIm = -detIm;
+            }
+
+            double pr = re[col * n + col], pi = im[col * n + col];
+            double t = detRe * pr - detIm * pi;
+            detIm = detRe * pi + detIm * pr;
+            detRe = t;
+            int e = Math.getExponent(Math.abs(detRe) + Math.abs(detIm));
+            detRe = Math.scalb(detRe, -e);
+            detIm = Math.scalb(detIm, -e);
+            exponent += e;
+
+            double d = pr * pr + pi * pi;
+            double invRe = pr / d, invIm = -pi / d;
+            for (int row = col + 1; row < n; row++) {
+                double ar = re[row * n + col], ai = im[row * n + col];
+                if (ar == 0 && ai == 0) {
+                    continue;
+                }
+                double lr = ar * invRe - ai * invIm;
+                double li = ar * invIm + ai * invRe;
+                for (int j = col + 1; j < n; j++) {
+                    double ur = re[col * n + j], ui = im[col * n + j];
+                    re[row * n + j] -= lr * ur - li * ui;
+                    im[row * n + j] -= lr * ui + li * ur;
+                }
+            }
+        }
+        out[0] = detRe;
+        out[1] = detIm;
+        return exponent;
+    }
+
+    // Matriz sin la fila y la columna 0
+    private static double[] minor(double[] matrix, int n) {
+        double[] out = new double[(n - 1) * (n - 1)];
+        for (int row = 1; row < n; row++) {
+            System.arraycopy(matrix, row * n + 1, out, (row - 1) * (n - 1), n - 1);
+        }
+        return out;
+    }
+
+    // Lleva todas las muestras al mayor exponente y lo devuelve
+    private static int align(double[] re, double[] im, int[] exponent) {
+        int max = Integer.MIN_VALUE;
+        for (int k = 0; k < re.length; k++) {
+            if (re[k] != 0 || im[k] != 0) {
+                max = Math.max(max, exponent[k]);
+            }
+        }
+        if (max == Integer.MIN_VALUE) {
+            return 0;
+        }
+        for (int k = 0; k < re.length; k++) {
+            re[k] = Math.scalb(re[k], exponent[k] - max);
+            im[k] = Math.scalb(im[k], exponent[k] - max);
+        }
+        return max;
+    }
+
+    private static void zeroNoise(double[] c) {
+        double threshold = TRIM_TOLERANCE * maxAbs(c);
+        for (int k = 0; k < c.length; k++) {
+            if (Math.abs(c[k]) <= threshold) {
+                c[k] = 0;
+            }
+        }
+    }
+
+    private static boolean isZero(double[] c) {
+        return maxAbs(c) == 0;
+    }
+
+    private static double maxAbs(double[] c) {
+        double max = 0;
+        for (double v : c) {
+            max = Math.max(max, Math.abs(v));
+        }
+        return max;
+    }
+
+    private static int lowest(double[] c) {
+        int k = 0;
+        while (k < c.length - 1 && c[k] == 0) k++;
+        return k;
+    }
+
+    private static int highest(double[] c) {
+        int k = c.length - 1;
+        while (k > 0 && c[k] == 0) k--;
+        return k;
+    }
+}
@@ -0,0 +1,173 @@
+package com.simulador.engine;
+
+import com.simulador.model.SimulationResult;
+import com.simulador.model.TransientResult;
+
+/**
+ * Receptor de los pasos de un integrador temporal: guarda muestras en una malla uniforme
+ * y proyecta la corriente sobre la fundamental para obtener el régimen permanente
+ * Sink for time integrator steps: stores samples on a uniform grid and projects the
+ * current onto the fundamental to obtain the steady state
+ *
+ * Los buffers se reservan una sola vez; accept() no crea objetos. Con cero muestras
+ * no se guarda nada y sólo quedan la proyección y los detectores de eventos.
+ */
+final class TransientRecorder {
+    private final double[] time;
+    private final double[] current;
+    private final double[] capacitorVoltage;
+    private final double sampleInterval;
+    private final double omega;
+    private final double measureStart;
+    private final TransientStream stream;
+    private final WaveformDetectors detectors;
+    private int next;
+    private long steps;
+    private long rejectedSteps;
+
+    private double prevT, prevI, prevV;
+
+    // Proyección trapezoidal de i(t) sobre sin(ωt) y cos(ωt)
+    private double sumSin, sumCos, span;
+    private double prevISin, prevICos;
+    private boolean measuring;
+
+    TransientRecorder(int sampleCount, double duration, double omega, double measureStart) {
+        this(sampleCount, duration, omega, measureStart, null, Double.NaN);
+    }
+
+    /**
+     * Con {@code stream} no nulo, además publica cada paso aceptado sin decimar
+     * With a non-null {@code stream}, also publishes every accepted step undecimated
+     *
+     * @param referenceAmplitude amplitud permanente esperada de la corriente, para el
+     *                           sobreimpulso y el establecimiento (NaN si no se conoce)
+     */
+    TransientRecorder(int sampleCount, double duration, double omega, double measureStart,
+                      TransientStream stream, double referenceAmplitude) {
+        int n = sampleCount == 0 ? 0 : Math.max(2, sampleCount);
+        this.time = new double[n];
+        this.current = new double[n];
+        this.capacitorVoltage = new double[n];
+        this.sampleInterval = n > 1 ? duration / (n - 1) : duration;
+        this.omega = omega;
+        this.measureStart = measureStart;
+        this.stream = stream;
+        this.detectors = new WaveformDetectors(omega, referenceAmplitude,
+                                               WaveformDetectors.DEFAULT_SETTLING_BAND);
+    }
+
+    double getMeasureStart() {
+        return measureStart;
+    }
+
+    /**
+     * Registra el estado inicial en t = 0
+     * Records the initial state at t = 0
+     */
+    void start(double i, double vC) {
+        prevT = 0;
+        prevI = i;
+        prevV = vC;
+        next = 0;
+        if (time.length > 0) {
+            store(0, i, vC);
+        }
+        detectors.start(i, vC);
+        if (stream != null) {
+            stream.push(0, i, vC);
+        }
+        if (measureStart <= 0) {
+            beginMeasure(0, i);
+        }
+    }
+
+    /**
+     * Registra el estado al final de un paso aceptado
+     * Records the state at the end of an accepted step
+     */
+    void accept(double t, double i, double vC) {
+        steps++;
+        detectors.accept(t, i, vC);
+        if (stream != null) {
+            stream.push(t, i, vC);
+        }
+        while (next < time.length && next * sampleInterval <= t) {
+            double ts = next * sampleInterval;
+            double w = (t > prevT) ? (ts - prevT) / (t - prevT) : 1.0;
+            store(ts, prevI + w * (i - prevI), prevV + w * (vC - prevV));
+        }
+
+        if (measuring) {
+            double is = i * Math.sin(omega * t);
+            double ic = i * Math.cos(omega * t);
+            double h = t - prevT;
+            sumSin += 0.5 * h * (prevISin + is);
+            sumCos += 0.5 * h * (prevICos + ic);
+            span += h;
+            prevISin = is;
+            prevICos = ic;
+        } else if (t >= measureStart - 1e-9 * (t - prevT)) {
+            // Tolera el redondeo del paso que cae sobre el inicio de la ventana
+            beginMeasure(t, i);
+        }
+
+        prevT = t;
+        prevI = i;
+        prevV = vC;
+    }
+
+    /**
+     * Cuenta un paso rechazado por el control de error
+     * Counts a step rejected by error control
+     */
+    void reject() {
+        rejectedSteps++;
+    }
+
+    private void beginMeasure(double t, double i) {
+        measuring = true;
+        prevISin = i * Math.sin(omega * t);
+        prevICos = i * Math.cos(omega * t);
+    }
+
+    private void store(double t, double i, double vC) {
+        time[next] = t;
+        current[next] = i;
+        capacitorVoltage[next] = vC;
+        next++;
+    }
+
+    /**
+     * Construye el resultado a partir de las muestras y de la proyección
+     * Builds the result from the samples and the projection
+     */
+    TransientResult toResult(double amplitude, long computationTimeNanos) {
+        while (next < time.length) {
+            store(next * sampleInterval, prevI, prevV);
+        }
+        if (span <= 0) {
+            throw new ArithmeticException("Simulation ended before the measurement window");
+        }
+
+        // i(t) ≈ I·sin(ωt + θ)  =>  I·cosθ = (2/T)∫i·sin, I·sinθ = (2/T)∫i·cos
+        double a = 2.0 * sumSin / span;
+        double b = 2.0 * sumCos / span;
+        double I = Math.hypot(a, b);
+        if (I <= 0) {
+            throw new ArithmeticException("Steady-state current is zero");
+        }
+        double phi = -Math.atan2(b, a);
+
+        double Z = amplitude / I;
+        double P = amplitude * I * Math.cos(phi);
+        double Q = amplitude * I * Math.sin(phi);
+        double S = amplitude * I;
+        double pf = Math.cos(phi);
+
+        SimulationResult steadyState = new SimulationResult(Z, I, phi, P, Q, S, pf);
+        return new TransientResult(steadyState, time, current, capacitorVoltage,
+                                   steps, rejectedSteps, prevT, computationTimeNanos,
+                                   detectors.toMetrics());
+    }
+}
@@ -0,0 +1,322 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Respuesta transitoria en forma cerrada del RLC serie a un escalón o un impulso
+ * Closed-form transient response of the series RLC to a step or an impulse
+ *
+ * Con α = R/2L y ω0² = 1/LC las raíces son −α ± β, β² = α² − ω0². Definiendo
+ * S(t) = sinh(βt)/β, sin(ωd·t)/ωd o t según el caso y C(t) = S'(t), la respuesta al
+ * escalón V desde el reposo es
+ *   i(t) = (V/L)·e^(−αt)·S(t),   vC(t) = V·[1 − e^(−αt)·(C(t) + α·S(t))]
+ * y la del impulso de área Φ (V·s) es su derivada escalada. Las mismas fórmulas cubren
+ * el RL (1/C = 0); el RC sin inductor se trata aparte. Cada instante cuesta O(1).
+ */
+public final class TransientResponse {
+
+    /**
+     * Excitación aplicada en t = 0 con el circuito en reposo
+     * Excitation applied at t = 0 with the circuit at rest
+     */
+    public enum Excitation {
+        STEP("Escalón"),
+        IMPULSE("Impulso");
+
+        private final String displayName;
+
+        Excitation(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    /**
+     * Tipo de amortiguamiento según las raíces características
+     * Damping type given by the characteristic roots
+     */
+    public enum Damping {
+        UNDAMPED("Sin amortiguamiento"),
+        UNDERDAMPED("Subamortiguado"),
+        CRITICALLY_DAMPED("Críticamente amortiguado"),
+        OVERDAMPED("Sobreamortiguado"),
+        FIRST_ORDER("Primer orden");
+
+        private final String displayName;
+
+        Damping(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    /** Tolerancia relativa de |α − ω0| para clasificar como amortiguamiento crítico */
+    private static final double CRITICAL_TOLERANCE = 1e-9;
+
+    // Forma de S(t): seno, seno hiperbólico, lineal o sin inductor (RC)
+    private static final int OSCILLATORY = 0;
+    private static final int HYPERBOLIC = 1;
+    private static final int LINEAR = 2;
+    private static final int RC = 3;
+
+    private final CompiledCircuit circuit;
+    private final Excitation excitation;
+    private final double amplitude;
+    private final Damping damping;
+    private final int form;
+    private final double alpha;
+    private final double beta;      // β (hiperbólico) o ωd (oscilatorio)
+    private final double inductance;
+    private final double inverseCapacitance;
+    private final double resistance;
+
+    private TransientResponse(CompiledCircuit circuit, Excitation excitation, double amplitude) {
+        this.circuit = circuit;
+        this.excitation = excitation;
+        this.amplitude = amplitude;
+        this.resistance = circuit.getResistance();
+        this.inductance = circuit.getInductance();
+        this.inverseCapacitance = circuit.getInverseCapacitance();
+
+        if (inductance > 0) {
+            alpha = resistance / (2 * inductance);
+            double w0Squared = inverseCapacitance / inductance;
+            double discriminant = alpha * alpha - w0Squared;
+            if (discriminant > 0) {
+                form = HYPERBOLIC;
+                beta = Math.sqrt(discriminant);
+            } else if (discriminant < 0) {
+                form = OSCILLATORY;
+                beta = Math.sqrt(-discriminant);
+            } else {
+                form = LINEAR;
+                beta = 0;
+            }
+
+            if (inverseCapacitance == 0) {
+                damping = Damping.FIRST_ORDER;
+            } else if (resistance == 0) {
+                damping = Damping.UNDAMPED;
+            } else if (Math.abs(alpha - Math.sqrt(w0Squared)) <= CRITICAL_TOLERANCE * Math.sqrt(w0Squared)) {
+                damping = Damping.CRITICALLY_DAMPED;
+            } else {
+                damping = form == OSCILLATORY ? Damping.UNDERDAMPED : Damping.OVERDAMPED;
+            }
+        } else {
+            // Sin inductor: RC (τ = RC) o resistencia sola (1/C = 0, τ = 0)
+            form = RC;
+            alpha = inverseCapacitance / resistance; // 1/τ
+            beta = 0;
+            damping = Damping.FIRST_ORDER;
+        }
+    }
+
+    /**
+     * Crea la respuesta del circuito; la amplitud es V para el escalón y Φ (V·s) para el impulso
+     * Creates the circuit response; the amplitude is V for a step and Φ (V·s) for an impulse
+     */
+    public static TransientResponse of(CompiledCircuit circuit, Excitation excitation, double amplitude) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (excitation == null) {
+            throw new IllegalArgumentException("Excitation cannot be null");
+        }
+        if (!Double.isFinite(amplitude)) {
+            throw new IllegalArgumentException("Amplitude must be finite");
+        }
+        if (!circuit.hasResistance() && !circuit.hasInductance()) {
+            throw new IllegalArgumentException("Transient response needs resistance or inductance");
+        }
+        return new TransientResponse(circuit, excitation, amplitude);
+    }
+
+    /**
+     * Corriente del circuito en el instante t (0 para t < 0)
+     * Circuit current at time t (0 for t < 0)
+     *
+     * El impulso en un circuito sin inductor produce además una delta en t = 0
+     * que no se representa.
+     */
+    public double current(double t) {
+        if (t < 0) {
+            return 0;
+        }
+        if (form == RC) {
+            double decay = Math.exp(-alpha * t);
+            if (excitation == Excitation.STEP) {
+                return amplitude / resistance * decay;
+            }
+            return -amplitude * alpha / resistance * decay;
+        }
+        if (excitation == Excitation.STEP) {
+            return amplitude / inductance * decayedS(t);
+        }
+        return amplitude / inductance * (decayedC(t) - alpha * decayedS(t));
+    }
+
+    /**
+     * Tensión del capacitor en el instante t (0 sin capacitor)
+     * Capacitor voltage at time t (0 without a capacitor)
+     */
+    public double capacitorVoltage(double t) {
+        if (t < 0 || inverseCapacitance == 0) {
+            return 0;
+        }
+        if (form == RC) {
+            double decay = Math.exp(-alpha * t);
+            if (excitation == Excitation.STEP) {
+                return amplitude * (1 - decay);
+            }
+            return amplitude * alpha * decay;
+        }
+        if (excitation == Excitation.STEP) {
+            return amplitude * (1 - decayedC(t) - alpha * decayedS(t));
+        }
+        return amplitude * inverseCapacitance / inductance * decayedS(t);
+    }
+
+    // e^(−αt)·S(t) sin desbordes para βt grande ni cancelación para βt pequeño
+    private double decayedS(double t) {
+        switch (form) {
+            case OSCILLATORY:
+                return Math.exp(-alpha * t) * Math.sin(beta * t) / beta;
+            case HYPERBOLIC: {
+                double x = beta * t;
+                if (x < 1) {
+                    return Math.exp(-alpha * t) * Math.sinh(x) / beta;
+                }
+                return (Math.exp((beta - alpha) * t) - Math.exp(-(alpha + beta) * t)) / (2 * beta);
+            }
+            default:
+                return Math.exp(-alpha * t) * t;
+        }
+    }
+
+    // e^(−αt)·C(t)
+    private double decayedC(double t) {
+        switch (form) {
+            case OSCILLATORY:
+                return Math.exp(-alpha * t) * Math.cos(beta * t);
+            case HYPERBOLIC: {
+                double x = beta * t;
+                if (x < 1) {
+                    return Math.exp(-alpha * t) * Math.cosh(x);
+                }
+                return (Math.exp((beta - alpha) * t) + Math.exp(-(alpha + beta) * t)) / 2;
+            }
+            default:
+                return Math.exp(-alpha * t);
+        }
+    }
+
+    public DoubleUnaryOperator currentFunction() {
+        return this::current;
+    }
+
+    public DoubleUnaryOperator capacitorVoltageFunction() {
+        return this::capacitorVoltage;
+    }
+
+    /**
+     * Muestrea la corriente en {@code out.length} puntos uniformes de [t0, t1]
+     * Samples the current at {@code out.length} uniform points over [t0, t1]
+     */
+    public void sampleCurrent(double t0, double t1, double[] out) {
+        double dt = out.length > 1 ? (t1 - t0) / (out.length - 1) : 0;
+        for (int k = 0; k < out.length; k++) {
+            out[k] = current(t0 + k * dt);
+        }
+    }
+
+    public void sampleCapacitorVoltage(double t0, double t1, double[] out) {
+        double dt = out.length > 1 ? (t1 - t0) / (out.length - 1) : 0;
+        for (int k = 0; k < out.length; k++) {
+            out[k] = capacitorVoltage(t0 + k * dt);
+        }
+    }
+
+    /**
+     * Tasa de decaimiento de la envolvente más lenta (1/s)
+     * Decay rate of the slowest envelope (1/s)
+     *
+     * Vale α − β en el caso sobreamortiguado, R/L en el RL y 0 si la respuesta no decae.
+     */
+    public double getDecayRate() {
+        if (form == RC) {
+            return alpha;
+        }
+        if (inverseCapacitance == 0) {
+            return 2 * alpha; // RL: la única raíz no nula es −R/L
+        }
+        return form == HYPERBOLIC ? alpha - beta : alpha;
+    }
+
+    /**
+     * Tiempo de establecimiento al 2% de la envolvente (4/tasa); infinito si no decae
+     * 2% settling time of the envelope (4/rate); infinite if it does not decay
+     */
+    public double getSettlingTime() {
+        double rate = getDecayRate();
+        return rate > 0 ? 4 / rate : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Duración sugerida para graficar: el establecimiento o unos ciclos si no decae
+     * Suggested plot duration: the settling time, or a few cycles if it does not decay
+     */
+    public double getSuggestedDuration() {
+        double duration = 1.25 * getSettlingTime();
+        if (form == OSCILLATORY) {
+            double period = 2 * Math.PI / beta;
+            if (!Double.isFinite(duration) || duration > 20 * period) {
+                duration = Double.isFinite(duration) ? 20 * period : 5 * period;
+            }
+            duration = Math.max(duration, 2 * period);
+        }
+        if (!Double.isFinite(duration) || duration <= 0) {
+            // Resistencia sola o inductor ideal: cualquier ventana sirve
+            duration = inductance > 0 ? inductance / Math.max(resistance, 1e-3) : 1e-3;
+        }
+        return duration;
+    }
+
+    // Getters
+    public CompiledCircuit getCircuit() { return circuit; }
+    public Excitation getExcitation() { return excitation; }
+    public double getAmplitude() { return amplitude; }
+    public Damping getDamping() { return damping; }
+    public double getAlpha() { return form == RC ? Double.NaN : alpha; }
+
+    /**
+     * Frecuencia angular amortiguada ωd; 0 si no oscila
+     * Damped angular frequency ωd; 0 if it does not oscillate
+     */
+    public double getDampedAngularFrequency() {
+        return form == OSCILLATORY ? beta : 0;
+    }
+
+    /**
+     * Constante de tiempo de los circuitos de primer orden (L/R o RC); NaN en otro caso
+     * Time constant of first-order circuits (L/R or RC); NaN otherwise
+     */
+    public double getTimeConstant() {
+        if (damping != Damping.FIRST_ORDER) {
+            return Double.NaN;
+        }
+        if (form == RC) {
+            return alpha > 0 ? 1 / alpha : 0;
+        }
+        return resistance > 0 ? inductance / resistance : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TransientResponse[%s, %s, decay=%.4g 1/s, ωd=%.4g rad/s, ts=%.4g s]",
+            excitation.getDisplayName(), damping.getDisplayName(), getDecayRate(),
+            getDampedAngularFrequency(), getSettlingTime());
+    }
+}
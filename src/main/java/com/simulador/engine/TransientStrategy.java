@@ -0,0 +1,241 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.SimulationResult;
+import com.simulador.model.TransientResult;
+import java.util.concurrent.Executor;
+
+/**
+ * Base para estrategias que integran las ecuaciones de estado del circuito en el tiempo
+ * Base for strategies that integrate the circuit state equations over time
+ *
+ * El circuito parte del reposo con v(t) = V·sin(ωt). Se simula hasta que el transitorio
+ * se extingue y el régimen permanente se mide sobre los últimos ciclos de la fuente.
+ */
+public abstract class TransientStrategy implements SimulationStrategy {
+
+    protected static final double TIME_STEP = 1e-5; // 10 microsegundos (paso máximo)
+    protected static final int STEPS_PER_CYCLE = 64; // resolución mínima por ciclo de la fuente
+    public static final int DEFAULT_SAMPLE_COUNT = 2000;
+
+    private static final double SETTLING_TIME_CONSTANTS = 12;
+    static final int MEASURE_CYCLES = 2;
+    private static final long MIN_CYCLES = 4;
+    private static final long MAX_CYCLES = 10_000;
+
+    private final int sampleCount;
+
+    protected TransientStrategy() {
+        this(DEFAULT_SAMPLE_COUNT);
+    }
+
+    /**
+     * @param sampleCount muestras uniformes a conservar; 0 no guarda ninguna y el
+     *                    resultado sólo trae el régimen y las cifras de la forma de onda
+     */
+    protected TransientStrategy(int sampleCount) {
+        if (sampleCount != 0 && sampleCount < 2) {
+            throw new IllegalArgumentException("Sample count must be 0 or at least 2");
+        }
+        this.sampleCount = sampleCount;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    @Override
+    public String getConfigurationKey() {
+        // Un resultado sin muestras no sirve a quien pide la forma de onda
+        return getName() + "|samples=" + sampleCount;
+    }
+
+    @Override
+    public SimulationResult calculate(CompiledCircuit circuit,
+                                     double voltage, double frequency) {
+        validate(circuit, voltage, frequency);
+
+        RLCStateSpace model = RLCStateSpace.of(circuit);
+        double period = 1.0 / frequency;
+        double duration = planCycles(model, period) * period;
+
+        return simulate(circuit, voltage, frequency, duration, null);
+    }
+
+    /**
+     * Modo streaming: publica cada paso del integrador en bloques de tamaño fijo
+     * Streaming mode: publishes every integrator step in fixed-size chunks
+     *
+     * La duración se redondea hacia arriba a ciclos completos de la fuente y puede
+     * ser arbitrariamente larga; la memoria queda acotada por el buffer de bloques.
+     */
+    public TransientStream stream(CompiledCircuit circuit, double voltage, double frequency,
+                                  double duration) {
+        return stream(circuit, voltage, frequency, duration, TransientStream.DEFAULT_CHUNK_SIZE,
+                      TransientStream.DEFAULT_BUFFER_CHUNKS, null);
+    }
+
+    /**
+     * Modo streaming con tamaño de bloque, buffer por suscriptor y ejecutor propios
+     * Streaming mode with custom chunk size, per-subscriber buffer and executor
+     *
+     * {@code executor} entrega los bloques a los suscriptores (null = pool común). La
+     * integración no puede correr en él: {@link TransientStream#start()} usa el pool
+     * común y {@link TransientStream#start(Executor)} rechaza el ejecutor de entrega.
+     */
+    public TransientStream stream(CompiledCircuit circuit, double voltage, double frequency,
+                                  double duration, int chunkSize, int bufferChunks,
+                                  Executor executor) {
+        validate(circuit, voltage, frequency);
+        if (!(duration > 0) || Double.isInfinite(duration)) {
+            throw new IllegalArgumentException("Duration must be positive and finite");
+        }
+        RLCStateSpace.of(circuit); // valida el circuito antes de suscribirse
+        double cycles = Math.ceil(duration * frequency - 1e-9);
+        return new TransientStream(this, circuit, voltage, frequency, Math.max(1, cycles) / frequency,
+                                   chunkSize, bufferChunks, executor);
+    }
+
+    /**
+     * Integra durante {@code duration} y mide el régimen en los últimos ciclos
+     * Integrates for {@code duration} and measures the steady state over the last cycles
+     */
+    TransientResult simulate(CompiledCircuit circuit, double voltage, double frequency,
+                             double duration, TransientStream stream) {
+        RLCStateSpace model = RLCStateSpace.of(circuit);
+
+        try {
+            double period = 1.0 / frequency;
+            double omega = 2 * Math.PI * frequency;
+            double measureStart = Math.max(0, duration - MEASURE_CYCLES * period);
+
+            // La amplitud fasorial es el valor al que debe converger la envolvente
+            double reference = voltage / Math.hypot(circuit.getResistance(), circuit.reactance(omega));
+            TransientRecorder recorder = new TransientRecorder(
+                sampleCount, duration, omega, measureStart, stream, reference);
+            long start = System.nanoTime();
+            integrate(model, voltage, omega, duration, recorder);
+            long elapsed = System.nanoTime() - start;
+
+            TransientResult result = recorder.toResult(voltage, elapsed);
+            if (!result.isValid()) {
+                throw new ArithmeticException("Invalid simulation results");
+            }
+            return result;
+
+        } catch (ArithmeticException e) {
+            throw new RuntimeException("Mathematical error in " + getName() + " integration: " + e.getMessage(), e);
+        }
+    }
+
+    private static void validate(CompiledCircuit circuit, double voltage, double frequency) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        if (voltage <= 0) {
+            throw new IllegalArgumentException("Voltage must be positive");
+        }
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+    }
+
+    @Override
+    public boolean isValidFor(CompiledCircuit circuit) {
+        // Se necesita R o L para que la corriente esté definida en el tiempo
+        return circuit != null && (circuit.hasResistance() || circuit.hasInductance());
+    }
+
+    /**
+     * Costo y error estimados antes de integrar, para la selección automática
+     * Cost and error estimated before integrating, for automatic selection
+     *
+     * El error suma el de discretización del método y lo que queda del transitorio al
+     * empezar la medición, suponiendo que su amplitud es comparable a la del régimen. La
+     * proyección sobre ciclos completos rechaza casi todo lo que varía lento frente a la
+     * fuente, así que un modo lento sólo pesa en la fracción que decae en un período; un
+     * modo oscilante se filtra tanto menos cuanto más cerca está de la frecuencia de la fuente.
+     */
+    final Estimate estimate(CompiledCircuit circuit, double frequency) {
+        RLCStateSpace model = RLCStateSpace.of(circuit);
+        double period = 1.0 / frequency;
+        long cycles = planCycles(model, period);
+
+        double decay = model.slowestDecayRate();
+        double residual;
+        if (Double.isInfinite(decay)) {
+            residual = 0; // sin dinámica: no hay transitorio
+        } else {
+            double rejection = decay * period;
+            double ratio = model.dampedFrequency() * period / (2 * Math.PI);
+            if (ratio > 0) {
+                // Fuga de e^{±jωd·t} al proyectar sobre MEASURE_CYCLES ciclos de la fuente
+                rejection += leakage(ratio - 1) + leakage(ratio + 1);
+            }
+            residual = Math.exp(-decay * Math.max(0, cycles - MEASURE_CYCLES) * period)
+                     * Math.min(1, rejection);
+        }
+        return new Estimate(estimateEvaluations(model, period, cycles),
+                            estimateError(model, period) + residual);
+    }
+
+    // |sinc| de la ventana de medición para una componente desplazada en 'offset' veces ω
+    private static double leakage(double offset) {
+        double x = Math.PI * MEASURE_CYCLES * offset;
+        return x == 0 ? 1 : Math.abs(Math.sin(x) / x);
+    }
+
+    /**
+     * Evaluaciones equivalentes del sistema 2×2 para integrar {@code cycles} ciclos
+     * Equivalent 2×2 system evaluations needed to integrate {@code cycles} cycles
+     */
+    abstract long estimateEvaluations(RLCStateSpace model, double period, long cycles);
+
+    /**
+     * Error relativo de discretización esperado en el fasor de corriente
+     * Expected relative discretization error in the current phasor
+     */
+    abstract double estimateError(RLCStateSpace model, double period);
+
+    /**
+     * Estimación a priori de una estrategia
+     * A priori estimate for one strategy
+     */
+    static final class Estimate {
+        final long evaluations;
+        final double error;
+
+        Estimate(long evaluations, double error) {
+            this.evaluations = evaluations;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Número de ciclos a simular: extinción del transitorio más la ventana de medición
+     * Number of cycles to simulate: transient decay plus the measurement window
+     */
+    private long planCycles(RLCStateSpace model, double period) {
+        double decay = model.slowestDecayRate();
+        double settle = decay > 0 ? SETTLING_TIME_CONSTANTS / decay : Double.POSITIVE_INFINITY;
+        double cycles = Math.ceil(settle / period) + MEASURE_CYCLES;
+
+        long limit = Math.min(MAX_CYCLES, maxCycles(model, period));
+        return Math.max(MIN_CYCLES, Math.min(limit, (long) Math.min(cycles, Long.MAX_VALUE)));
+    }
+
+    /**
+     * Límite de ciclos impuesto por el integrador (por ejemplo, por presupuesto de pasos)
+     * Cycle limit imposed by the integrator (for instance, by a step budget)
+     */
+    long maxCycles(RLCStateSpace model, double period) {
+        return MAX_CYCLES;
+    }
+
+    /**
+     * Integra desde el reposo hasta {@code duration}, notificando cada paso al registrador
+     * Integrates from rest up to {@code duration}, reporting every step to the recorder
+     */
+    abstract void integrate(RLCStateSpace model, double amplitude, double omega,
+                            double duration, TransientRecorder recorder);
+}
@@ -0,0 +1,171 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.TransientChunk;
+import com.simulador.model.TransientResult;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publicador de las muestras de una simulación transitoria en bloques de tamaño fijo
+ * Publisher of a transient simulation's samples in fixed-size chunks
+ *
+ * Es frío: la integración no empieza hasta {@link #run()} o {@link #start()}, así que
+ * los suscriptores deben registrarse antes. Cada suscriptor tiene un buffer acotado de
+ * bloques; cuando alguno se llena el integrador se detiene hasta que ese suscriptor
+ * pida más, de modo que la memoria usada no depende de la duración simulada. Si todos
+ * los suscriptores cancelan, la simulación se interrumpe.
+ *
+ * El ejecutor del constructor sólo entrega bloques; la integración corre en el hilo
+ * que llama a {@link #run()} o en el ejecutor de {@link #start(Executor)}, que debe ser
+ * otro.
+ */
+public final class TransientStream implements Flow.Publisher<TransientChunk> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    public static final int DEFAULT_BUFFER_CHUNKS = 16;
+
+    private final TransientStrategy strategy;
+    private final CompiledCircuit circuit;
+    private final double voltage;
+    private final double frequency;
+    private final double duration;
+    private final int chunkSize;
+    private final Executor executor;
+    private final SubmissionPublisher<TransientChunk> publisher;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    // Bloque en construcción (sólo lo toca el hilo que integra)
+    private double[] time, current, capacitorVoltage;
+    private int fill;
+    private long sequence;
+    private long samples;
+    private boolean hadSubscribers;
+
+    TransientStream(TransientStrategy strategy, CompiledCircuit circuit, double voltage,
+                    double frequency, double duration, int chunkSize, int bufferChunks,
+                    Executor executor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (bufferChunks < 1) {
+            throw new IllegalArgumentException("Buffer must hold at least one chunk");
+        }
+        this.strategy = strategy;
+        this.circuit = circuit;
+        this.voltage = voltage;
+        this.frequency = frequency;
+        this.duration = duration;
+        this.chunkSize = chunkSize;
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+        this.publisher = new SubmissionPublisher<>(this.executor, bufferChunks);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super TransientChunk> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Integra en el hilo actual publicando los bloques; devuelve el resultado decimado
+     * Integrates on the current thread while publishing chunks; returns the decimated result
+     */
+    public TransientResult run() {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("Stream already started");
+        }
+        hadSubscribers = publisher.hasSubscribers();
+        newChunk();
+        try {
+            TransientResult result = strategy.simulate(circuit, voltage, frequency, duration, this);
+            flush();
+            publisher.close();
+            return result;
+        } catch (RuntimeException e) {
+            publisher.closeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Integra de forma asíncrona en el pool ForkJoin común
+     * Integrates asynchronously on the common ForkJoin pool
+     *
+     * No se usa el ejecutor de entrega: cuando un buffer se llena el integrador queda
+     * bloqueado en submit() esperando una entrega que necesita ese ejecutor, y con un
+     * ejecutor de un hilo (o todo ocupado) eso sería un interbloqueo. El pool común
+     * compensa el hilo bloqueado, así que sirve aunque también sea el de entrega.
+     */
+    public CompletableFuture<TransientResult> start() {
+        return start(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Integra de forma asíncrona en el ejecutor indicado
+     * Integrates asynchronously on the given executor
+     *
+     * @throws IllegalArgumentException si es el mismo ejecutor de entrega y no es un
+     *                                  ForkJoinPool, porque podría interbloquearse
+     */
+    public CompletableFuture<TransientResult> start(Executor integrationExecutor) {
+        if (integrationExecutor == null) {
+            throw new IllegalArgumentException("Integration executor cannot be null");
+        }
+        if (integrationExecutor == executor && !(executor instanceof ForkJoinPool)) {
+            throw new IllegalArgumentException(
+                "Integration must not run on the delivery executor: a full buffer would deadlock it");
+        }
+        return CompletableFuture.supplyAsync(this::run, integrationExecutor);
+    }
+
+    /**
+     * Agrega el estado de un paso aceptado; bloquea si un suscriptor va atrasado
+     * Appends the state of an accepted step; blocks while a subscriber lags
+     */
+    void push(double t, double i, double vC) {
+        time[fill] = t;
+        current[fill] = i;
+        capacitorVoltage[fill] = vC;
+        if (++fill == chunkSize) {
+            flush();
+            newChunk();
+        }
+    }
+
+    private void flush() {
+        if (fill == 0) {
+            return;
+        }
+        if (hadSubscribers && !publisher.hasSubscribers()) {
+            throw new CancellationException("All subscribers cancelled");
+        }
+        // submit() bloquea mientras el buffer de algún suscriptor esté lleno
+        publisher.submit(new TransientChunk(sequence++, samples, fill, time, current, capacitorVoltage));
+        samples += fill;
+        fill = 0;
+    }
+
+    private void newChunk() {
+        // Bloques nuevos: los anteriores siguen en manos de los suscriptores
+        time = new double[chunkSize];
+        current = new double[chunkSize];
+        capacitorVoltage = new double[chunkSize];
+    }
+
+    // Getters
+    public double getDuration() { return duration; }
+    public int getChunkSize() { return chunkSize; }
+    public int getBufferChunks() { return publisher.getMaxBufferCapacity(); }
+    public int getSubscriberCount() { return publisher.getNumberOfSubscribers(); }
+
+    /**
+     * Muestras publicadas hasta el momento (lo lee el hilo que integra)
+     * Samples published so far (read by the integrating thread)
+     */
+    public long getPublishedSamples() { return samples; }
+}
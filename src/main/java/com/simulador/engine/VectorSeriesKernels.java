@@ -0,0 +1,122 @@
+package com.simulador.engine;
+
+import com.simulador.model.GridQuantity;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleos del RLC serie con la API de vectores (módulo incubado)
+ * Series RLC kernels on the Vector API (incubator module)
+ *
+ * Sólo se carga por reflexión desde {@link SeriesKernels} cuando el módulo está en la
+ * capa de arranque; ninguna otra clase debe referenciarla. Usa el ancho preferido de la
+ * plataforma (8 dobles con AVX-512, 4 con AVX2) y deja el resto a la versión escalar.
+ */
+final class VectorSeriesKernels implements SeriesKernels.Backend {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private final SeriesKernels.Backend tail = new SeriesKernels.Scalar();
+
+    @Override
+    public String getName() {
+        return "Vector API (" + SPECIES.vectorBitSize() + "-bit)";
+    }
+
+    @Override
+    public int getLaneCount() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public void sweep(double resistance, double inductance, double inverseCapacitance,
+                      double voltage, double[] f, int from, int to, double[] z, double[] i,
+                      double[] phi, double[] p, double[] q, double[] s, double[] pf) {
+        DoubleVector r = DoubleVector.broadcast(SPECIES, resistance);
+        DoubleVector r2 = DoubleVector.broadcast(SPECIES, resistance * resistance);
+        DoubleVector v = DoubleVector.broadcast(SPECIES, voltage);
+        int k = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; k < bound; k += SPECIES.length()) {
+            DoubleVector w = DoubleVector.fromArray(SPECIES, f, k).mul(TWO_PI);
+            DoubleVector x = w.mul(inductance).sub(DoubleVector.broadcast(SPECIES, inverseCapacitance).div(w));
+            DoubleVector zk = x.mul(x).add(r2).sqrt();
+            DoubleVector ik = v.div(zk);
+            DoubleVector sk = v.mul(ik);
+            DoubleVector cos = r.div(zk);
+            zk.intoArray(z, k);
+            ik.intoArray(i, k);
+            x.lanewise(VectorOperators.ATAN2, r).intoArray(phi, k);
+            sk.mul(cos).intoArray(p, k);
+            sk.mul(x.div(zk)).intoArray(q, k);
+            sk.intoArray(s, k);
+            cos.intoArray(pf, k);
+        }
+        tail.sweep(resistance, inductance, inverseCapacitance, voltage,
+                   f, k, to, z, i, phi, p, q, s, pf);
+    }
+
+    @Override
+    public void gridRow(GridQuantity quantity, double voltage, double resistance,
+                        double inductance, double inverseCapacitance, double[] w,
+                        double[] inverseW, int from, int to, double[] data, int base) {
+        DoubleVector r2 = DoubleVector.broadcast(SPECIES, resistance * resistance);
+        DoubleVector numerator;
+        switch (quantity) {
+            case CURRENT:
+                numerator = DoubleVector.broadcast(SPECIES, voltage);
+                break;
+            case IMPEDANCE:
+                numerator = null; // se guarda |Z| directamente
+                break;
+            case POWER_FACTOR:
+                numerator = DoubleVector.broadcast(SPECIES, resistance);
+                break;
+            default:
+                throw new IllegalStateException("Unknown grid quantity: " + quantity);
+        }
+        int c = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; c < bound; c += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, w, c).mul(inductance)
+                .sub(DoubleVector.fromArray(SPECIES, inverseW, c).mul(inverseCapacitance));
+            DoubleVector z = x.mul(x).add(r2).sqrt();
+            (numerator != null ? numerator.div(z) : z).intoArray(data, base + c);
+        }
+        tail.gridRow(quantity, voltage, resistance, inductance, inverseCapacitance,
+                     w, inverseW, c, to, data, base);
+    }
+
+    @Override
+    public void evaluate(double omega, double voltage, double[] resistance, double[] inductance,
+                         double[] capacitance, int from, int to, double[] current,
+                         double[] powerFactor, double[] resonantFrequency) {
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0);
+        DoubleVector nan = DoubleVector.broadcast(SPECIES, Double.NaN);
+        DoubleVector w = DoubleVector.broadcast(SPECIES, omega);
+        DoubleVector v = DoubleVector.broadcast(SPECIES, voltage);
+        int k = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; k < bound; k += SPECIES.length()) {
+            DoubleVector r = DoubleVector.fromArray(SPECIES, resistance, k);
+            DoubleVector l = DoubleVector.fromArray(SPECIES, inductance, k);
+            DoubleVector c = DoubleVector.fromArray(SPECIES, capacitance, k);
+
+            // Los carriles sin capacitor dividen por cero y se descartan con la máscara
+            VectorMask<Double> hasC = c.compare(VectorOperators.GT, 0);
+            DoubleVector invC = zero.blend(one.div(c), hasC);
+            DoubleVector x = w.mul(l).sub(invC.div(w));
+            DoubleVector z = r.mul(r).add(x.mul(x)).sqrt();
+            v.div(z).intoArray(current, k);
+            r.div(z).intoArray(powerFactor, k);
+            VectorMask<Double> resonant = hasC.and(l.compare(VectorOperators.GT, 0));
+            nan.blend(one.div(l.mul(c).sqrt().mul(TWO_PI)), resonant).intoArray(resonantFrequency, k);
+        }
+        tail.evaluate(omega, voltage, resistance, inductance, capacitance, k, to,
+                      current, powerFactor, resonantFrequency);
+    }
+}
@@ -0,0 +1,168 @@
+package com.simulador.engine;
+
+import com.simulador.model.WaveformMetrics;
+
+/**
+ * Detectores de eventos que corren dentro del lazo del integrador con estado O(1)
+ * Event detectors that run inside the integrator loop with O(1) state
+ *
+ * Cada paso aceptado pasa por todos los detectores: picos de |i| y |vC| refinados con
+ * la parábola de los tres últimos puntos, cruces por cero de la corriente interpolados
+ * linealmente y la envolvente por semiciclo para el sobreimpulso y el establecimiento.
+ * Ninguno guarda muestras, así que el costo no depende de la duración simulada.
+ */
+final class WaveformDetectors {
+
+    static final double DEFAULT_SETTLING_BAND = 0.02;
+
+    private final double omega;
+    private final double referenceAmplitude;
+    private final double settlingBand;
+
+    private final PeakTracker currentPeak = new PeakTracker();
+    private final PeakTracker capacitorPeak = new PeakTracker();
+    private final PeakTracker halfCyclePeak = new PeakTracker();
+
+    // Cruces por cero: último punto con corriente no nula
+    private double lastT, lastI;
+    private boolean hasSign;
+    private long crossings;
+    private double crossingTime = Double.NaN;
+    private boolean crossingRising;
+
+    // Envolvente: cada semiciclo termina en un cruce
+    private long halfCycles;
+    private double lastOutside;
+    private boolean lastHalfCycleOutside;
+
+    /**
+     * @param referenceAmplitude amplitud de la corriente en régimen permanente (A)
+     * @param settlingBand       semiancho relativo de la banda de establecimiento
+     */
+    WaveformDetectors(double omega, double referenceAmplitude, double settlingBand) {
+        this.omega = omega;
+        this.referenceAmplitude = referenceAmplitude;
+        this.settlingBand = settlingBand;
+    }
+
+    void start(double i, double vC) {
+        accept(0, i, vC);
+    }
+
+    void accept(double t, double i, double vC) {
+        currentPeak.accept(t, i);
+        capacitorPeak.accept(t, vC);
+        halfCyclePeak.accept(t, i);
+
+        if (i == 0) {
+            return;
+        }
+        if (hasSign && (i > 0) != (lastI > 0)) {
+            // i es casi lineal cerca del cero: la interpolación tiene error O(h³)
+            crossingTime = lastT + (t - lastT) * (lastI / (lastI - i));
+            crossingRising = i > 0;
+            crossings++;
+            endHalfCycle();
+        }
+        hasSign = true;
+        lastT = t;
+        lastI = i;
+    }
+
+    private void endHalfCycle() {
+        double peak = halfCyclePeak.peak;
+        halfCyclePeak.resetPeak();
+        halfCycles++;
+        lastHalfCycleOutside = !(Math.abs(peak - referenceAmplitude) <= settlingBand * referenceAmplitude);
+        if (lastHalfCycleOutside) {
+            lastOutside = crossingTime;
+        }
+    }
+
+    WaveformMetrics toMetrics() {
+        boolean hasReference = referenceAmplitude > 0 && Double.isFinite(referenceAmplitude);
+
+        // Cruce ascendente: ωt + θ ≡ 0; descendente: ωt + θ ≡ π
+        double phase = Double.NaN;
+        if (crossings > 0) {
+            double angle = (crossingRising ? 0 : Math.PI) - omega * crossingTime;
+            phase = Math.IEEEremainder(angle, 2 * Math.PI);
+        }
+
+        double overshoot = hasReference
+            ? Math.max(0, currentPeak.peak / referenceAmplitude - 1)
+            : Double.NaN;
+
+        double settling;
+        if (!hasReference || halfCycles == 0) {
+            settling = Double.NaN;
+        } else if (lastHalfCycleOutside) {
+            settling = Double.POSITIVE_INFINITY;
+        } else {
+            settling = lastOutside;
+        }
+
+        return new WaveformMetrics(currentPeak.peak, currentPeak.peakTime,
+                                   capacitorPeak.peak, capacitorPeak.peakTime,
+                                   crossings, crossingTime, phase, referenceAmplitude,
+                                   overshoot, settlingBand, settling);
+    }
+
+    /**
+     * Máximo de |x| con el vértice de la parábola por los tres últimos puntos
+     * Maximum of |x| using the vertex of the parabola through the last three points
+     *
+     * Los pasos pueden ser no uniformes (integradores adaptativos).
+     */
+    static final class PeakTracker {
+        double peak;
+        double peakTime;
+        private double t1, a1, t2, a2;
+        private int seen;
+
+        void accept(double t, double x) {
+            double a = Math.abs(x);
+            if (a > peak) {
+                peak = a;
+                peakTime = t;
+            }
+            if (seen >= 2 && a1 >= a2 && a1 > a && t > t2) {
+                refine(t, a);
+            }
+            t2 = t1;
+            a2 = a1;
+            t1 = t;
+            a1 = a;
+            seen++;
+        }
+
+        // Forma de Newton: p(τ) = a2 + s1·(τ − t2) + c·(τ − t2)·(τ − t1)
+        private void refine(double t, double a) {
+            if (!(t1 > t2 && t > t1)) {
+                return;
+            }
+            double s1 = (a1 - a2) / (t1 - t2);
+            double s2 = (a - a1) / (t - t1);
+            double c = (s2 - s1) / (t - t2);
+            if (!(c < 0)) {
+                return;
+            }
+            double vertex = 0.5 * (t2 + t1) - s1 / (2 * c);
+            vertex = Math.max(t2, Math.min(t, vertex));
+            double value = a2 + s1 * (vertex - t2) + c * (vertex - t2) * (vertex - t1);
+            if (value > peak) {
+                peak = value;
+                peakTime = vertex;
+            }
+        }
+
+        /**
+         * Reinicia el máximo pero conserva los puntos previos
+         * Resets the maximum but keeps the previous points
+         */
+        void resetPeak() {
+            peak = 0;
+            peakTime = 0;
+        }
+    }
+}
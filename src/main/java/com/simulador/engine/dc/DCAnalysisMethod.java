@@ -8,6 +8,7 @@ public enum DCAnalysisMethod {
     KIRCHHOFF_LAWS("Leyes de Kirchhoff"),
     MESH_ANALYSIS("Análisis de Mallas"),
     NODE_ANALYSIS("Análisis Nodal"),
+    MODIFIED_NODAL("Análisis Nodal Modificado (MNA)"),
     THEVENIN_THEOREM("Teorema de Thevenin"),
     NORTON_THEOREM("Teorema de Norton"),
     SOURCE_TRANSFORMATION("Transformación de Fuentes");
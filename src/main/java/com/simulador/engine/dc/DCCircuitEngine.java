@@ -1,7 +1,12 @@
 package com.simulador.engine.dc;
 
+import com.simulador.engine.SweepScale;
 import com.simulador.model.dc.DCCircuit;
+import com.simulador.model.dc.DCComponent;
+import com.simulador.model.dc.DCNetlist;
+import com.simulador.model.dc.DCNodalSolution;
 import com.simulador.model.dc.DCSimulationResult;
+import com.simulador.model.dc.DCSweepResult;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,6 +18,7 @@ import java.util.Map;
 public class DCCircuitEngine {
     private final Map<DCAnalysisMethod, DCAnalysisStrategy> strategies;
     private DCAnalysisStrategy currentStrategy;
+    private final DCFactorizationCache factorizations = new DCFactorizationCache();
     
     public DCCircuitEngine() {
         this.strategies = new HashMap<>();
@@ -33,6 +39,7 @@ public class DCCircuitEngine {
         strategies.put(DCAnalysisMethod.THEVENIN_THEOREM, new DCTheveninStrategy());
         // (Nota: Norton y Source Transformation no tienen clases de estrategia en tu dump)
         // --- FIN DE MODIFICACIÓN ---
+        strategies.put(DCAnalysisMethod.MODIFIED_NODAL, new DCModifiedNodalStrategy(factorizations));
     }
     
     public void setAnalysisMethod(DCAnalysisMethod method) {
@@ -65,6 +72,42 @@ public class DCCircuitEngine {
         return currentStrategy.analyze(circuit);
     }
     
+    /**
+     * Resuelve un netlist por nodos de tamaño arbitrario con análisis nodal modificado
+     *
+     * Si ya se resolvió un netlist con la misma topología, se reutiliza su factorización:
+     * con las mismas resistencias sólo se hacen las sustituciones con las fuentes nuevas,
+     * y si cambiaron pocas se corrigen por Woodbury en lugar de refactorizar.
+     */
+    public DCNodalSolution simulate(DCNetlist netlist) {
+        if (netlist == null) {
+            throw new IllegalArgumentException("Netlist DC no puede ser nulo");
+        }
+        return factorizations.solve(netlist);
+    }
+
+    /**
+     * Manejador de la factorización en caché para un netlist, para barridos de fuentes:
+     * cada {@link DCNodalSolver#setValue(int, double)} de una fuente seguido de
+     * {@link DCNodalSolver#solve()} cuesta sólo las sustituciones. No es seguro para uso concurrente.
+     */
+    public DCNodalSolver getFactorization(DCNetlist netlist) {
+        return factorizations.solverFor(netlist);
+    }
+
+    /**
+     * Barre una fuente o un resistor del circuito y devuelve corrientes de rama y
+     * voltajes de componente por punto, en columnas; los puntos se resuelven en paralelo
+     */
+    public DCSweepResult sweep(DCCircuit circuit, DCComponent target,
+                               double start, double stop, int points, SweepScale scale) {
+        return new DCSweep(circuit, target, start, stop, points, scale).run();
+    }
+
+    public DCFactorizationCache getFactorizationCache() {
+        return factorizations;
+    }
+
     public DCAnalysisMethod getCurrentMethod() {
         for (Map.Entry<DCAnalysisMethod, DCAnalysisStrategy> entry : strategies.entrySet()) {
             if (entry.getValue() == currentStrategy) {
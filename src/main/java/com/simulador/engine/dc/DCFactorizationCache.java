@@ -0,0 +1,117 @@
+package com.simulador.engine.dc;
+
+import com.simulador.model.dc.DCNetlist;
+import com.simulador.model.dc.DCNodalSolution;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caché LRU de factorizaciones MNA, indexada por topología
+ *
+ * En los estudios "qué pasa si" cambian las baterías y fuentes mientras la red de
+ * resistores queda igual: el netlist nuevo encuentra el {@link DCNodalSolver} del
+ * anterior, se le copian los valores y la resolución se reduce a las sustituciones
+ * hacia adelante y hacia atrás, sin volver a factorizar. Si además cambiaron unas pocas
+ * resistencias, el solver las corrige por Sherman-Morrison-Woodbury sobre la misma
+ * factorización.
+ *
+ * Los solvers guardan su espacio de trabajo, por eso {@link #solve(DCNetlist)} los usa
+ * bajo el candado de la caché.
+ */
+public final class DCFactorizationCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final LinkedHashMap<DCNodalSolver.Key, DCNodalSolver> entries;
+    private int capacity;
+    private long hits;
+    private long misses;
+
+    public DCFactorizationCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DCFactorizationCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cache capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        // accessOrder = true: el primer elemento es siempre el menos usado
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Resuelve el netlist reutilizando la factorización de uno con la misma huella
+     */
+    public synchronized DCNodalSolution solve(DCNetlist netlist) {
+        return solverFor(netlist).solve();
+    }
+
+    /**
+     * Solver con la factorización en caché para este netlist, con sus valores ya cargados
+     *
+     * Sirve como manejador para barridos: cambiar fuentes con
+     * {@link DCNodalSolver#setValue(int, double)} y llamar a {@link DCNodalSolver#solve()}
+     * cuesta sólo las sustituciones. El solver no es seguro para uso concurrente y sigue
+     * en la caché, así que no debe compartirse entre hilos.
+     */
+    public synchronized DCNodalSolver solverFor(DCNetlist netlist) {
+        if (netlist == null) {
+            throw new IllegalArgumentException("Netlist cannot be null");
+        }
+        DCNodalSolver.Key key = DCNodalSolver.Key.of(netlist);
+        DCNodalSolver solver = capacity > 0 ? entries.get(key) : null;
+        if (solver == null) {
+            misses++;
+            solver = new DCNodalSolver(netlist);
+            if (capacity > 0) {
+                entries.put(key, solver);
+                trim();
+            }
+            return solver;
+        }
+        hits++;
+        // Misma topología: setValue conserva los factores para las fuentes y registra
+        // como corrección de rango bajo cada resistencia distinta
+        for (int e = 0; e < netlist.getElementCount(); e++) {
+            solver.setValue(e, netlist.getElement(e).getValue());
+        }
+        return solver;
+    }
+
+    /**
+     * Cambia la capacidad; si se reduce se desalojan las entradas más antiguas (0 desactiva la caché)
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cache capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        trim();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    // Getters
+    public synchronized int getCapacity() { return capacity; }
+    public synchronized int getSize() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+
+    private void trim() {
+        Iterator<Map.Entry<DCNodalSolver.Key, DCNodalSolver>> it = entries.entrySet().iterator();
+        while (entries.size() > capacity && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("DCFactorizationCache[size=%d/%d, hits=%d, misses=%d]",
+            entries.size(), capacity, hits, misses);
+    }
+}
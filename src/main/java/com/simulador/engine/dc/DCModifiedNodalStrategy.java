@@ -0,0 +1,272 @@
+package com.simulador.engine.dc;
+
+import com.simulador.model.dc.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Estrategia de análisis nodal modificado (MNA) para circuitos DC
+ *
+ * A diferencia de las estrategias de mallas y nodal simple, no limita la cantidad de
+ * mallas ni de nodos: el circuito por ramas se traduce a un {@link DCNetlist} y se
+ * resuelve con {@link DCNodalSolver}. En configuración serie todos los componentes
+ * forman un único lazo; en paralelo cada rama va de tierra al nodo superior, con sus
+ * componentes en el orden en que se agregaron. Los amperímetros son fuentes de 0 V
+ * (su corriente sale de la solución) y los voltímetros, ideales, no alteran el circuito.
+ *
+ * Las factorizaciones se guardan en un {@link DCFactorizationCache}: si entre dos
+ * análisis sólo cambian baterías o fuentes, no se vuelve a factorizar, y si cambian unos
+ * pocos resistores se corrige la factorización existente.
+ */
+public class DCModifiedNodalStrategy implements DCAnalysisStrategy {
+
+    private static final int TOP_NODE = 1;
+
+    private final DCFactorizationCache factorizations;
+
+    public DCModifiedNodalStrategy() {
+        this(new DCFactorizationCache());
+    }
+
+    public DCModifiedNodalStrategy(DCFactorizationCache factorizations) {
+        if (factorizations == null) {
+            throw new IllegalArgumentException("Factorization cache cannot be null");
+        }
+        this.factorizations = factorizations;
+    }
+
+    @Override
+    public DCSimulationResult analyze(DCCircuit circuit) {
+        if (!validateCircuit(circuit)) {
+            throw new IllegalArgumentException("Circuito no válido para análisis nodal modificado. Se requiere al menos un resistor o una fuente.");
+        }
+
+        Layout layout = Layout.of(circuit);
+        DCNodalSolution solution;
+        try {
+            solution = factorizations.solve(layout.netlist);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Circuito singular en análisis nodal modificado: " + e.getMessage());
+        }
+
+        List<DCBranch> branches = circuit.getBranches();
+        double[] branchCurrents = new double[branches.size()];
+        layout.branchCurrents(solution::getElementCurrent, branchCurrents);
+
+        double calculatedVoltage, totalResistance, totalCurrent;
+        if (layout.series) {
+            calculatedVoltage = circuit.getTotalSourceVoltage();
+            totalResistance = circuit.getTotalResistance();
+            totalCurrent = branchCurrents.length > 0 ? branchCurrents[0] : 0;
+        } else {
+            // Corriente que entregan las ramas con fuentes al nodo superior
+            totalCurrent = 0;
+            for (int b = 0; b < branches.size(); b++) {
+                if (branches.get(b).getTotalVoltage() != 0) {
+                    totalCurrent -= branchCurrents[b];
+                }
+            }
+            calculatedVoltage = solution.getNodeVoltage(TOP_NODE);
+            totalResistance = totalCurrent != 0 ? calculatedVoltage / totalCurrent : Double.POSITIVE_INFINITY;
+        }
+
+        double[] componentVoltages = new double[layout.getComponentCount()];
+        layout.componentVoltages(branchCurrents, -1, 0, componentVoltages);
+
+        return new DCSimulationResult(
+            calculatedVoltage,
+            totalResistance,
+            totalCurrent,
+            solution.getDeliveredPower(),
+            branchCurrents,
+            componentVoltages,
+            getMethodName(),
+            circuit.getConfiguration()
+        );
+    }
+
+    @Override
+    public String getMethodName() {
+        return "Análisis Nodal Modificado (MNA)";
+    }
+
+    @Override
+    public boolean validateCircuit(DCCircuit circuit) {
+        return circuit != null &&
+               circuit.isValid() &&
+               circuit.getBranches().stream()
+                   .flatMap(branch -> branch.getComponents().stream())
+                   .anyMatch(comp -> comp.getType() == DCComponentType.RESISTOR
+                                  || comp.getType() == DCComponentType.BATTERY
+                                  || comp.getType() == DCComponentType.DC_SOURCE);
+    }
+
+    private static boolean isStamped(DCComponent comp) {
+        return comp.getType() != DCComponentType.VOLTMETER;
+    }
+
+    /**
+     * Traducción de un circuito por ramas a {@link DCNetlist}, con la ubicación de cada
+     * componente para leer la solución
+     *
+     * En configuración serie todos los componentes forman un único lazo; en paralelo cada
+     * rama va de tierra al nodo superior. Los componentes se numeran en el orden de las
+     * ramas, igual que en {@link DCSimulationResult#getComponentVoltages()}.
+     */
+    static final class Layout {
+        final DCCircuit circuit;
+        final boolean series;
+        final DCNetlist netlist;
+        private final DCComponent[] components;
+        private final int[] componentBranch;
+        private final int[] componentElement;    // -1 si no se estampa
+        private final int[] branchElement;       // primer elemento estampado de la rama, -1 si no hay
+        private final boolean[] branchForward;   // ese elemento está orientado como el recorrido
+        private final int loopBranch;            // serie: rama que lleva la corriente del lazo
+
+        private Layout(DCCircuit circuit) {
+            this.circuit = circuit;
+            this.series = circuit.getConfiguration().contains("Serie");
+            this.netlist = new DCNetlist();
+            List<DCBranch> branches = circuit.getBranches();
+
+            List<DCComponent> all = new ArrayList<>();
+            for (DCBranch branch : branches) {
+                all.addAll(branch.getComponents());
+            }
+            int count = all.size();
+            this.components = all.toArray(new DCComponent[0]);
+            this.componentBranch = new int[count];
+            this.componentElement = new int[count];
+            this.branchElement = new int[branches.size()];
+            this.branchForward = new boolean[branches.size()];
+            Arrays.fill(branchElement, -1);
+
+            int stampedTotal = 0;
+            for (DCComponent comp : components) {
+                if (isStamped(comp)) stampedTotal++;
+            }
+            if (series && stampedTotal < 2) {
+                throw new IllegalArgumentException("Un lazo serie necesita al menos dos elementos");
+            }
+
+            int index = 0;
+            int stamped = 0;
+            int node = DCNetlist.GROUND;
+            int nextFree = TOP_NODE + 1;
+            int loop = -1;
+            for (int b = 0; b < branches.size(); b++) {
+                List<DCComponent> branchComponents = branches.get(b).getComponents();
+                int inBranch = 0;
+                for (DCComponent comp : branchComponents) {
+                    if (isStamped(comp)) inBranch++;
+                }
+                if (!series) {
+                    node = DCNetlist.GROUND;
+                }
+                int done = 0;
+                for (DCComponent comp : branchComponents) {
+                    componentBranch[index] = b;
+                    componentElement[index] = -1;
+                    if (isStamped(comp)) {
+                        int nextNode;
+                        if (series) {
+                            nextNode = ++stamped == stampedTotal ? DCNetlist.GROUND : node + 1;
+                        } else {
+                            nextNode = ++done == inBranch ? TOP_NODE : nextFree++;
+                        }
+                        int element = netlist.getElementCount();
+                        boolean forward = stamp(comp, node, nextNode);
+                        componentElement[index] = element;
+                        if (branchElement[b] < 0) {
+                            branchElement[b] = element;
+                            branchForward[b] = forward;
+                            if (loop < 0) loop = b;
+                        }
+                        node = nextNode;
+                    }
+                    index++;
+                }
+            }
+            this.loopBranch = loop;
+        }
+
+        static Layout of(DCCircuit circuit) {
+            return new Layout(circuit);
+        }
+
+        /**
+         * Agrega el componente entre 'from' y 'to' (sentido de recorrido); devuelve true
+         * si el elemento quedó orientado como el recorrido
+         */
+        private boolean stamp(DCComponent comp, int from, int to) {
+            switch (comp.getType()) {
+                case RESISTOR:
+                    netlist.addResistor(from, to, comp.getValue());
+                    return true;
+                case BATTERY:
+                case DC_SOURCE:
+                    // La fuente eleva el potencial en el sentido del recorrido
+                    netlist.addVoltageSource(to, from, comp.getValue());
+                    return false;
+                default:
+                    // Amperímetro ideal: fuente de 0 V
+                    netlist.addVoltageSource(to, from, 0);
+                    return false;
+            }
+        }
+
+        int getComponentCount() { return components.length; }
+        DCComponent getComponent(int index) { return components[index]; }
+
+        /**
+         * Elemento del netlist del componente, o -1 si no se estampa (voltímetros)
+         */
+        int elementOf(int index) { return componentElement[index]; }
+
+        /**
+         * Corriente de cada rama con la convención de los resultados: en serie la del
+         * lazo; en paralelo positiva cuando baja del nodo superior a tierra
+         */
+        void branchCurrents(IntToDoubleFunction elementCurrent, double[] out) {
+            if (series) {
+                double loopCurrent = loopBranch >= 0 ? walkCurrent(elementCurrent, loopBranch) : 0;
+                Arrays.fill(out, 0, branchElement.length, loopCurrent);
+                return;
+            }
+            for (int b = 0; b < branchElement.length; b++) {
+                out[b] = branchElement[b] >= 0 ? -walkCurrent(elementCurrent, b) : 0;
+            }
+        }
+
+        private double walkCurrent(IntToDoubleFunction elementCurrent, int branch) {
+            double current = elementCurrent.applyAsDouble(branchElement[branch]);
+            return branchForward[branch] ? current : -current;
+        }
+
+        /**
+         * Caída I·R en cada resistor con la corriente de su rama; las fuentes informan su
+         * valor. El componente 'overridden' (o -1) usa 'value' en lugar del suyo.
+         */
+        void componentVoltages(double[] branchCurrents, int overridden, double value, double[] out) {
+            for (int c = 0; c < components.length; c++) {
+                DCComponent comp = components[c];
+                double componentValue = c == overridden ? value : comp.getValue();
+                switch (comp.getType()) {
+                    case RESISTOR:
+                        out[c] = branchCurrents[componentBranch[c]] * componentValue;
+                        break;
+                    case BATTERY:
+                    case DC_SOURCE:
+                        out[c] = componentValue;
+                        break;
+                    default:
+                        out[c] = 0; // Amperímetros y voltímetros ideales
+                        break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,855 @@
+package com.simulador.engine.dc;
+
+import com.simulador.model.dc.DCNetlist;
+import com.simulador.model.dc.DCNodalSolution;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Análisis nodal modificado (MNA) de un netlist DC arbitrario
+ *
+ * Las incógnitas son las tensiones de los nodos (sin tierra) y la corriente de cada
+ * fuente de voltaje. Los resistores se estampan como conductancias, las fuentes de
+ * voltaje agregan su fila de restricción y las de corriente sólo el lado derecho.
+ *
+ * En el constructor se numeran las incógnitas con Cuthill-McKee inverso, que deja la
+ * matriz con un ancho de banda chico (la corriente de cada fuente queda junto a sus
+ * nodos), y se reserva el espacio de trabajo. Si la banda es angosta, cada
+ * {@link #solve()} estampa y factoriza en esos mismos arreglos con LU en banda y pivoteo
+ * parcial: el costo es del orden de n·b². En redes anchas (mallas de decenas de miles de
+ * nodos) la banda crece como n·√n, así que se pasa a {@link SparseLU}, que ordena con
+ * grado mínimo aproximado una sola vez y en cada resolución refactoriza sobre la misma
+ * estructura; la memoria queda proporcional a los no nulos más el relleno.
+ *
+ * Cuando cambian pocas resistencias sobre una factorización vigente no se refactoriza:
+ * cada cambio Δg entre los nodos a y b es una corrección de rango uno Δg·u·uᵀ con
+ * u = e(a) − e(b), y la solución se corrige con la fórmula de Sherman-Morrison-Woodbury
+ * a costa de una sustitución por resistor modificado y un sistema denso de k×k. Tras
+ * cada corrección se mide el residuo de KCL con los valores vigentes; si se degradó, o
+ * si se acumulan más de {@link #MAX_UPDATES} cambios, se factoriza de nuevo.
+ *
+ * La instancia guarda su espacio de trabajo y no es segura para uso concurrente;
+ * conviene una por hilo. Para varios hilos sobre el mismo netlist, el constructor de
+ * copia comparte el ordenamiento, la estructura y el análisis simbólico y sólo reserva
+ * un espacio de trabajo nuevo.
+ */
+public final class DCNodalSolver {
+
+    /** Pivote mínimo relativo al mayor elemento de la matriz */
+    private static final double PIVOT_TOLERANCE = 1e-13;
+
+    /** Por encima de esta relación entre celdas de la banda y no nulos se usa LU disperso */
+    private static final int BANDED_FILL_LIMIT = 16;
+
+    /** Resistores modificados que se corrigen por Woodbury antes de refactorizar */
+    public static final int MAX_UPDATES = 8;
+
+    /** Residuo relativo de KCL tolerado en una solución corregida por Woodbury */
+    private static final double DRIFT_TOLERANCE = 1e-9;
+
+    private final DCNetlist netlist;
+    private final int size;
+    private final int lower;   // subdiagonales
+    private final int upper;   // superdiagonales (más el relleno del pivoteo)
+    private final int width;
+
+    // Elementos: tipo, valor vigente y filas de sus nodos (-1 para tierra)
+    private final DCNetlist.Kind[] kind;
+    private final double[] value;
+    private final int[] rowA, rowB;
+    private final int[] currentRow;    // fila de la corriente de cada fuente de voltaje, -1 si no aplica
+    private final int[] nodeToRow;
+    private final int[] slot;          // 4 por elemento: posiciones de su estampa en la matriz, -1 si no aplica
+
+    // Espacio de trabajo en banda: A(i, j) en band[i·width + j − i + lower]
+    private final double[] band;
+    private final int[] pivot;
+
+    // Espacio de trabajo disperso (null en modo banda)
+    private final SparseMatrix matrix;
+    private final SparseLU.Symbolic symbolic;
+    private SparseLU lu;
+    private boolean factored;
+
+    // Correcciones de rango bajo sobre la factorización: resistor, Δg y A⁻¹·u
+    private final double[] factoredValue;
+    private final int[] updateElement = new int[MAX_UPDATES];
+    private final double[] updateDelta = new double[MAX_UPDATES];
+    private final double[][] updateSolution = new double[MAX_UPDATES][];
+    private final boolean[] updateReady = new boolean[MAX_UPDATES];
+    private int updateCount;
+    private long refactorizations;
+
+    // Sistema de k×k de Woodbury y residuo, reservados una vez
+    private final double[][] capacitance = new double[MAX_UPDATES][MAX_UPDATES + 1];
+    private final double[] weight = new double[MAX_UPDATES];
+    private final double[] residual;
+
+    private final double[] x;
+    private final double[] rhs;
+
+    public DCNodalSolver(DCNetlist netlist) {
+        if (netlist == null) {
+            throw new IllegalArgumentException("Netlist cannot be null");
+        }
+        List<DCNetlist.Element> elements = netlist.getElements();
+        if (elements.isEmpty()) {
+            throw new IllegalArgumentException("Netlist has no elements");
+        }
+        this.netlist = netlist;
+
+        int nodes = netlist.getNodeCount();
+        checkGrounded(netlist);
+
+        // Vértices: nodos 1..N-1 y luego una corriente por fuente de voltaje
+        int m = elements.size();
+        int vertices = nodes - 1 + netlist.getVoltageSourceCount();
+        this.size = vertices;
+        int[] sourceVertex = new int[m];
+        int[] degree = new int[vertices];
+        int next = nodes - 1;
+        for (int e = 0; e < m; e++) {
+            DCNetlist.Element element = elements.get(e);
+            int a = element.getNodeA() - 1, b = element.getNodeB() - 1;
+            sourceVertex[e] = -1;
+            switch (element.getKind()) {
+                case RESISTOR:
+                    if (a >= 0 && b >= 0) { degree[a]++; degree[b]++; }
+                    break;
+                case VOLTAGE_SOURCE:
+                    int k = next++;
+                    sourceVertex[e] = k;
+                    if (a >= 0) { degree[a]++; degree[k]++; }
+                    if (b >= 0) { degree[b]++; degree[k]++; }
+                    break;
+                default:
+                    break;
+            }
+        }
+        int[] adjStart = new int[vertices + 1];
+        for (int v = 0; v < vertices; v++) {
+            adjStart[v + 1] = adjStart[v] + degree[v];
+        }
+        int[] adjacency = new int[adjStart[vertices]];
+        int[] fill = Arrays.copyOf(adjStart, vertices);
+        for (int e = 0; e < m; e++) {
+            DCNetlist.Element element = elements.get(e);
+            int a = element.getNodeA() - 1, b = element.getNodeB() - 1;
+            if (element.getKind() == DCNetlist.Kind.RESISTOR) {
+                if (a >= 0 && b >= 0) {
+                    adjacency[fill[a]++] = b;
+                    adjacency[fill[b]++] = a;
+                }
+            } else if (element.getKind() == DCNetlist.Kind.VOLTAGE_SOURCE) {
+                int k = sourceVertex[e];
+                if (a >= 0) { adjacency[fill[a]++] = k; adjacency[fill[k]++] = a; }
+                if (b >= 0) { adjacency[fill[b]++] = k; adjacency[fill[k]++] = b; }
+            }
+        }
+
+        int[] position = reverseCuthillMcKee(adjStart, adjacency);
+
+        this.nodeToRow = new int[nodes];
+        nodeToRow[DCNetlist.GROUND] = -1;
+        for (int node = 1; node < nodes; node++) {
+            nodeToRow[node] = position[node - 1];
+        }
+
+        this.kind = new DCNetlist.Kind[m];
+        this.value = new double[m];
+        this.rowA = new int[m];
+        this.rowB = new int[m];
+        this.currentRow = new int[m];
+        int bandwidth = 0;
+        for (int e = 0; e < m; e++) {
+            DCNetlist.Element element = elements.get(e);
+            kind[e] = element.getKind();
+            value[e] = element.getValue();
+            rowA[e] = nodeToRow[element.getNodeA()];
+            rowB[e] = nodeToRow[element.getNodeB()];
+            currentRow[e] = sourceVertex[e] >= 0 ? position[sourceVertex[e]] : -1;
+
+            int a = rowA[e], b = rowB[e], k = currentRow[e];
+            if (kind[e] == DCNetlist.Kind.RESISTOR && a >= 0 && b >= 0) {
+                bandwidth = Math.max(bandwidth, Math.abs(a - b));
+            } else if (k >= 0) {
+                if (a >= 0) bandwidth = Math.max(bandwidth, Math.abs(a - k));
+                if (b >= 0) bandwidth = Math.max(bandwidth, Math.abs(b - k));
+            }
+        }
+
+        // El pivoteo parcial puede subir una fila hasta 'lower' posiciones: la parte
+        // superior crece en la misma cantidad
+        this.lower = bandwidth;
+        this.upper = 2 * bandwidth;
+        this.width = lower + upper + 1;
+        this.x = new double[size];
+        this.rhs = new double[size];
+        this.residual = new double[size];
+        this.factoredValue = new double[m];
+
+        // Estampas: resistor (aa, bb, ab, ba) con ±g; fuente de voltaje (ak, ka, bk, kb) con ±1
+        int[][] stampCells = new int[m][];
+        SparseMatrix.Builder builder = new SparseMatrix.Builder(size);
+        for (int e = 0; e < m; e++) {
+            int a = rowA[e], b = rowB[e], k = currentRow[e];
+            if (kind[e] == DCNetlist.Kind.RESISTOR) {
+                stampCells[e] = new int[] { a, a, b, b, a, b, b, a };
+            } else if (kind[e] == DCNetlist.Kind.VOLTAGE_SOURCE) {
+                stampCells[e] = new int[] { a, k, k, a, b, k, k, b };
+            } else {
+                continue;
+            }
+            for (int t = 0; t < 8; t += 2) {
+                int i = stampCells[e][t], j = stampCells[e][t + 1];
+                if (i >= 0 && j >= 0) {
+                    builder.add(i, j, 0);
+                }
+            }
+        }
+        SparseMatrix pattern = builder.build();
+        boolean sparse = (long) size * width > (long) BANDED_FILL_LIMIT * pattern.getNonZeros();
+
+        this.slot = new int[4 * m];
+        Arrays.fill(slot, -1);
+        for (int e = 0; e < m; e++) {
+            if (stampCells[e] == null) {
+                continue;
+            }
+            for (int t = 0; t < 4; t++) {
+                int i = stampCells[e][2 * t], j = stampCells[e][2 * t + 1];
+                if (i >= 0 && j >= 0) {
+                    slot[4 * e + t] = sparse ? pattern.indexOf(i, j) : index(i, j);
+                }
+            }
+        }
+
+        if (sparse) {
+            this.matrix = pattern;
+            this.symbolic = SparseLU.analyze(pattern);
+            this.band = null;
+            this.pivot = null;
+        } else {
+            this.matrix = null;
+            this.symbolic = null;
+            this.band = new double[size * width];
+            this.pivot = new int[size];
+        }
+    }
+
+    /**
+     * Solver sobre el mismo netlist que comparte con {@code prototype} todo lo que no
+     * cambia entre resoluciones (numeración, estampas, patrón y análisis simbólico) y
+     * tiene su propio espacio de trabajo; parte de los valores vigentes del prototipo,
+     * sin factorizar
+     */
+    DCNodalSolver(DCNodalSolver prototype) {
+        this.netlist = prototype.netlist;
+        this.size = prototype.size;
+        this.lower = prototype.lower;
+        this.upper = prototype.upper;
+        this.width = prototype.width;
+        this.kind = prototype.kind;
+        this.value = prototype.value.clone();
+        this.rowA = prototype.rowA;
+        this.rowB = prototype.rowB;
+        this.currentRow = prototype.currentRow;
+        this.nodeToRow = prototype.nodeToRow;
+        this.slot = prototype.slot;
+        this.symbolic = prototype.symbolic;
+        this.matrix = prototype.matrix != null ? prototype.matrix.copy() : null;
+        this.band = prototype.band != null ? new double[prototype.band.length] : null;
+        this.pivot = prototype.pivot != null ? new int[size] : null;
+        this.factoredValue = new double[value.length];
+        this.residual = new double[size];
+        this.x = new double[size];
+        this.rhs = new double[size];
+    }
+
+    /**
+     * Verifica que todo nodo tenga un camino a tierra por resistores o fuentes de voltaje
+     */
+    private static void checkGrounded(DCNetlist netlist) {
+        int nodes = netlist.getNodeCount();
+        int[] parent = new int[nodes];
+        for (int node = 0; node < nodes; node++) {
+            parent[node] = node;
+        }
+        for (DCNetlist.Element element : netlist.getElements()) {
+            if (element.getKind() != DCNetlist.Kind.CURRENT_SOURCE) {
+                parent[root(parent, element.getNodeA())] = root(parent, element.getNodeB());
+            }
+        }
+        int ground = root(parent, DCNetlist.GROUND);
+        for (int node = 1; node < nodes; node++) {
+            if (root(parent, node) != ground) {
+                throw new IllegalArgumentException("Node " + node + " has no DC path to ground");
+            }
+        }
+    }
+
+    private static int root(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    /**
+     * Ordenamiento Cuthill-McKee inverso; devuelve la posición de cada vértice
+     *
+     * Cada componente conexa arranca desde un vértice pseudo-periférico y se recorre en
+     * anchura visitando primero los vecinos de menor grado.
+     */
+    private static int[] reverseCuthillMcKee(int[] adjStart, int[] adjacency) {
+        int n = adjStart.length - 1;
+        int[] order = new int[n];
+        int[] level = new int[n];
+        boolean[] visited = new boolean[n];
+        int count = 0;
+
+        while (count < n) {
+            int start = -1;
+            for (int v = 0; v < n; v++) {
+                if (!visited[v] && (start < 0 || degree(adjStart, v) < degree(adjStart, start))) {
+                    start = v;
+                }
+            }
+            start = peripheral(start, adjStart, adjacency, level);
+
+            int head = count;
+            order[count++] = start;
+            visited[start] = true;
+            while (head < count) {
+                int v = order[head++];
+                int first = count;
+                for (int p = adjStart[v]; p < adjStart[v + 1]; p++) {
+                    int u = adjacency[p];
+                    if (!visited[u]) {
+                        visited[u] = true;
+                        order[count++] = u;
+                    }
+                }
+                // Vecinos recién agregados por grado creciente (inserción: suelen ser pocos)
+                for (int i = first + 1; i < count; i++) {
+                    int u = order[i];
+                    int j = i - 1;
+                    while (j >= first && degree(adjStart, order[j]) > degree(adjStart, u)) {
+                        order[j + 1] = order[j];
+                        j--;
+                    }
+                    order[j + 1] = u;
+                }
+            }
+        }
+
+        int[] position = new int[n];
+        for (int k = 0; k < n; k++) {
+            position[order[k]] = n - 1 - k;
+        }
+        return position;
+    }
+
+    // Vértice del último nivel de la búsqueda en anchura, repetido mientras la excentricidad crezca
+    private static int peripheral(int start, int[] adjStart, int[] adjacency, int[] level) {
+        int n = level.length;
+        int[] queue = new int[n];
+        int eccentricity = -1;
+        for (int round = 0; round < 4; round++) {
+            Arrays.fill(level, -1);
+            int head = 0, tail = 0;
+            queue[tail++] = start;
+            level[start] = 0;
+            int last = start;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int p = adjStart[v]; p < adjStart[v + 1]; p++) {
+                    int u = adjacency[p];
+                    if (level[u] < 0) {
+                        level[u] = level[v] + 1;
+                        queue[tail++] = u;
+                        if (level[u] > level[last]
+                            || (level[u] == level[last] && degree(adjStart, u) < degree(adjStart, last))) {
+                            last = u;
+                        }
+                    }
+                }
+            }
+            if (level[last] <= eccentricity) {
+                break;
+            }
+            eccentricity = level[last];
+            start = last;
+        }
+        return start;
+    }
+
+    private static int degree(int[] adjStart, int v) {
+        return adjStart[v + 1] - adjStart[v];
+    }
+
+    // Getters
+    public DCNetlist getNetlist() { return netlist; }
+    public int getUnknownCount() { return size; }
+
+    /**
+     * Ancho de banda de la matriz MNA después del reordenamiento
+     */
+    public int getBandwidth() { return lower; }
+
+    /**
+     * true si la red es ancha y se resuelve con {@link SparseLU} en lugar de la banda
+     */
+    public boolean isSparse() { return matrix != null; }
+
+    public double getValue(int element) { return value[element]; }
+
+    /**
+     * Cambia el valor de un elemento para las próximas resoluciones
+     *
+     * La topología y el ordenamiento no cambian; el netlist original no se modifica.
+     * Las fuentes sólo entran en el lado derecho, así que cambiarlas conserva la
+     * factorización; cambiar una resistencia agrega una corrección de rango uno o, si ya
+     * hay {@link #MAX_UPDATES}, obliga a factorizar de nuevo.
+     */
+    public void setValue(int element, double newValue) {
+        if (kind[element] == DCNetlist.Kind.RESISTOR) {
+            if (!(newValue > 0) || Double.isInfinite(newValue)) {
+                throw new IllegalArgumentException("Resistance must be positive and finite");
+            }
+        } else if (!Double.isFinite(newValue)) {
+            throw new IllegalArgumentException("Source value must be finite");
+        }
+        boolean resistanceChanged = kind[element] == DCNetlist.Kind.RESISTOR && newValue != value[element];
+        value[element] = newValue;
+        if (resistanceChanged && factored) {
+            trackUpdate(element);
+        }
+    }
+
+    /**
+     * true si hay una factorización vigente, con o sin correcciones de rango bajo pendientes
+     */
+    public boolean isFactored() { return factored; }
+
+    /**
+     * Resistores que hoy se corrigen por Woodbury sobre la factorización
+     */
+    public int getUpdateRank() { return updateCount; }
+
+    /**
+     * Factorizaciones numéricas hechas desde que se creó el solver
+     */
+    public long getFactorizationCount() { return refactorizations; }
+
+    /**
+     * Registra el cambio de conductancia de un resistor respecto de la factorización
+     */
+    private void trackUpdate(int element) {
+        double delta = 1.0 / value[element] - 1.0 / factoredValue[element];
+        int slotIndex = -1;
+        for (int j = 0; j < updateCount; j++) {
+            if (updateElement[j] == element) {
+                slotIndex = j;
+                break;
+            }
+        }
+        if (delta == 0) {
+            // Volvió al valor factorizado: se descarta su corrección
+            if (slotIndex >= 0) {
+                int last = --updateCount;
+                updateElement[slotIndex] = updateElement[last];
+                updateDelta[slotIndex] = updateDelta[last];
+                double[] solution = updateSolution[slotIndex];
+                updateSolution[slotIndex] = updateSolution[last];
+                updateSolution[last] = solution;
+                updateReady[slotIndex] = updateReady[last];
+            }
+            return;
+        }
+        if (slotIndex < 0) {
+            if (updateCount == MAX_UPDATES) {
+                factored = false;
+                updateCount = 0;
+                return;
+            }
+            slotIndex = updateCount++;
+            updateElement[slotIndex] = element;
+            updateReady[slotIndex] = false;
+        }
+        updateDelta[slotIndex] = delta;
+    }
+
+    /**
+     * Resuelve el circuito con los valores vigentes
+     *
+     * Sólo factoriza si no hay factorización vigente; si no, arma el lado derecho, hace
+     * las sustituciones (del orden de los no nulos de L y U) y aplica las correcciones de
+     * rango bajo de los resistores que cambiaron.
+     */
+    public DCNodalSolution solve() {
+        solveInPlace();
+
+        int nodes = netlist.getNodeCount();
+        double[] voltages = new double[nodes];
+        for (int node = 1; node < nodes; node++) {
+            voltages[node] = x[nodeToRow[node]];
+        }
+        int m = kind.length;
+        double[] currents = new double[m];
+        double[] powers = new double[m];
+        double delivered = 0;
+        for (int e = 0; e < m; e++) {
+            currents[e] = elementCurrent(e);
+            powers[e] = difference(x, rowA[e], rowB[e]) * currents[e];
+            if (kind[e] != DCNetlist.Kind.RESISTOR) {
+                delivered -= powers[e];
+            }
+        }
+        return new DCNodalSolution(voltages, currents, powers, delivered);
+    }
+
+    /**
+     * Resuelve y deja las incógnitas en el espacio de trabajo, sin armar la solución;
+     * los barridos leen de ahí con {@link #elementCurrent(int)}
+     */
+    void solveInPlace() {
+        if (!factored) {
+            factor();
+        }
+        substitute();
+        if (updateCount > 0 && !applyUpdates()) {
+            factored = false;
+            factor();
+            substitute();
+        }
+    }
+
+    /**
+     * Corriente del elemento en la última resolución, del primer nodo al segundo
+     */
+    double elementCurrent(int element) {
+        switch (kind[element]) {
+            case RESISTOR:
+                return difference(x, rowA[element], rowB[element]) / value[element];
+            case VOLTAGE_SOURCE:
+                return x[currentRow[element]];
+            default:
+                return value[element];
+        }
+    }
+
+    /**
+     * Estampa la matriz MNA y la factoriza; las fuentes no intervienen
+     */
+    private void factor() {
+        updateCount = 0;
+        double[] target = matrix != null ? matrix.getValues() : band;
+        Arrays.fill(target, 0);
+        for (int e = 0; e < kind.length; e++) {
+            if (kind[e] == DCNetlist.Kind.RESISTOR) {
+                stamp(target, e, 1.0 / value[e]);
+            } else if (kind[e] == DCNetlist.Kind.VOLTAGE_SOURCE) {
+                // KCL: la corriente sale de A hacia la fuente; fila k: V(A) − V(B) = V
+                stamp(target, e, 1);
+            }
+        }
+
+        if (matrix != null) {
+            // Misma estructura: se reutilizan los pivotes mientras sigan siendo estables
+            if (lu == null || !lu.refactor(matrix)) {
+                lu = SparseLU.factor(matrix, symbolic);
+            }
+            factorized();
+            return;
+        }
+
+        int n = size;
+        double norm = 0;
+        for (double v : band) {
+            norm = Math.max(norm, Math.abs(v));
+        }
+        double tolerance = PIVOT_TOLERANCE * norm;
+
+        // LU en banda con pivoteo parcial; los multiplicadores quedan bajo la diagonal
+        for (int k = 0; k < n; k++) {
+            int last = Math.min(n - 1, k + lower);
+            int p = k;
+            double best = Math.abs(band[index(k, k)]);
+            for (int i = k + 1; i <= last; i++) {
+                double magnitude = Math.abs(band[index(i, k)]);
+                if (magnitude > best) {
+                    best = magnitude;
+                    p = i;
+                }
+            }
+            if (!(best > tolerance)) {
+                throw new ArithmeticException("Singular MNA matrix (voltage source loop or floating node)");
+            }
+            pivot[k] = p;
+            int end = Math.min(n - 1, k + upper);
+            if (p != k) {
+                for (int j = k; j <= end; j++) {
+                    int ik = index(k, j), ip = index(p, j);
+                    double t = band[ik];
+                    band[ik] = band[ip];
+                    band[ip] = t;
+                }
+            }
+            double inverse = 1.0 / band[index(k, k)];
+            int rowK = k * width - k + lower;
+            for (int i = k + 1; i <= last; i++) {
+                int rowI = i * width - i + lower;
+                double l = band[rowI + k] * inverse;
+                band[rowI + k] = l;
+                if (l != 0) {
+                    for (int j = k + 1; j <= end; j++) {
+                        band[rowI + j] -= l * band[rowK + j];
+                    }
+                }
+            }
+        }
+        factorized();
+    }
+
+    // Toma nota de las resistencias con que quedó factorizada la matriz
+    private void factorized() {
+        System.arraycopy(value, 0, factoredValue, 0, value.length);
+        factored = true;
+        refactorizations++;
+    }
+
+    /**
+     * Arma el lado derecho con los valores vigentes de las fuentes y lo resuelve con
+     * los factores existentes; deja la solución en x
+     */
+    private void substitute() {
+        Arrays.fill(rhs, 0);
+        for (int e = 0; e < kind.length; e++) {
+            if (kind[e] == DCNetlist.Kind.VOLTAGE_SOURCE) {
+                rhs[currentRow[e]] += value[e];
+            } else if (kind[e] == DCNetlist.Kind.CURRENT_SOURCE) {
+                if (rowA[e] >= 0) rhs[rowA[e]] -= value[e];
+                if (rowB[e] >= 0) rhs[rowB[e]] += value[e];
+            }
+        }
+        System.arraycopy(rhs, 0, x, 0, size);
+        solveFactored(x);
+    }
+
+    /**
+     * Woodbury: con x = A⁻¹·b y Z = A⁻¹·U, la solución de (A + U·D·Uᵀ)·x' = b es
+     * x' = x − Z·(D⁻¹ + Uᵀ·Z)⁻¹·Uᵀ·x
+     *
+     * @return false si el sistema de k×k es singular o el residuo quedó fuera de tolerancia
+     */
+    private boolean applyUpdates() {
+        int k = updateCount;
+        for (int j = 0; j < k; j++) {
+            if (!updateReady[j]) {
+                if (updateSolution[j] == null) {
+                    updateSolution[j] = new double[size];
+                }
+                double[] z = updateSolution[j];
+                Arrays.fill(z, 0);
+                int e = updateElement[j];
+                if (rowA[e] >= 0) z[rowA[e]] = 1;
+                if (rowB[e] >= 0) z[rowB[e]] = -1;
+                solveFactored(z);
+                updateReady[j] = true;
+            }
+        }
+
+        double[][] capacitance = this.capacitance;
+        double norm = 0;
+        for (int i = 0; i < k; i++) {
+            int e = updateElement[i];
+            for (int j = 0; j < k; j++) {
+                capacitance[i][j] = difference(updateSolution[j], rowA[e], rowB[e]);
+            }
+            capacitance[i][i] += 1.0 / updateDelta[i];
+            capacitance[i][k] = difference(x, rowA[e], rowB[e]);
+            for (int j = 0; j < k; j++) {
+                norm = Math.max(norm, Math.abs(capacitance[i][j]));
+            }
+        }
+
+        // Eliminación gaussiana con pivoteo parcial sobre el sistema chico
+        for (int c = 0; c < k; c++) {
+            int p = c;
+            for (int r = c + 1; r < k; r++) {
+                if (Math.abs(capacitance[r][c]) > Math.abs(capacitance[p][c])) {
+                    p = r;
+                }
+            }
+            if (!(Math.abs(capacitance[p][c]) > PIVOT_TOLERANCE * norm)) {
+                return false;
+            }
+            double[] t = capacitance[c];
+            capacitance[c] = capacitance[p];
+            capacitance[p] = t;
+            for (int r = c + 1; r < k; r++) {
+                double l = capacitance[r][c] / capacitance[c][c];
+                for (int j = c; j <= k; j++) {
+                    capacitance[r][j] -= l * capacitance[c][j];
+                }
+            }
+        }
+        double[] w = weight;
+        for (int r = k - 1; r >= 0; r--) {
+            double sum = capacitance[r][k];
+            for (int j = r + 1; j < k; j++) {
+                sum -= capacitance[r][j] * w[j];
+            }
+            w[r] = sum / capacitance[r][r];
+        }
+
+        for (int j = 0; j < k; j++) {
+            double[] z = updateSolution[j];
+            double wj = w[j];
+            for (int i = 0; i < size; i++) {
+                x[i] -= wj * z[i];
+            }
+        }
+        return residualWithinTolerance();
+    }
+
+    private static double difference(double[] v, int a, int b) {
+        return (a >= 0 ? v[a] : 0) - (b >= 0 ? v[b] : 0);
+    }
+
+    /**
+     * Residuo de la solución con los valores vigentes, medido elemento por elemento:
+     * las filas de KCL contra la mayor corriente y las de las fuentes contra la mayor tensión
+     */
+    private boolean residualWithinTolerance() {
+        double[] residual = this.residual;
+        Arrays.fill(residual, 0);
+        double currentScale = 0, voltageScale = 0, voltageError = 0;
+        for (int e = 0; e < kind.length; e++) {
+            int a = rowA[e], b = rowB[e];
+            double drop = difference(x, a, b);
+            double current;
+            if (kind[e] == DCNetlist.Kind.RESISTOR) {
+                current = drop / value[e];
+            } else if (kind[e] == DCNetlist.Kind.VOLTAGE_SOURCE) {
+                current = x[currentRow[e]];
+                voltageScale = Math.max(voltageScale, Math.max(Math.abs(drop), Math.abs(value[e])));
+                voltageError = Math.max(voltageError, Math.abs(drop - value[e]));
+            } else {
+                continue;
+            }
+            if (a >= 0) residual[a] += current;
+            if (b >= 0) residual[b] -= current;
+            currentScale = Math.max(currentScale, Math.abs(current));
+        }
+        double currentError = 0;
+        for (int node = 1; node < nodeToRow.length; node++) {
+            int i = nodeToRow[node];
+            currentScale = Math.max(currentScale, Math.abs(rhs[i]));
+            currentError = Math.max(currentError, Math.abs(residual[i] - rhs[i]));
+        }
+        return currentError <= DRIFT_TOLERANCE * currentScale
+            && voltageError <= DRIFT_TOLERANCE * voltageScale;
+    }
+
+    /**
+     * Sustituciones hacia adelante y hacia atrás sobre los factores vigentes, en el lugar
+     */
+    private void solveFactored(double[] v) {
+        if (matrix != null) {
+            lu.solve(v, v);
+            return;
+        }
+
+        int n = size;
+        // Sustitución hacia adelante con los intercambios en el mismo orden
+        for (int k = 0; k < n; k++) {
+            int p = pivot[k];
+            if (p != k) {
+                double t = v[k];
+                v[k] = v[p];
+                v[p] = t;
+            }
+            double xk = v[k];
+            if (xk != 0) {
+                for (int i = k + 1, last = Math.min(n - 1, k + lower); i <= last; i++) {
+                    v[i] -= band[index(i, k)] * xk;
+                }
+            }
+        }
+
+        // Sustitución hacia atrás sobre U
+        for (int i = n - 1; i >= 0; i--) {
+            int rowI = i * width - i + lower;
+            double sum = v[i];
+            for (int j = i + 1, end = Math.min(n - 1, i + upper); j <= end; j++) {
+                sum -= band[rowI + j] * v[j];
+            }
+            v[i] = sum / band[rowI + i];
+        }
+    }
+
+    private void stamp(double[] target, int element, double magnitude) {
+        int base = 4 * element;
+        for (int t = 0; t < 4; t++) {
+            int position = slot[base + t];
+            if (position >= 0) {
+                target[position] += t < 2 ? magnitude : -magnitude;
+            }
+        }
+    }
+
+    private int index(int row, int column) {
+        return row * width + column - row + lower;
+    }
+
+    /**
+     * Huella de la topología: tipo y nodos de cada elemento
+     *
+     * Los valores no forman parte de la clave: dos netlists con la misma topología
+     * comparten solver, y es el solver el que compara resistencias con las de su
+     * factorización para decidir entre sólo sustituir, corregir por Woodbury o refactorizar.
+     */
+    static final class Key {
+        private final DCNetlist.Kind[] kinds;
+        private final int[] nodes;
+        private final int hash;
+
+        private Key(DCNetlist.Kind[] kinds, int[] nodes) {
+            this.kinds = kinds;
+            this.nodes = nodes;
+            this.hash = 31 * Arrays.hashCode(kinds) + Arrays.hashCode(nodes);
+        }
+
+        static Key of(DCNetlist netlist) {
+            List<DCNetlist.Element> elements = netlist.getElements();
+            int m = elements.size();
+            DCNetlist.Kind[] kinds = new DCNetlist.Kind[m];
+            int[] nodes = new int[2 * m];
+            for (int e = 0; e < m; e++) {
+                DCNetlist.Element element = elements.get(e);
+                kinds[e] = element.getKind();
+                nodes[2 * e] = element.getNodeA();
+                nodes[2 * e + 1] = element.getNodeB();
+            }
+            return new Key(kinds, nodes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key that = (Key) obj;
+            return hash == that.hash
+                && Arrays.equals(nodes, that.nodes)
+                && Arrays.equals(kinds, that.kinds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
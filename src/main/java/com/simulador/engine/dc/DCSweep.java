@@ -0,0 +1,201 @@
+package com.simulador.engine.dc;
+
+import com.simulador.engine.SweepScale;
+import com.simulador.model.dc.DCCircuit;
+import com.simulador.model.dc.DCComponent;
+import com.simulador.model.dc.DCComponentType;
+import com.simulador.model.dc.DCSweepResult;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Barrido DC: una fuente o un resistor recorre N valores y en cada punto se resuelve el
+ * circuito por análisis nodal modificado
+ *
+ * Los puntos se reparten en bloques contiguos sobre el pool ForkJoin común. El
+ * ordenamiento, la estructura y el análisis simbólico se hacen una sola vez; cada hilo
+ * que ejecuta bloques toma una copia del solver con su propia matriz, lado derecho y
+ * pivotes (indexada por {@link ForkJoinWorkerThread#getPoolIndex()}) y la reutiliza en
+ * todos sus bloques, así que los hilos no comparten nada mutable. Barrer una fuente
+ * cuesta una factorización por hilo y sólo sustituciones por punto; barrer un resistor,
+ * una corrección de rango uno por punto sobre esa misma factorización.
+ */
+public class DCSweep {
+
+    /** Puntos mínimos por bloque: por debajo no compensa repartir el trabajo */
+    private static final int MIN_BLOCK_POINTS = 64;
+
+    private final DCCircuit circuit;
+    private final DCComponent target;
+    private final double[] values;
+
+    public DCSweep(DCCircuit circuit, DCComponent target,
+                   double start, double stop, int points, SweepScale scale) {
+        if (circuit == null || !circuit.isValid()) {
+            throw new IllegalArgumentException("Circuito DC no válido para el barrido");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Swept component cannot be null");
+        }
+        DCComponentType type = target.getType();
+        if (type != DCComponentType.RESISTOR && type != DCComponentType.BATTERY
+            && type != DCComponentType.DC_SOURCE) {
+            throw new IllegalArgumentException("Only sources and resistors can be swept");
+        }
+        if (!Double.isFinite(start) || !Double.isFinite(stop) || start == stop) {
+            throw new IllegalArgumentException("Sweep range must be finite with start != stop");
+        }
+        if ((type == DCComponentType.RESISTOR || scale == SweepScale.LOGARITHMIC)
+            && (start <= 0 || stop <= 0)) {
+            throw new IllegalArgumentException("Sweep range must be positive for resistors and logarithmic scale");
+        }
+        if (points < 2) {
+            throw new IllegalArgumentException("A sweep needs at least 2 points");
+        }
+        if (scale == null) {
+            throw new IllegalArgumentException("Sweep scale cannot be null");
+        }
+        this.circuit = circuit;
+        this.target = target;
+        this.values = scale.samples(start, stop, points);
+    }
+
+    public int getPointCount() { return values.length; }
+
+    /**
+     * Ejecuta el barrido
+     *
+     * @throws ArithmeticException si en algún punto el circuito resulta singular
+     */
+    public DCSweepResult run() {
+        DCModifiedNodalStrategy.Layout layout = DCModifiedNodalStrategy.Layout.of(circuit);
+        int targetIndex = -1;
+        for (int c = 0; c < layout.getComponentCount(); c++) {
+            if (layout.getComponent(c) == target) {
+                targetIndex = c;
+                break;
+            }
+        }
+        if (targetIndex < 0) {
+            throw new IllegalArgumentException("Swept component does not belong to the circuit");
+        }
+
+        int points = values.length;
+        double[][] branchCurrents = new double[circuit.getBranchCount()][points];
+        double[][] componentVoltages = new double[layout.getComponentCount()][points];
+
+        // Unos cuatro bloques por hilo para que el robo de trabajo equilibre la carga
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int parallelism = pool.getParallelism();
+        int blockPoints = Math.max(MIN_BLOCK_POINTS, (points + 4 * parallelism - 1) / (4 * parallelism));
+        Workspaces workspaces = new Workspaces(new DCNodalSolver(layout.netlist), pool);
+        Block block = new Block(layout, targetIndex, workspaces, branchCurrents, componentVoltages, 0, points);
+        if (points <= blockPoints) {
+            block.evaluate();
+        } else {
+            block.blockPoints = blockPoints;
+            pool.invoke(block);
+        }
+        return new DCSweepResult(target.getType(), values.clone(), branchCurrents, componentVoltages);
+    }
+
+    /**
+     * Un solver por hilo: la ranura 0 es del hilo que llamó a {@link #run()} y la i + 1
+     * del worker de índice i del pool. Cada ranura la lee y escribe sólo su hilo, y los
+     * resultados se publican al terminar las tareas, así que no hace falta sincronizar.
+     */
+    private static final class Workspaces {
+        private final DCNodalSolver prototype;
+        private final ForkJoinPool pool;
+        private final DCNodalSolver[] solvers;
+
+        Workspaces(DCNodalSolver prototype, ForkJoinPool pool) {
+            this.prototype = prototype;
+            this.pool = pool;
+            // Los índices no son consecutivos: el pool los toma de una tabla que duplica
+            // el paralelismo, así que se reserva esa cantidad
+            this.solvers = new DCNodalSolver[2 * pool.getParallelism() + 1];
+            solvers[0] = prototype;
+        }
+
+        DCNodalSolver current() {
+            Thread thread = Thread.currentThread();
+            if (!(thread instanceof ForkJoinWorkerThread)
+                || ((ForkJoinWorkerThread) thread).getPool() != pool) {
+                return prototype;
+            }
+            int slot = ((ForkJoinWorkerThread) thread).getPoolIndex() + 1;
+            if (slot >= solvers.length) {
+                // Hilo de compensación del pool: es raro y no vale una ranura fija
+                return new DCNodalSolver(prototype);
+            }
+            DCNodalSolver solver = solvers[slot];
+            if (solver == null) {
+                solver = new DCNodalSolver(prototype);
+                solvers[slot] = solver;
+            }
+            return solver;
+        }
+    }
+
+    /**
+     * Rango de puntos resuelto por una tarea ForkJoin con el solver del hilo que la ejecuta
+     */
+    private final class Block extends RecursiveAction {
+        private final DCModifiedNodalStrategy.Layout layout;
+        private final int targetIndex;
+        private final Workspaces workspaces;
+        private final double[][] branchCurrents;
+        private final double[][] componentVoltages;
+        private final int from, to;
+        private int blockPoints = Integer.MAX_VALUE;
+
+        Block(DCModifiedNodalStrategy.Layout layout, int targetIndex, Workspaces workspaces,
+              double[][] branchCurrents, double[][] componentVoltages, int from, int to) {
+            this.layout = layout;
+            this.targetIndex = targetIndex;
+            this.workspaces = workspaces;
+            this.branchCurrents = branchCurrents;
+            this.componentVoltages = componentVoltages;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= blockPoints) {
+                evaluate();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            Block left = new Block(layout, targetIndex, workspaces, branchCurrents, componentVoltages, from, mid);
+            Block right = new Block(layout, targetIndex, workspaces, branchCurrents, componentVoltages, mid, to);
+            left.blockPoints = blockPoints;
+            right.blockPoints = blockPoints;
+            invokeAll(left, right);
+        }
+
+        void evaluate() {
+            DCNodalSolver solver = workspaces.current();
+            int element = layout.elementOf(targetIndex);
+            double[] currents = new double[branchCurrents.length];
+            double[] voltages = new double[componentVoltages.length];
+            IntToDoubleFunction elementCurrent = solver::elementCurrent;
+
+            for (int p = from; p < to; p++) {
+                solver.setValue(element, values[p]);
+                solver.solveInPlace();
+                layout.branchCurrents(elementCurrent, currents);
+                layout.componentVoltages(currents, targetIndex, values[p], voltages);
+                for (int b = 0; b < currents.length; b++) {
+                    branchCurrents[b][p] = currents[b];
+                }
+                for (int c = 0; c < voltages.length; c++) {
+                    componentVoltages[c][p] = voltages[c];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package com.simulador.engine.dc;
+
+import java.util.Arrays;
+
+/**
+ * Factorización LU dispersa P·A·Q = L·U para sistemas MNA grandes
+ *
+ * Se divide en dos etapas:
+ * - Simbólica ({@link #analyze}): ordena las columnas con grado mínimo aproximado (AMD)
+ *   sobre el patrón de A + Aᵀ para reducir el relleno. Sólo depende de la topología.
+ * - Numérica ({@link #factor}): LU de Gilbert-Peierls por columnas, resolviendo para cada
+ *   columna un sistema triangular disperso cuyo patrón se obtiene con una búsqueda en
+ *   profundidad. El pivoteo es parcial con preferencia por la diagonal, que conserva el
+ *   orden de AMD salvo cuando la diagonal es chica (las filas de fuentes de voltaje).
+ *
+ * {@link #refactor} recalcula los valores con la misma estructura y los mismos pivotes,
+ * sin búsquedas; sirve cuando cambian los valores pero no la topología. La memoria es
+ * proporcional a los no nulos de A más el relleno de L y U.
+ *
+ * Una instancia guarda su espacio de trabajo y no es segura para uso concurrente.
+ */
+public final class SparseLU {
+
+    /** Pivote mínimo relativo al mayor elemento de la matriz */
+    private static final double PIVOT_TOLERANCE = 1e-13;
+
+    /** La diagonal se acepta como pivote si no es menor que esta fracción del máximo de la columna */
+    private static final double DIAGONAL_PREFERENCE = 1e-3;
+
+    /** En la refactorización, un pivote menor que esta fracción de su columna pide factorizar de nuevo */
+    private static final double REFACTOR_GROWTH = 1e-8;
+
+    /**
+     * Resultado del análisis simbólico: orden de columnas para una estructura dada
+     */
+    public static final class Symbolic {
+        private final int size;
+        private final int[] columnOrder;
+
+        private Symbolic(int size, int[] columnOrder) {
+            this.size = size;
+            this.columnOrder = columnOrder;
+        }
+
+        public int getSize() { return size; }
+
+        /**
+         * Columna de A eliminada en el paso k
+         */
+        public int getColumn(int k) { return columnOrder[k]; }
+    }
+
+    private final Symbolic symbolic;
+    private final int size;
+    private final int[] rowPosition;     // fila de A → fila pivote
+    private int[] lStart, lIndex;        // L por columnas, diagonal unitaria primero
+    private double[] lValue;
+    private int[] uStart, uIndex;        // U por columnas, diagonal al final
+    private double[] uValue;
+    private final double[] work;
+
+    private SparseLU(Symbolic symbolic) {
+        this.symbolic = symbolic;
+        this.size = symbolic.size;
+        this.rowPosition = new int[size];
+        this.work = new double[size];
+    }
+
+    /**
+     * Análisis simbólico: orden AMD de las columnas
+     */
+    public static Symbolic analyze(SparseMatrix a) {
+        return new Symbolic(a.getSize(), approximateMinimumDegree(a));
+    }
+
+    /**
+     * Factorización numérica completa
+     *
+     * @throws ArithmeticException si la matriz es singular
+     */
+    public static SparseLU factor(SparseMatrix a, Symbolic symbolic) {
+        if (a.getSize() != symbolic.size) {
+            throw new IllegalArgumentException("Symbolic analysis was made for a different matrix size");
+        }
+        SparseLU lu = new SparseLU(symbolic);
+        lu.decompose(a);
+        return lu;
+    }
+
+    /**
+     * Recalcula los factores para nuevos valores con la misma estructura de A,
+     * conservando los pivotes
+     *
+     * @return false si algún pivote quedó demasiado chico; entonces hay que llamar a
+     *         {@link #factor} (los factores quedan inválidos)
+     */
+    public boolean refactor(SparseMatrix a) {
+        int n = size;
+        int[] ap = a.columnStart(), ai = a.rowIndex();
+        double[] ax = a.getValues();
+        double[] x = work;
+        double tolerance = PIVOT_TOLERANCE * a.maxAbs();
+
+        for (int k = 0; k < n; k++) {
+            int column = symbolic.columnOrder[k];
+            for (int p = ap[column]; p < ap[column + 1]; p++) {
+                x[rowPosition[ai[p]]] = ax[p];
+            }
+            int diagonal = uStart[k + 1] - 1;
+            for (int p = uStart[k]; p < diagonal; p++) {
+                int j = uIndex[p];
+                double ujk = x[j];
+                x[j] = 0;
+                uValue[p] = ujk;
+                if (ujk != 0) {
+                    for (int q = lStart[j] + 1; q < lStart[j + 1]; q++) {
+                        x[lIndex[q]] -= lValue[q] * ujk;
+                    }
+                }
+            }
+            double pivot = x[k];
+            x[k] = 0;
+            double largest = Math.abs(pivot);
+            for (int q = lStart[k] + 1; q < lStart[k + 1]; q++) {
+                largest = Math.max(largest, Math.abs(x[lIndex[q]]));
+            }
+            if (!(Math.abs(pivot) > tolerance) || Math.abs(pivot) < REFACTOR_GROWTH * largest) {
+                Arrays.fill(x, 0);
+                return false;
+            }
+            uValue[diagonal] = pivot;
+            for (int q = lStart[k] + 1; q < lStart[k + 1]; q++) {
+                int i = lIndex[q];
+                lValue[q] = x[i] / pivot;
+                x[i] = 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resuelve A·x = b; b no se modifica y puede ser el mismo arreglo que x
+     */
+    public void solve(double[] b, double[] x) {
+        int n = size;
+        double[] y = work;
+        for (int i = 0; i < n; i++) {
+            y[rowPosition[i]] = b[i];
+        }
+        for (int j = 0; j < n; j++) {
+            double yj = y[j];
+            if (yj != 0) {
+                for (int p = lStart[j] + 1; p < lStart[j + 1]; p++) {
+                    y[lIndex[p]] -= lValue[p] * yj;
+                }
+            }
+        }
+        for (int j = n - 1; j >= 0; j--) {
+            int diagonal = uStart[j + 1] - 1;
+            double yj = y[j] / uValue[diagonal];
+            y[j] = yj;
+            if (yj != 0) {
+                for (int p = uStart[j]; p < diagonal; p++) {
+                    y[uIndex[p]] -= uValue[p] * yj;
+                }
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            x[symbolic.columnOrder[k]] = y[k];
+            y[k] = 0;
+        }
+    }
+
+    // Getters
+    public int getSize() { return size; }
+    public Symbolic getSymbolic() { return symbolic; }
+
+    /**
+     * No nulos de L y U juntos (la diagonal unitaria de L incluida)
+     */
+    public int getFactorNonZeros() { return lStart[size] + uStart[size]; }
+
+    /**
+     * Gilbert-Peierls: para cada columna k resuelve L·x = A(:, q[k]) sobre el patrón
+     * alcanzable desde las filas de esa columna, elige el pivote y separa U y L
+     */
+    private void decompose(SparseMatrix a) {
+        int n = size;
+        int[] ap = a.columnStart(), ai = a.rowIndex();
+        double[] ax = a.getValues();
+        double tolerance = PIVOT_TOLERANCE * a.maxAbs();
+
+        int capacity = 4 * ap[n] + n;
+        lStart = new int[n + 1];
+        uStart = new int[n + 1];
+        lIndex = new int[capacity];
+        lValue = new double[capacity];
+        uIndex = new int[capacity];
+        uValue = new double[capacity];
+
+        double[] x = work;
+        int[] reach = new int[n];
+        int[] stack = new int[n];
+        int[] next = new int[n];
+        int[] mark = new int[n];
+        Arrays.fill(rowPosition, -1);
+        Arrays.fill(mark, -1);
+        int lnz = 0, unz = 0;
+
+        for (int k = 0; k < n; k++) {
+            lStart[k] = lnz;
+            uStart[k] = unz;
+            if (lnz + n > lIndex.length) {
+                lIndex = Arrays.copyOf(lIndex, 2 * lIndex.length + n);
+                lValue = Arrays.copyOf(lValue, lIndex.length);
+            }
+            if (unz + n > uIndex.length) {
+                uIndex = Arrays.copyOf(uIndex, 2 * uIndex.length + n);
+                uValue = Arrays.copyOf(uValue, uIndex.length);
+            }
+            int column = symbolic.columnOrder[k];
+
+            // Patrón de x en orden topológico: reach[top..n)
+            int top = n;
+            for (int p = ap[column]; p < ap[column + 1]; p++) {
+                if (mark[ai[p]] != k) {
+                    top = depthFirst(ai[p], k, top, reach, stack, next, mark);
+                }
+            }
+            for (int p = ap[column]; p < ap[column + 1]; p++) {
+                x[ai[p]] = ax[p];
+            }
+            for (int p = top; p < n; p++) {
+                int i = reach[p];
+                int j = rowPosition[i];
+                if (j >= 0) {
+                    double xi = x[i];
+                    if (xi != 0) {
+                        for (int q = lStart[j] + 1; q < lStart[j + 1]; q++) {
+                            x[lIndex[q]] -= lValue[q] * xi;
+                        }
+                    }
+                }
+            }
+
+            // Pivote: el mayor entre las filas libres, salvo que la diagonal alcance
+            int pivotRow = -1;
+            double largest = -1;
+            for (int p = top; p < n; p++) {
+                int i = reach[p];
+                if (rowPosition[i] < 0) {
+                    if (Math.abs(x[i]) > largest) {
+                        largest = Math.abs(x[i]);
+                        pivotRow = i;
+                    }
+                } else {
+                    uIndex[unz] = rowPosition[i];
+                    uValue[unz++] = x[i];
+                }
+            }
+            if (pivotRow < 0 || !(largest > tolerance)) {
+                throw new ArithmeticException("Singular MNA matrix (voltage source loop or floating node)");
+            }
+            if (rowPosition[column] < 0 && mark[column] == k
+                && Math.abs(x[column]) >= DIAGONAL_PREFERENCE * largest) {
+                pivotRow = column;
+            }
+            double pivot = x[pivotRow];
+            uIndex[unz] = k;
+            uValue[unz++] = pivot;
+            rowPosition[pivotRow] = k;
+            lIndex[lnz] = pivotRow;
+            lValue[lnz++] = 1;
+            for (int p = top; p < n; p++) {
+                int i = reach[p];
+                if (rowPosition[i] < 0) {
+                    lIndex[lnz] = i;
+                    lValue[lnz++] = x[i] / pivot;
+                }
+                x[i] = 0;
+            }
+        }
+        lStart[n] = lnz;
+        uStart[n] = unz;
+
+        // Filas de L en numeración de pivotes
+        for (int p = 0; p < lnz; p++) {
+            lIndex[p] = rowPosition[lIndex[p]];
+        }
+        lIndex = Arrays.copyOf(lIndex, lnz);
+        lValue = Arrays.copyOf(lValue, lnz);
+        uIndex = Arrays.copyOf(uIndex, unz);
+        uValue = Arrays.copyOf(uValue, unz);
+    }
+
+    /**
+     * Búsqueda en profundidad no recursiva en el grafo de L desde la fila 'start';
+     * agrega los vértices terminados al frente de reach
+     */
+    private int depthFirst(int start, int k, int top, int[] reach, int[] stack, int[] next, int[] mark) {
+        int head = 0;
+        stack[0] = start;
+        while (head >= 0) {
+            int i = stack[head];
+            int j = rowPosition[i];
+            if (mark[i] != k) {
+                mark[i] = k;
+                next[head] = j < 0 ? 0 : lStart[j] + 1;
+            }
+            int end = j < 0 ? 0 : lStart[j + 1];
+            boolean finished = true;
+            for (int p = next[head]; p < end; p++) {
+                int child = lIndex[p];
+                if (mark[child] != k) {
+                    next[head] = p + 1;
+                    stack[++head] = child;
+                    finished = false;
+                    break;
+                }
+            }
+            if (finished) {
+                head--;
+                reach[--top] = i;
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Grado mínimo aproximado sobre el grafo cociente de A + Aᵀ
+     *
+     * Al eliminar una variable p, sus vecinas forman el elemento Lp, que absorbe los
+     * elementos adyacentes a p. El grado de cada vecina se acota como en AMD con
+     * |A_i| + |Lp \ i| + Σ |Le \ Lp|; los elementos con |Le \ Lp| = 0 se absorben también.
+     * No se detectan supervariables: el circuito típico tiene pocas.
+     */
+    private static int[] approximateMinimumDegree(SparseMatrix a) {
+        int n = a.getSize();
+        int[] ap = a.columnStart(), ai = a.rowIndex();
+
+        // Patrón simétrico sin diagonal
+        int[] count = new int[n];
+        for (int j = 0; j < n; j++) {
+            for (int p = ap[j]; p < ap[j + 1]; p++) {
+                int i = ai[p];
+                if (i != j) {
+                    count[i]++;
+                    count[j]++;
+                }
+            }
+        }
+        int[][] variables = new int[n][];
+        for (int i = 0; i < n; i++) {
+            variables[i] = new int[count[i]];
+        }
+        int[] variableCount = new int[n];
+        int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+        for (int j = 0; j < n; j++) {
+            for (int p = ap[j]; p < ap[j + 1]; p++) {
+                int i = ai[p];
+                if (i != j) {
+                    variables[i][variableCount[i]++] = j;
+                    variables[j][variableCount[j]++] = i;
+                }
+            }
+        }
+        // Quita repetidos (A(i,j) y A(j,i) generan la misma arista)
+        for (int i = 0; i < n; i++) {
+            int kept = 0;
+            for (int t = 0; t < variableCount[i]; t++) {
+                int j = variables[i][t];
+                if (mark[j] != i) {
+                    mark[j] = i;
+                    variables[i][kept++] = j;
+                }
+            }
+            variableCount[i] = kept;
+        }
+
+        final byte variable = 0, element = 1, absorbed = 2;
+        byte[] state = new byte[n];
+        int[][] elements = new int[n][];
+        int[] elementCount = new int[n];
+        int[] members = new int[0];
+        int[][] memberOf = new int[n][];
+        int[] memberCount = new int[n];
+        int[] external = new int[n];
+        int[] externalTag = new int[n];
+        Arrays.fill(externalTag, -1);
+        Arrays.fill(mark, -1);
+
+        // Listas por grado
+        int[] head = new int[n];
+        int[] nextInList = new int[n];
+        int[] previous = new int[n];
+        int[] degree = new int[n];
+        Arrays.fill(head, -1);
+        for (int i = 0; i < n; i++) {
+            elements[i] = new int[2];
+            degree[i] = variableCount[i];
+            insert(i, degree[i], head, nextInList, previous);
+        }
+
+        int[] order = new int[n];
+        int minimum = 0;
+        for (int k = 0; k < n; k++) {
+            while (head[minimum] < 0) {
+                minimum++;
+            }
+            int p = head[minimum];
+            remove(p, degree[p], head, nextInList, previous);
+            order[k] = p;
+            state[p] = element;
+
+            // Lp = vecinas de p por variables y por elementos; estos quedan absorbidos
+            if (members.length < n) {
+                members = new int[n];
+            }
+            int size = 0;
+            mark[p] = k;
+            for (int t = 0; t < elementCount[p]; t++) {
+                int e = elements[p][t];
+                for (int s = 0; s < memberCount[e]; s++) {
+                    int v = memberOf[e][s];
+                    if (state[v] == variable && mark[v] != k) {
+                        mark[v] = k;
+                        members[size++] = v;
+                    }
+                }
+                state[e] = absorbed;
+                memberOf[e] = null;
+                memberCount[e] = 0;
+            }
+            for (int t = 0; t < variableCount[p]; t++) {
+                int v = variables[p][t];
+                if (state[v] == variable && mark[v] != k) {
+                    mark[v] = k;
+                    members[size++] = v;
+                }
+            }
+            variables[p] = null;
+            variableCount[p] = 0;
+            elements[p] = null;
+            elementCount[p] = 0;
+            memberOf[p] = Arrays.copyOf(members, size);
+            memberCount[p] = size;
+
+            // |Le \ Lp| para los demás elementos que tocan Lp
+            for (int s = 0; s < size; s++) {
+                int i = members[s];
+                for (int t = 0; t < elementCount[i]; t++) {
+                    int e = elements[i][t];
+                    if (state[e] != element) {
+                        continue;
+                    }
+                    if (externalTag[e] != k) {
+                        externalTag[e] = k;
+                        external[e] = memberCount[e];
+                    }
+                    external[e]--;
+                }
+            }
+
+            int remaining = n - k - 1;
+            for (int s = 0; s < size; s++) {
+                int i = members[s];
+                remove(i, degree[i], head, nextInList, previous);
+
+                int kept = 0;
+                long bound = size - 1;
+                for (int t = 0; t < elementCount[i]; t++) {
+                    int e = elements[i][t];
+                    if (state[e] != element) {
+                        continue;
+                    }
+                    if (externalTag[e] == k && external[e] == 0) {
+                        // Le ⊆ Lp: absorción agresiva
+                        state[e] = absorbed;
+                        memberOf[e] = null;
+                        memberCount[e] = 0;
+                        continue;
+                    }
+                    elements[i][kept++] = e;
+                    bound += externalTag[e] == k ? external[e] : memberCount[e] - 1;
+                }
+                if (kept == elements[i].length) {
+                    elements[i] = Arrays.copyOf(elements[i], 2 * kept + 2);
+                }
+                elements[i][kept++] = p;
+                elementCount[i] = kept;
+
+                kept = 0;
+                for (int t = 0; t < variableCount[i]; t++) {
+                    int v = variables[i][t];
+                    if (state[v] == variable && mark[v] != k) {
+                        variables[i][kept++] = v;
+                    }
+                }
+                variableCount[i] = kept;
+                bound += kept;
+
+                degree[i] = (int) Math.min(bound, remaining - 1);
+                insert(i, degree[i], head, nextInList, previous);
+                minimum = Math.min(minimum, degree[i]);
+            }
+        }
+        return order;
+    }
+
+    private static void insert(int i, int d, int[] head, int[] next, int[] previous) {
+        next[i] = head[d];
+        previous[i] = -1;
+        if (head[d] >= 0) {
+            previous[head[d]] = i;
+        }
+        head[d] = i;
+    }
+
+    private static void remove(int i, int d, int[] head, int[] next, int[] previous) {
+        if (previous[i] >= 0) {
+            next[previous[i]] = next[i];
+        } else {
+            head[d] = next[i];
+        }
+        if (next[i] >= 0) {
+            previous[next[i]] = previous[i];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SparseLU[%dx%d, %d no nulos en L+U]", size, size, getFactorNonZeros());
+    }
+}
@@ -0,0 +1,189 @@
+package com.simulador.engine.dc;
+
+import java.util.Arrays;
+
+/**
+ * Matriz dispersa cuadrada en formato comprimido por columnas (CSC)
+ *
+ * Se arma a partir de tripletes (fila, columna, valor) con {@link Builder}; las entradas
+ * repetidas se suman y dentro de cada columna las filas quedan ordenadas. La estructura
+ * es fija, pero los valores pueden reescribirse en su lugar: quien estampa un circuito
+ * busca una vez la posición de cada entrada con {@link #indexOf(int, int)} y en las
+ * resoluciones siguientes sólo actualiza {@link #getValues()}.
+ *
+ * La memoria es proporcional a la cantidad de entradas no nulas.
+ */
+public final class SparseMatrix {
+
+    private final int size;
+    private final int[] columnStart;
+    private final int[] rowIndex;
+    private final double[] values;
+
+    private SparseMatrix(int size, int[] columnStart, int[] rowIndex, double[] values) {
+        this.size = size;
+        this.columnStart = columnStart;
+        this.rowIndex = rowIndex;
+        this.values = values;
+    }
+
+    /**
+     * Acumula tripletes y los comprime a CSC
+     */
+    public static final class Builder {
+        private final int size;
+        private int[] rows;
+        private int[] columns;
+        private double[] entries;
+        private int count;
+
+        public Builder(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Matrix size must be positive");
+            }
+            this.size = size;
+            this.rows = new int[16];
+            this.columns = new int[16];
+            this.entries = new double[16];
+        }
+
+        public Builder add(int row, int column, double value) {
+            if (row < 0 || row >= size || column < 0 || column >= size) {
+                throw new IllegalArgumentException("Entry (" + row + ", " + column + ") outside a "
+                    + size + "x" + size + " matrix");
+            }
+            if (count == rows.length) {
+                int capacity = 2 * count;
+                rows = Arrays.copyOf(rows, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                entries = Arrays.copyOf(entries, capacity);
+            }
+            rows[count] = row;
+            columns[count] = column;
+            entries[count] = value;
+            count++;
+            return this;
+        }
+
+        /**
+         * Comprime los tripletes: primero se reparten por fila y luego, recorriendo las
+         * filas en orden, se vuelcan en sus columnas, que así quedan ordenadas
+         */
+        public SparseMatrix build() {
+            int[] rowStart = new int[size + 1];
+            for (int t = 0; t < count; t++) {
+                rowStart[rows[t] + 1]++;
+            }
+            for (int i = 0; i < size; i++) {
+                rowStart[i + 1] += rowStart[i];
+            }
+            int[] byRow = new int[count];
+            int[] next = Arrays.copyOf(rowStart, size);
+            for (int t = 0; t < count; t++) {
+                byRow[next[rows[t]]++] = t;
+            }
+
+            int[] columnCount = new int[size + 1];
+            for (int t = 0; t < count; t++) {
+                columnCount[columns[t] + 1]++;
+            }
+            for (int j = 0; j < size; j++) {
+                columnCount[j + 1] += columnCount[j];
+            }
+            int[] rowIndex = new int[count];
+            double[] values = new double[count];
+            int[] fill = Arrays.copyOf(columnCount, size);
+            for (int i = 0; i < size; i++) {
+                for (int p = rowStart[i]; p < rowStart[i + 1]; p++) {
+                    int t = byRow[p];
+                    int j = columns[t];
+                    // Duplicado: la fila i ya es la última de la columna
+                    if (fill[j] > columnCount[j] && rowIndex[fill[j] - 1] == i) {
+                        values[fill[j] - 1] += entries[t];
+                    } else {
+                        rowIndex[fill[j]] = i;
+                        values[fill[j]++] = entries[t];
+                    }
+                }
+            }
+
+            // Compacta los huecos que dejaron los duplicados
+            int[] columnStart = new int[size + 1];
+            int nonZeros = 0;
+            for (int j = 0; j < size; j++) {
+                columnStart[j] = nonZeros;
+                for (int p = columnCount[j]; p < fill[j]; p++) {
+                    rowIndex[nonZeros] = rowIndex[p];
+                    values[nonZeros++] = values[p];
+                }
+            }
+            columnStart[size] = nonZeros;
+            return new SparseMatrix(size, columnStart,
+                Arrays.copyOf(rowIndex, nonZeros), Arrays.copyOf(values, nonZeros));
+        }
+    }
+
+    // Getters
+    public int getSize() { return size; }
+    public int getNonZeros() { return columnStart[size]; }
+
+    /**
+     * Posición de la entrada (row, column) en {@link #getValues()}, o -1 si no es estructural
+     */
+    public int indexOf(int row, int column) {
+        int p = Arrays.binarySearch(rowIndex, columnStart[column], columnStart[column + 1], row);
+        return p >= 0 ? p : -1;
+    }
+
+    public double get(int row, int column) {
+        int p = indexOf(row, column);
+        return p >= 0 ? values[p] : 0;
+    }
+
+    /**
+     * Valores en orden CSC; se comparten, no se copian
+     */
+    public double[] getValues() { return values; }
+
+    /**
+     * y = A·x
+     */
+    public void multiply(double[] x, double[] y) {
+        Arrays.fill(y, 0, size, 0);
+        for (int j = 0; j < size; j++) {
+            double xj = x[j];
+            if (xj != 0) {
+                for (int p = columnStart[j]; p < columnStart[j + 1]; p++) {
+                    y[rowIndex[p]] += values[p] * xj;
+                }
+            }
+        }
+    }
+
+    /**
+     * Mayor valor absoluto entre las entradas
+     */
+    public double maxAbs() {
+        double max = 0;
+        for (double v : values) {
+            max = Math.max(max, Math.abs(v));
+        }
+        return max;
+    }
+
+    /**
+     * Copia con valores propios; la estructura es inmutable y se comparte
+     */
+    SparseMatrix copy() {
+        return new SparseMatrix(size, columnStart, rowIndex, values.clone());
+    }
+
+    // Acceso directo para la factorización
+    int[] columnStart() { return columnStart; }
+    int[] rowIndex() { return rowIndex; }
+
+    @Override
+    public String toString() {
+        return String.format("SparseMatrix[%dx%d, %d no nulos]", size, size, getNonZeros());
+    }
+}
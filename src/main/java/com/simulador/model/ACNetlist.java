@@ -0,0 +1,149 @@
+package com.simulador.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Circuito RLC descrito por nodos para el análisis nodal en alterna
+ * Node-based RLC circuit description for AC nodal analysis
+ *
+ * El nodo 0 es tierra. La fuente sinusoidal ideal va del nodo indicado con
+ * {@link #setSource(int)} a tierra; cada R, L o C conecta dos nodos distintos.
+ */
+public final class ACNetlist {
+
+    public static final int GROUND = 0;
+
+    /**
+     * Componente conectado entre dos nodos
+     * Component connected between two nodes
+     */
+    public static final class Element {
+        private final CircuitComponent component;
+        private final int nodeA;
+        private final int nodeB;
+
+        private Element(CircuitComponent component, int nodeA, int nodeB) {
+            this.component = component;
+            this.nodeA = nodeA;
+            this.nodeB = nodeB;
+        }
+
+        public CircuitComponent getComponent() { return component; }
+        public String getType() { return component.getType(); }
+        public double getValue() { return component.getValue(); }
+        public int getNodeA() { return nodeA; }
+        public int getNodeB() { return nodeB; }
+
+        @Override
+        public String toString() {
+            return component.getType() + "(" + nodeA + ", " + nodeB + ") = " + component.getValue();
+        }
+    }
+
+    private final List<Element> elements = new ArrayList<>();
+    private int sourceNode = -1;
+    private int nodeCount = 1;
+
+    public ACNetlist addResistor(int nodeA, int nodeB, double resistance) {
+        return add(new CircuitComponent("Resistance", resistance), nodeA, nodeB);
+    }
+
+    public ACNetlist addInductor(int nodeA, int nodeB, double inductance) {
+        return add(new CircuitComponent("Inductor", inductance), nodeA, nodeB);
+    }
+
+    public ACNetlist addCapacitor(int nodeA, int nodeB, double capacitance) {
+        return add(new CircuitComponent("Capacitor", capacitance), nodeA, nodeB);
+    }
+
+    /**
+     * Agrega un componente entre dos nodos
+     * Adds a component between two nodes
+     */
+    public ACNetlist add(CircuitComponent component, int nodeA, int nodeB) {
+        if (component == null) {
+            throw new IllegalArgumentException("Component cannot be null");
+        }
+        switch (component.getType()) {
+            case "Resistance":
+            case "Inductor":
+            case "Capacitor":
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown component type: " + component.getType());
+        }
+        if (!(component.getValue() > 0) || Double.isInfinite(component.getValue())) {
+            throw new IllegalArgumentException("Component values must be positive and finite");
+        }
+        if (nodeA < 0 || nodeB < 0) {
+            throw new IllegalArgumentException("Node numbers cannot be negative");
+        }
+        if (nodeA == nodeB) {
+            throw new IllegalArgumentException("Component must connect two different nodes");
+        }
+        elements.add(new Element(component, nodeA, nodeB));
+        nodeCount = Math.max(nodeCount, Math.max(nodeA, nodeB) + 1);
+        return this;
+    }
+
+    /**
+     * Conecta la fuente entre el nodo dado y tierra
+     * Connects the source between the given node and ground
+     */
+    public ACNetlist setSource(int node) {
+        if (node <= GROUND) {
+            throw new IllegalArgumentException("Source node must be above ground");
+        }
+        sourceNode = node;
+        nodeCount = Math.max(nodeCount, node + 1);
+        return this;
+    }
+
+    /**
+     * Netlist equivalente al circuito serie: fuente → R → L → C → tierra
+     * Netlist equivalent to the series circuit: source → R → L → C → ground
+     *
+     * Los componentes ausentes se omiten (un capacitor ausente es un cortocircuito).
+     */
+    public static ACNetlist series(CompiledCircuit circuit) {
+        if (circuit == null) {
+            throw new IllegalArgumentException("Circuit cannot be null");
+        }
+        List<CircuitComponent> chain = new ArrayList<>(3);
+        if (circuit.hasResistance()) {
+            chain.add(new CircuitComponent("Resistance", circuit.getResistance()));
+        }
+        if (circuit.hasInductance()) {
+            chain.add(new CircuitComponent("Inductor", circuit.getInductance()));
+        }
+        if (circuit.hasCapacitance()) {
+            chain.add(new CircuitComponent("Capacitor", circuit.getCapacitance()));
+        }
+        if (chain.isEmpty()) {
+            throw new IllegalArgumentException("Circuit has no components");
+        }
+
+        ACNetlist netlist = new ACNetlist().setSource(1);
+        for (int k = 0; k < chain.size(); k++) {
+            int next = k == chain.size() - 1 ? GROUND : k + 2;
+            netlist.add(chain.get(k), k + 1, next);
+        }
+        return netlist;
+    }
+
+    // Getters
+    public int getNodeCount() { return nodeCount; }
+    public int getSourceNode() { return sourceNode; }
+    public boolean hasSource() { return sourceNode > 0; }
+    public int getElementCount() { return elements.size(); }
+    public Element getElement(int index) { return elements.get(index); }
+    public List<Element> getElements() { return Collections.unmodifiableList(elements); }
+
+    @Override
+    public String toString() {
+        return String.format("ACNetlist[%d nodes, %d elements, source=%d]",
+            nodeCount, elements.size(), sourceNode);
+    }
+}
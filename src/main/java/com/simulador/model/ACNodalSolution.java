@@ -0,0 +1,87 @@
+package com.simulador.model;
+
+/**
+ * Solución nodal en régimen permanente sinusoidal a una frecuencia
+ * Sinusoidal steady-state nodal solution at one frequency
+ *
+ * Las tensiones se indexan por número de nodo (0 = tierra) con la fuente como
+ * referencia de fase; la corriente de fuente es la que entrega al circuito.
+ */
+public class ACNodalSolution {
+    private final double frequency;
+    private final double voltage;
+    private final double[] nodeVoltageRe;
+    private final double[] nodeVoltageIm;
+    private final double sourceCurrentRe;
+    private final double sourceCurrentIm;
+
+    /**
+     * Los arreglos pasan a ser propiedad de la solución (no se copian)
+     * Arrays become owned by the solution (they are not copied)
+     */
+    public ACNodalSolution(double frequency, double voltage, double[] nodeVoltageRe,
+                           double[] nodeVoltageIm, double sourceCurrentRe, double sourceCurrentIm) {
+        this.frequency = frequency;
+        this.voltage = voltage;
+        this.nodeVoltageRe = nodeVoltageRe;
+        this.nodeVoltageIm = nodeVoltageIm;
+        this.sourceCurrentRe = sourceCurrentRe;
+        this.sourceCurrentIm = sourceCurrentIm;
+    }
+
+    // Getters
+    public double getFrequency() { return frequency; }
+    public double getVoltage() { return voltage; }
+    public int getNodeCount() { return nodeVoltageRe.length; }
+    public double getNodeVoltageReal(int node) { return nodeVoltageRe[node]; }
+    public double getNodeVoltageImaginary(int node) { return nodeVoltageIm[node]; }
+    public double getSourceCurrentReal() { return sourceCurrentRe; }
+    public double getSourceCurrentImaginary() { return sourceCurrentIm; }
+
+    public double getNodeVoltage(int node) {
+        return Math.hypot(nodeVoltageRe[node], nodeVoltageIm[node]);
+    }
+
+    public double getNodePhase(int node) {
+        return Math.atan2(nodeVoltageIm[node], nodeVoltageRe[node]);
+    }
+
+    public double getSourceCurrent() {
+        return Math.hypot(sourceCurrentRe, sourceCurrentIm);
+    }
+
+    /**
+     * Módulo de la impedancia vista por la fuente
+     * Magnitude of the impedance seen by the source
+     */
+    public double getInputImpedance() {
+        return voltage / getSourceCurrent();
+    }
+
+    /**
+     * Ángulo de la impedancia de entrada (positivo = inductivo)
+     * Input impedance angle (positive = inductive)
+     */
+    public double getPhaseAngle() {
+        return -Math.atan2(sourceCurrentIm, sourceCurrentRe);
+    }
+
+    /**
+     * Resultado en el formato del resto de las estrategias
+     * Result in the format used by the other strategies
+     */
+    public SimulationResult toSimulationResult() {
+        double current = getSourceCurrent();
+        double phi = getPhaseAngle();
+        double s = voltage * current;
+        return new SimulationResult(getInputImpedance(), current, phi,
+                                    s * Math.cos(phi), s * Math.sin(phi), s, Math.cos(phi));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ACNodalSolution[f=%.3fHz, %d nodes, I=%.6fA, Zin=%.4fΩ, φ=%.2f°]",
+            frequency, nodeVoltageRe.length, getSourceCurrent(), getInputImpedance(),
+            Math.toDegrees(getPhaseAngle()));
+    }
+}
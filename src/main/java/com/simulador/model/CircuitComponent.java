@@ -10,11 +10,17 @@ import java.util.Objects;
 public class CircuitComponent {
     private String type;
     private double value;
+    private Tolerance tolerance;
     private LanguageManager languageManager;
     
     public CircuitComponent(String type, double value) {
+        this(type, value, Tolerance.NONE);
+    }
+    
+    public CircuitComponent(String type, double value, Tolerance tolerance) {
         this.type = type;
         this.value = value;
+        this.tolerance = tolerance != null ? tolerance : Tolerance.NONE;
         this.languageManager = LanguageManager.getInstance();
     }
     
@@ -26,6 +32,14 @@ public class CircuitComponent {
         return value; 
     }
     
+    /**
+     * Tolerancia usada en el análisis de Monte Carlo (exacta por defecto)
+     * Tolerance used by the Monte Carlo analysis (exact by default)
+     */
+    public Tolerance getTolerance() {
+        return tolerance;
+    }
+    
     public double getResistance() {
         return type.equals("Resistance") ? value : 0;
     }
@@ -0,0 +1,162 @@
+package com.simulador.model;
+
+import java.util.List;
+
+/**
+ * Circuito RLC serie compilado: valores totales y constantes derivadas calculadas una sola vez
+ * Compiled series RLC circuit: totals and derived constants computed once
+ *
+ * Los componentes se recorren una única vez al compilar; después cada evaluación
+ * cuesta unas pocas multiplicaciones. Un capacitor ausente se trata como
+ * cortocircuito (1/C = 0), igual que en el barrido y en los transitorios.
+ */
+public final class CompiledCircuit {
+    private final int componentCount;
+    private final double resistance;
+    private final double inductance;
+    private final double capacitance;
+    private final double inverseCapacitance;
+    private final double resonantAngularFrequency;
+    private final double dampingRatio;
+    private final double qualityFactor;
+
+    private CompiledCircuit(int componentCount, double resistance,
+                            double inductance, double capacitance) {
+        this.componentCount = componentCount;
+        this.resistance = resistance;
+        this.inductance = inductance;
+        this.capacitance = capacitance;
+        this.inverseCapacitance = capacitance > 0 ? 1.0 / capacitance : 0;
+
+        if (inductance > 0 && capacitance > 0) {
+            this.resonantAngularFrequency = 1.0 / Math.sqrt(inductance * capacitance);
+            this.dampingRatio = 0.5 * resistance * Math.sqrt(capacitance / inductance);
+            this.qualityFactor = Math.sqrt(inductance / capacitance) / resistance;
+        } else {
+            this.resonantAngularFrequency = 0;
+            this.dampingRatio = Double.NaN;
+            this.qualityFactor = Double.NaN;
+        }
+    }
+
+    /**
+     * Compila la lista de componentes (una sola pasada por tipo)
+     * Compiles the component list (a single pass over the types)
+     */
+    public static CompiledCircuit compile(List<CircuitComponent> components) {
+        if (components == null || components.isEmpty()) {
+            throw new IllegalArgumentException("Component list cannot be null or empty");
+        }
+
+        double totalR = 0, totalL = 0, totalC = 0;
+        for (CircuitComponent comp : components) {
+            switch (comp.getType()) {
+                case "Resistance":
+                    totalR += comp.getValue();
+                    break;
+                case "Inductor":
+                    totalL += comp.getValue();
+                    break;
+                case "Capacitor":
+                    totalC += comp.getValue();
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new CompiledCircuit(components.size(), totalR, totalL, totalC);
+    }
+
+    /**
+     * Compila directamente a partir de los valores totales
+     * Compiles directly from total values
+     */
+    public static CompiledCircuit of(double resistance, double inductance, double capacitance) {
+        if (resistance < 0 || inductance < 0 || capacitance < 0) {
+            throw new IllegalArgumentException("Component values cannot be negative");
+        }
+        return new CompiledCircuit(0, resistance, inductance, capacitance);
+    }
+
+    // Getters
+    public int getComponentCount() { return componentCount; }
+    public double getResistance() { return resistance; }
+    public double getInductance() { return inductance; }
+    public double getCapacitance() { return capacitance; }
+    public double getInverseCapacitance() { return inverseCapacitance; }
+
+    public boolean hasResistance() { return resistance > 0; }
+    public boolean hasInductance() { return inductance > 0; }
+    public boolean hasCapacitance() { return capacitance > 0; }
+
+    /**
+     * Indica si el circuito tiene resonancia (requiere L y C)
+     * Whether the circuit has a resonance (requires L and C)
+     */
+    public boolean hasResonance() {
+        return resonantAngularFrequency > 0;
+    }
+
+    /**
+     * Frecuencia angular de resonancia ω₀ = 1/√(LC) en rad/s (0 si no hay resonancia)
+     * Resonant angular frequency ω₀ = 1/√(LC) in rad/s (0 when there is no resonance)
+     */
+    public double getResonantAngularFrequency() {
+        return resonantAngularFrequency;
+    }
+
+    /**
+     * Frecuencia de resonancia f₀ en Hz (0 si no hay resonancia)
+     * Resonant frequency f₀ in Hz (0 when there is no resonance)
+     */
+    public double getResonantFrequency() {
+        return resonantAngularFrequency / (2 * Math.PI);
+    }
+
+    /**
+     * Factor de amortiguamiento ζ = (R/2)·√(C/L) (NaN si no hay resonancia)
+     * Damping ratio ζ = (R/2)·√(C/L) (NaN when there is no resonance)
+     */
+    public double getDampingRatio() {
+        return dampingRatio;
+    }
+
+    /**
+     * Factor de calidad Q = √(L/C)/R (NaN si no hay resonancia, infinito sin R)
+     * Quality factor Q = √(L/C)/R (NaN when there is no resonance, infinite without R)
+     */
+    public double getQualityFactor() {
+        return qualityFactor;
+    }
+
+    /**
+     * Ancho de banda de media potencia R/(2πL) en Hz (0 sin inductor)
+     * Half-power bandwidth R/(2πL) in Hz (0 without an inductor)
+     */
+    public double getBandwidth() {
+        return inductance > 0 ? resistance / (2 * Math.PI * inductance) : 0;
+    }
+
+    /**
+     * Reactancia total X = ωL − 1/(ωC)
+     * Total reactance X = ωL − 1/(ωC)
+     */
+    public double reactance(double omega) {
+        return omega * inductance - inverseCapacitance / omega;
+    }
+
+    /**
+     * Módulo de la impedancia |Z| = √(R² + X²)
+     * Impedance magnitude |Z| = √(R² + X²)
+     */
+    public double impedance(double omega) {
+        double x = reactance(omega);
+        return Math.sqrt(resistance * resistance + x * x);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CompiledCircuit[R=%.4fΩ, L=%.6fH, C=%.9fF, f0=%.3fHz, ζ=%.4f, Q=%.4f]",
+            resistance, inductance, capacitance, getResonantFrequency(), dampingRatio, qualityFactor);
+    }
+}
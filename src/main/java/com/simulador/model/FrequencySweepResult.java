@@ -0,0 +1,67 @@
+package com.simulador.model;
+
+/**
+ * Resultado columnar de un barrido en frecuencia: un arreglo por magnitud
+ * Columnar frequency sweep result: one array per quantity
+ *
+ * Los arreglos se devuelven sin copiar para que los gráficos los recorran
+ * directamente; no deben modificarse.
+ */
+public class FrequencySweepResult {
+    private final double voltage;
+    private final double[] frequencies;
+    private final double[] impedance;
+    private final double[] current;
+    private final double[] phaseAngle;
+    private final double[] activePower;
+    private final double[] reactivePower;
+    private final double[] apparentPower;
+    private final double[] powerFactor;
+
+    public FrequencySweepResult(double voltage, double[] frequencies, double[] impedance,
+                                double[] current, double[] phaseAngle,
+                                double[] activePower, double[] reactivePower,
+                                double[] apparentPower, double[] powerFactor) {
+        this.voltage = voltage;
+        this.frequencies = frequencies;
+        this.impedance = impedance;
+        this.current = current;
+        this.phaseAngle = phaseAngle;
+        this.activePower = activePower;
+        this.reactivePower = reactivePower;
+        this.apparentPower = apparentPower;
+        this.powerFactor = powerFactor;
+    }
+
+    // Getters
+    public double getVoltage() { return voltage; }
+    public int getPointCount() { return frequencies.length; }
+    public double[] getFrequencies() { return frequencies; }
+    public double[] getImpedance() { return impedance; }
+    public double[] getCurrent() { return current; }
+    public double[] getPhaseAngle() { return phaseAngle; }
+    public double[] getActivePower() { return activePower; }
+    public double[] getReactivePower() { return reactivePower; }
+    public double[] getApparentPower() { return apparentPower; }
+    public double[] getPowerFactor() { return powerFactor; }
+
+    /**
+     * Índice del punto de mínima impedancia (resonancia serie)
+     * Index of the minimum impedance point (series resonance)
+     */
+    public int getMinimumImpedanceIndex() {
+        int best = 0;
+        for (int i = 1; i < impedance.length; i++) {
+            if (impedance[i] < impedance[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FrequencySweepResult[%d puntos, %.3f Hz - %.3f Hz, V=%.2f V]",
+            frequencies.length, frequencies[0], frequencies[frequencies.length - 1], voltage);
+    }
+}
@@ -0,0 +1,27 @@
+package com.simulador.model;
+
+/**
+ * Magnitud evaluada en cada punto de una grilla de parámetros
+ * Quantity evaluated at every point of a parameter grid
+ */
+public enum GridQuantity {
+    CURRENT("Corriente", "A"),
+    IMPEDANCE("Impedancia", "Ω"),
+    POWER_FACTOR("Factor de potencia", "");
+
+    private final String displayName;
+    private final String unit;
+
+    GridQuantity(String displayName, String unit) {
+        this.displayName = displayName;
+        this.unit = unit;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getUnit() { return unit; }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,79 @@
+package com.simulador.model;
+
+import java.util.Arrays;
+
+/**
+ * Resultado del análisis armónico de una fuente periódica sobre el circuito
+ * Result of the harmonic analysis of a periodic source on the circuit
+ *
+ * Los arreglos están indexados por armónico (índice k = armónico k+1) y las
+ * amplitudes son de pico. La THD se calcula respecto de la fundamental.
+ */
+public class HarmonicResult {
+    private final double fundamentalFrequency;
+    private final double[] voltageAmplitudes;
+    private final double[] currentAmplitudes;
+    private final double[] currentPhases;
+    private final double[] activePowers;
+    private final double dcCurrent;
+    private final double rmsVoltage;
+    private final double rmsCurrent;
+    private final double activePower;
+    private final double currentThd;
+    private final double voltageThd;
+
+    /**
+     * Los arreglos pasan a ser propiedad del resultado (no se copian)
+     * Arrays become owned by the result (they are not copied)
+     */
+    public HarmonicResult(double fundamentalFrequency, double[] voltageAmplitudes,
+                          double[] currentAmplitudes, double[] currentPhases,
+                          double[] activePowers, double dcCurrent,
+                          double rmsVoltage, double rmsCurrent, double activePower,
+                          double currentThd, double voltageThd) {
+        this.fundamentalFrequency = fundamentalFrequency;
+        this.voltageAmplitudes = voltageAmplitudes;
+        this.currentAmplitudes = currentAmplitudes;
+        this.currentPhases = currentPhases;
+        this.activePowers = activePowers;
+        this.dcCurrent = dcCurrent;
+        this.rmsVoltage = rmsVoltage;
+        this.rmsCurrent = rmsCurrent;
+        this.activePower = activePower;
+        this.currentThd = currentThd;
+        this.voltageThd = voltageThd;
+    }
+
+    // Getters
+    public double getFundamentalFrequency() { return fundamentalFrequency; }
+    public int getHarmonicCount() { return currentAmplitudes.length; }
+    public double[] getVoltageAmplitudes() { return Arrays.copyOf(voltageAmplitudes, voltageAmplitudes.length); }
+    public double[] getCurrentAmplitudes() { return Arrays.copyOf(currentAmplitudes, currentAmplitudes.length); }
+    public double[] getCurrentPhases() { return Arrays.copyOf(currentPhases, currentPhases.length); }
+    public double[] getActivePowers() { return Arrays.copyOf(activePowers, activePowers.length); }
+    public double getCurrentAmplitude(int harmonic) { return currentAmplitudes[harmonic - 1]; }
+    public double getActivePower(int harmonic) { return activePowers[harmonic - 1]; }
+    public double getDcCurrent() { return dcCurrent; }
+    public double getRmsVoltage() { return rmsVoltage; }
+    public double getRmsCurrent() { return rmsCurrent; }
+    public double getActivePower() { return activePower; }
+    public double getApparentPower() { return rmsVoltage * rmsCurrent; }
+    public double getCurrentThd() { return currentThd; }
+    public double getVoltageThd() { return voltageThd; }
+
+    /**
+     * Factor de potencia total P / (Vrms·Irms), incluye la distorsión
+     * True power factor P / (Vrms·Irms), includes distortion
+     */
+    public double getPowerFactor() {
+        double s = getApparentPower();
+        return s > 0 ? activePower / s : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HarmonicResult[f1=%.3fHz, n=%d, Vrms=%.4fV, Irms=%.6fA, P=%.6fW, THD_I=%.2f%%, THD_V=%.2f%%, pf=%.4f]",
+            fundamentalFrequency, currentAmplitudes.length, rmsVoltage, rmsCurrent, activePower,
+            currentThd * 100, voltageThd * 100, getPowerFactor());
+    }
+}
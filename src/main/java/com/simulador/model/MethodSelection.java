@@ -0,0 +1,57 @@
+package com.simulador.model;
+
+/**
+ * Método elegido por la selección automática y las estimaciones que lo justificaron
+ * Method chosen by automatic selection and the estimates behind the choice
+ *
+ * El costo se mide en evaluaciones equivalentes del sistema 2×2 (una por paso
+ * implícito, cuatro por paso de Runge-Kutta, etc.). El error es el relativo esperado
+ * del fasor de corriente en régimen permanente, incluyendo lo que queda del
+ * transitorio al empezar la medición.
+ */
+public final class MethodSelection {
+    private final String method;
+    private final long estimatedEvaluations;
+    private final double estimatedError;
+    private final double tolerance;
+    private final double stiffnessRatio;
+    private final double dampingRatio;
+
+    public MethodSelection(String method, long estimatedEvaluations, double estimatedError,
+                           double tolerance, double stiffnessRatio, double dampingRatio) {
+        this.method = method;
+        this.estimatedEvaluations = estimatedEvaluations;
+        this.estimatedError = estimatedError;
+        this.tolerance = tolerance;
+        this.stiffnessRatio = stiffnessRatio;
+        this.dampingRatio = dampingRatio;
+    }
+
+    // Getters
+    public String getMethod() { return method; }
+    public long getEstimatedEvaluations() { return estimatedEvaluations; }
+    public double getEstimatedError() { return estimatedError; }
+    public double getTolerance() { return tolerance; }
+
+    /**
+     * Radio espectral de A sobre ω de la fuente; NaN sin dinámica en el tiempo
+     * Spectral radius of A over the source ω; NaN without time-domain dynamics
+     */
+    public double getStiffnessRatio() { return stiffnessRatio; }
+
+    /**
+     * ζ = R/(2·√(L/C)); NaN si el circuito no es de segundo orden
+     * ζ = R/(2·√(L/C)); NaN if the circuit is not second order
+     */
+    public double getDampingRatio() { return dampingRatio; }
+
+    public boolean meetsTolerance() {
+        return estimatedError <= tolerance;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MethodSelection[%s, cost=%d, error=%.2e (tol %.1e), stiffness=%.3g, ζ=%.3g]",
+            method, estimatedEvaluations, estimatedError, tolerance, stiffnessRatio, dampingRatio);
+    }
+}
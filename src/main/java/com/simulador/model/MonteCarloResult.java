@@ -0,0 +1,45 @@
+package com.simulador.model;
+
+/**
+ * Resultado de un análisis de tolerancias por Monte Carlo
+ * Result of a Monte Carlo tolerance analysis
+ */
+public class MonteCarloResult {
+    private final int sampleCount;
+    private final long seed;
+    private final double voltage;
+    private final double frequency;
+    private final SampleStatistics resonantFrequency;
+    private final SampleStatistics current;
+    private final SampleStatistics powerFactor;
+    private final long computationTimeNanos;
+
+    public MonteCarloResult(int sampleCount, long seed, double voltage, double frequency,
+                            SampleStatistics resonantFrequency, SampleStatistics current,
+                            SampleStatistics powerFactor, long computationTimeNanos) {
+        this.sampleCount = sampleCount;
+        this.seed = seed;
+        this.voltage = voltage;
+        this.frequency = frequency;
+        this.resonantFrequency = resonantFrequency;
+        this.current = current;
+        this.powerFactor = powerFactor;
+        this.computationTimeNanos = computationTimeNanos;
+    }
+
+    // Getters
+    public int getSampleCount() { return sampleCount; }
+    public long getSeed() { return seed; }
+    public double getVoltage() { return voltage; }
+    public double getFrequency() { return frequency; }
+    public SampleStatistics getResonantFrequency() { return resonantFrequency; }
+    public SampleStatistics getCurrent() { return current; }
+    public SampleStatistics getPowerFactor() { return powerFactor; }
+    public long getComputationTimeNanos() { return computationTimeNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("MonteCarloResult[n=%d, seed=%d, f0=%s, I=%s, pf=%s, wall=%.1fms]",
+            sampleCount, seed, resonantFrequency, current, powerFactor, computationTimeNanos / 1e6);
+    }
+}
@@ -0,0 +1,30 @@
+package com.simulador.model;
+
+/**
+ * Magnitud del circuito que se recorre en el eje de parámetros de una grilla
+ * Circuit quantity swept along the parameter axis of a grid
+ *
+ * El valor de la grilla reemplaza al total de ese tipo de componente; los demás
+ * totales se toman del circuito.
+ */
+public enum ParameterAxis {
+    RESISTANCE("Resistencia", "Ω"),
+    INDUCTANCE("Inductancia", "H"),
+    CAPACITANCE("Capacitancia", "F");
+
+    private final String displayName;
+    private final String unit;
+
+    ParameterAxis(String displayName, String unit) {
+        this.displayName = displayName;
+        this.unit = unit;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getUnit() { return unit; }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
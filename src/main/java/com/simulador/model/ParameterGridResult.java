@@ -0,0 +1,67 @@
+package com.simulador.model;
+
+/**
+ * Resultado de una grilla de parámetros: matriz densa en orden por filas
+ * Parameter grid result: dense row-major matrix
+ *
+ * El punto (fila, columna) está en {@code getData()[fila * columnas + columna]}; las
+ * filas corresponden a los valores del parámetro y las columnas a las frecuencias.
+ * Los arreglos se devuelven sin copiar y no deben modificarse.
+ */
+public class ParameterGridResult {
+    private final ParameterAxis axis;
+    private final GridQuantity quantity;
+    private final double voltage;
+    private final double[] values;
+    private final double[] frequencies;
+    private final double[] data;
+
+    public ParameterGridResult(ParameterAxis axis, GridQuantity quantity, double voltage,
+                               double[] values, double[] frequencies, double[] data) {
+        if (values.length * frequencies.length != data.length) {
+            throw new IllegalArgumentException("Grid data does not match the axes");
+        }
+        this.axis = axis;
+        this.quantity = quantity;
+        this.voltage = voltage;
+        this.values = values;
+        this.frequencies = frequencies;
+        this.data = data;
+    }
+
+    // Getters
+    public ParameterAxis getAxis() { return axis; }
+    public GridQuantity getQuantity() { return quantity; }
+    public double getVoltage() { return voltage; }
+    public double[] getValues() { return values; }
+    public double[] getFrequencies() { return frequencies; }
+    public double[] getData() { return data; }
+    public int getRows() { return values.length; }
+    public int getColumns() { return frequencies.length; }
+
+    public double get(int row, int column) {
+        return data[row * frequencies.length + column];
+    }
+
+    /**
+     * Mínimo y máximo de los valores finitos, {NaN, NaN} si no hay ninguno
+     * Minimum and maximum of the finite values, {NaN, NaN} when there are none
+     */
+    public double[] getRange() {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double v : data) {
+            if (Double.isFinite(v)) {
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+        }
+        return min <= max ? new double[] { min, max } : new double[] { Double.NaN, Double.NaN };
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ParameterGridResult[%s × f, %s, %dx%d]",
+            axis, quantity, values.length, frequencies.length);
+    }
+}
@@ -0,0 +1,206 @@
+package com.simulador.model;
+
+import java.util.Arrays;
+
+/**
+ * Fuente periódica descompuesta en serie de Fourier: v(t) = V0 + Σ Vn·sin(nωt + θn)
+ * Periodic source decomposed as a Fourier series: v(t) = V0 + Σ Vn·sin(nωt + θn)
+ *
+ * Las amplitudes son de pico y el índice k del arreglo corresponde al armónico k+1.
+ */
+public final class PeriodicSource {
+
+    public static final int MAX_HARMONICS = 100_000;
+
+    /**
+     * Forma de onda de la fuente
+     * Source waveform
+     */
+    public enum Waveform {
+        SINE("Senoidal"),
+        SQUARE("Cuadrada"),
+        TRIANGLE("Triangular"),
+        SAWTOOTH("Diente de sierra"),
+        CUSTOM("Personalizada");
+
+        private final String displayName;
+
+        Waveform(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    private final Waveform waveform;
+    private final double fundamentalFrequency;
+    private final double dcOffset;
+    private final double[] amplitudes;
+    private final double[] phases;
+
+    private PeriodicSource(Waveform waveform, double fundamentalFrequency, double dcOffset,
+                           double[] amplitudes, double[] phases) {
+        this.waveform = waveform;
+        this.fundamentalFrequency = fundamentalFrequency;
+        this.dcOffset = dcOffset;
+        this.amplitudes = amplitudes;
+        this.phases = phases;
+    }
+
+    public static PeriodicSource sine(double amplitude, double frequency) {
+        validate(amplitude, frequency, 1);
+        return new PeriodicSource(Waveform.SINE, frequency, 0,
+                                  new double[] { amplitude }, new double[1]);
+    }
+
+    /**
+     * Onda cuadrada de amplitud ±A: Vn = 4A/(nπ) en armónicos impares
+     * Square wave of amplitude ±A: Vn = 4A/(nπ) on odd harmonics
+     */
+    public static PeriodicSource square(double amplitude, double frequency, int harmonics) {
+        validate(amplitude, frequency, harmonics);
+        double[] v = new double[harmonics];
+        for (int n = 1; n <= harmonics; n += 2) {
+            v[n - 1] = 4 * amplitude / (n * Math.PI);
+        }
+        return new PeriodicSource(Waveform.SQUARE, frequency, 0, v, new double[harmonics]);
+    }
+
+    /**
+     * Onda triangular de pico A: Vn = 8A/(π²n²) en armónicos impares con signo alterno
+     * Triangle wave of peak A: Vn = 8A/(π²n²) on odd harmonics with alternating sign
+     */
+    public static PeriodicSource triangle(double amplitude, double frequency, int harmonics) {
+        validate(amplitude, frequency, harmonics);
+        double[] v = new double[harmonics];
+        double[] theta = new double[harmonics];
+        for (int n = 1; n <= harmonics; n += 2) {
+            v[n - 1] = 8 * amplitude / (Math.PI * Math.PI * n * n);
+            theta[n - 1] = ((n - 1) / 2) % 2 == 0 ? 0 : Math.PI;
+        }
+        return new PeriodicSource(Waveform.TRIANGLE, frequency, 0, v, theta);
+    }
+
+    /**
+     * Diente de sierra de pico A: Vn = 2A/(nπ) con signo alterno
+     * Sawtooth wave of peak A: Vn = 2A/(nπ) with alternating sign
+     */
+    public static PeriodicSource sawtooth(double amplitude, double frequency, int harmonics) {
+        validate(amplitude, frequency, harmonics);
+        double[] v = new double[harmonics];
+        double[] theta = new double[harmonics];
+        for (int n = 1; n <= harmonics; n++) {
+            v[n - 1] = 2 * amplitude / (n * Math.PI);
+            theta[n - 1] = n % 2 == 1 ? 0 : Math.PI;
+        }
+        return new PeriodicSource(Waveform.SAWTOOTH, frequency, 0, v, theta);
+    }
+
+    /**
+     * Fuente definida por sus armónicos (los arreglos se copian)
+     * Source defined by its harmonics (arrays are copied)
+     */
+    public static PeriodicSource fromHarmonics(double frequency, double dcOffset,
+                                               double[] amplitudes, double[] phases) {
+        if (amplitudes == null || phases == null || amplitudes.length != phases.length) {
+            throw new IllegalArgumentException("Amplitude and phase arrays must have the same length");
+        }
+        validate(1, frequency, amplitudes.length);
+        for (double a : amplitudes) {
+            if (a < 0 || !Double.isFinite(a)) {
+                throw new IllegalArgumentException("Harmonic amplitudes must be finite and non-negative");
+            }
+        }
+        return new PeriodicSource(Waveform.CUSTOM, frequency, dcOffset,
+                                  amplitudes.clone(), phases.clone());
+    }
+
+    /**
+     * Descompone un período muestreado uniformemente en [0, T) mediante la DFT
+     * Decomposes one period sampled uniformly over [0, T) with the DFT
+     */
+    public static PeriodicSource fromSamples(double[] samples, double frequency, int harmonics) {
+        if (samples == null || samples.length < 2 * harmonics + 1) {
+            throw new IllegalArgumentException("Need more than 2 samples per harmonic (Nyquist)");
+        }
+        validate(1, frequency, harmonics);
+
+        int size = samples.length;
+        // Tabla de senos y cosenos: el término n·k se indexa módulo N
+        double[] cos = new double[size];
+        double[] sin = new double[size];
+        for (int k = 0; k < size; k++) {
+            double angle = 2 * Math.PI * k / size;
+            cos[k] = Math.cos(angle);
+            sin[k] = Math.sin(angle);
+        }
+
+        double dc = 0;
+        for (double x : samples) {
+            dc += x;
+        }
+        dc /= size;
+
+        double[] v = new double[harmonics];
+        double[] theta = new double[harmonics];
+        for (int n = 1; n <= harmonics; n++) {
+            double a = 0, b = 0;
+            int index = 0;
+            for (int k = 0; k < size; k++) {
+                a += samples[k] * cos[index];
+                b += samples[k] * sin[index];
+                index += n;
+                if (index >= size) index -= size;
+            }
+            a *= 2.0 / size;
+            b *= 2.0 / size;
+            // a·cos + b·sin = c·sin(x + θ) con c = √(a²+b²), θ = atan2(a, b)
+            v[n - 1] = Math.hypot(a, b);
+            theta[n - 1] = Math.atan2(a, b);
+        }
+        return new PeriodicSource(Waveform.CUSTOM, frequency, dc, v, theta);
+    }
+
+    private static void validate(double amplitude, double frequency, int harmonics) {
+        if (amplitude <= 0) {
+            throw new IllegalArgumentException("Amplitude must be positive");
+        }
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("Frequency must be positive");
+        }
+        if (harmonics < 1 || harmonics > MAX_HARMONICS) {
+            throw new IllegalArgumentException("Harmonic count must be between 1 and " + MAX_HARMONICS);
+        }
+    }
+
+    /**
+     * Valor instantáneo de la serie truncada
+     * Instantaneous value of the truncated series
+     */
+    public double valueAt(double t) {
+        double w = 2 * Math.PI * fundamentalFrequency;
+        double v = dcOffset;
+        for (int k = 0; k < amplitudes.length; k++) {
+            if (amplitudes[k] != 0) {
+                v += amplitudes[k] * Math.sin((k + 1) * w * t + phases[k]);
+            }
+        }
+        return v;
+    }
+
+    // Getters
+    public Waveform getWaveform() { return waveform; }
+    public double getFundamentalFrequency() { return fundamentalFrequency; }
+    public double getDcOffset() { return dcOffset; }
+    public int getHarmonicCount() { return amplitudes.length; }
+    public double getAmplitude(int harmonic) { return amplitudes[harmonic - 1]; }
+    public double getPhase(int harmonic) { return phases[harmonic - 1]; }
+    public double[] getAmplitudes() { return Arrays.copyOf(amplitudes, amplitudes.length); }
+    public double[] getPhases() { return Arrays.copyOf(phases, phases.length); }
+
+    @Override
+    public String toString() {
+        return String.format("PeriodicSource[%s, f=%.3fHz, %d harmonics, dc=%.4f]",
+            waveform.getDisplayName(), fundamentalFrequency, amplitudes.length, dcOffset);
+    }
+}
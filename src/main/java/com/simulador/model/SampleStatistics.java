@@ -0,0 +1,158 @@
+package com.simulador.model;
+
+import java.util.Arrays;
+
+/**
+ * Estadísticas de una magnitud muestreada: momentos, percentiles e histograma
+ * Statistics of a sampled quantity: moments, percentiles and histogram
+ *
+ * Las muestras no finitas (por ejemplo, la frecuencia de resonancia de un circuito
+ * sin L o sin C) se descartan y se cuentan aparte.
+ */
+public class SampleStatistics {
+    private final double[] sorted;
+    private final int discarded;
+    private final double mean;
+    private final double standardDeviation;
+    private final long[] histogram;
+    private final double binWidth;
+
+    private SampleStatistics(double[] sorted, int discarded, double mean,
+                             double standardDeviation, long[] histogram, double binWidth) {
+        this.sorted = sorted;
+        this.discarded = discarded;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.histogram = histogram;
+        this.binWidth = binWidth;
+    }
+
+    /**
+     * Calcula las estadísticas; el arreglo pasa a ser propiedad del resultado y se ordena
+     * Computes the statistics; the array becomes owned by the result and is sorted
+     */
+    public static SampleStatistics of(double[] samples, int bins) {
+        if (samples == null) {
+            throw new IllegalArgumentException("Samples cannot be null");
+        }
+        if (bins < 1) {
+            throw new IllegalArgumentException("Histogram needs at least 1 bin");
+        }
+
+        // NaN e infinitos quedan al final tras ordenar
+        Arrays.parallelSort(samples);
+        int n = samples.length;
+        while (n > 0 && !Double.isFinite(samples[n - 1])) {
+            n--;
+        }
+        int start = 0;
+        while (start < n && samples[start] == Double.NEGATIVE_INFINITY) {
+            start++;
+        }
+        double[] finite = start == 0 && n == samples.length
+            ? samples : Arrays.copyOfRange(samples, start, n);
+        int discarded = samples.length - finite.length;
+
+        if (finite.length == 0) {
+            return new SampleStatistics(finite, discarded, Double.NaN, Double.NaN, new long[bins], 0);
+        }
+
+        // Media y varianza con el algoritmo de Welford
+        double mean = 0, m2 = 0;
+        for (int k = 0; k < finite.length; k++) {
+            double delta = finite[k] - mean;
+            mean += delta / (k + 1);
+            m2 += delta * (finite[k] - mean);
+        }
+        double std = finite.length > 1 ? Math.sqrt(m2 / (finite.length - 1)) : 0;
+
+        double min = finite[0];
+        double max = finite[finite.length - 1];
+        double width = (max - min) / bins;
+        long[] histogram = new long[bins];
+        if (width > 0) {
+            for (double x : finite) {
+                int bin = (int) ((x - min) / width);
+                histogram[Math.min(bin, bins - 1)]++;
+            }
+        } else {
+            histogram[0] = finite.length;
+        }
+
+        return new SampleStatistics(finite, discarded, mean, std, histogram, width);
+    }
+
+    /**
+     * Percentil p (0 a 100) con interpolación lineal entre muestras ordenadas
+     * Percentile p (0 to 100) with linear interpolation between sorted samples
+     */
+    public double getPercentile(double p) {
+        if (p < 0 || p > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        double rank = p / 100.0 * (sorted.length - 1);
+        int lo = (int) Math.floor(rank);
+        int hi = Math.min(lo + 1, sorted.length - 1);
+        return sorted[lo] + (rank - lo) * (sorted[hi] - sorted[lo]);
+    }
+
+    // Getters
+    public int getCount() { return sorted.length; }
+    public int getDiscardedCount() { return discarded; }
+    public double getMean() { return mean; }
+    public double getStandardDeviation() { return standardDeviation; }
+    public double getMin() { return sorted.length > 0 ? sorted[0] : Double.NaN; }
+    public double getMax() { return sorted.length > 0 ? sorted[sorted.length - 1] : Double.NaN; }
+    public double getMedian() { return getPercentile(50); }
+    public long[] getHistogram() { return Arrays.copyOf(histogram, histogram.length); }
+    public int getBinCount() { return histogram.length; }
+    public double getBinWidth() { return binWidth; }
+
+    /**
+     * Límite inferior del intervalo {@code bin} del histograma
+     * Lower edge of histogram bin {@code bin}
+     */
+    public double getBinStart(int bin) {
+        return getMin() + bin * binWidth;
+    }
+
+    /**
+     * Fracción de muestras dentro de [low, high] (rendimiento de fabricación)
+     * Fraction of samples within [low, high] (manufacturing yield)
+     */
+    public double getFractionWithin(double low, double high) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int from = lowerBound(low);
+        int to = upperBound(high);
+        return Math.max(0, to - from) / (double) sorted.length;
+    }
+
+    private int lowerBound(double x) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < x) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private int upperBound(double x) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= x) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[n=%d, mean=%.6g, σ=%.6g, p1=%.6g, p50=%.6g, p99=%.6g]",
+            sorted.length, mean, standardDeviation, getPercentile(1), getMedian(), getPercentile(99));
+    }
+}
@@ -12,10 +12,24 @@ public class SimulationResult {
     private double reactivePower;
     private double apparentPower;
     private double powerFactor;
+    private final WaveformMetrics waveformMetrics;
+    private final MethodSelection methodSelection;
     
     public SimulationResult(double impedance, double current, double phaseAngle,
                           double activePower, double reactivePower, 
                           double apparentPower, double powerFactor) {
+        this(impedance, current, phaseAngle, activePower, reactivePower,
+             apparentPower, powerFactor, null);
+    }
+    
+    /**
+     * Con las cifras de forma de onda medidas por una simulación en el tiempo
+     * With the waveform figures measured by a time-domain simulation
+     */
+    public SimulationResult(double impedance, double current, double phaseAngle,
+                          double activePower, double reactivePower, 
+                          double apparentPower, double powerFactor,
+                          WaveformMetrics waveformMetrics) {
         this.impedance = impedance;
         this.current = current;
         this.phaseAngle = phaseAngle;
@@ -23,6 +37,32 @@ public class SimulationResult {
         this.reactivePower = reactivePower;
         this.apparentPower = apparentPower;
         this.powerFactor = powerFactor;
+        this.waveformMetrics = waveformMetrics;
+        this.methodSelection = null;
+    }
+    
+    /**
+     * Copia de otro resultado con la selección de método que lo produjo
+     * Copy of another result with the method selection that produced it
+     */
+    protected SimulationResult(SimulationResult source, MethodSelection methodSelection) {
+        this.impedance = source.impedance;
+        this.current = source.current;
+        this.phaseAngle = source.phaseAngle;
+        this.activePower = source.activePower;
+        this.reactivePower = source.reactivePower;
+        this.apparentPower = source.apparentPower;
+        this.powerFactor = source.powerFactor;
+        this.waveformMetrics = source.waveformMetrics;
+        this.methodSelection = methodSelection;
+    }
+    
+    /**
+     * Devuelve una copia que registra qué método eligió la selección automática
+     * Returns a copy recording which method automatic selection chose
+     */
+    public SimulationResult withMethodSelection(MethodSelection methodSelection) {
+        return new SimulationResult(this, methodSelection);
     }
     
     // Getters
@@ -54,6 +94,22 @@ public class SimulationResult {
         return powerFactor; 
     }
     
+    /**
+     * Cifras de la forma de onda; null si el método no integra en el tiempo
+     * Waveform figures; null if the method does not integrate over time
+     */
+    public WaveformMetrics getWaveformMetrics() {
+        return waveformMetrics;
+    }
+    
+    /**
+     * Método elegido y su costo estimado; null si no hubo selección automática
+     * Chosen method and its estimated cost; null without automatic selection
+     */
+    public MethodSelection getMethodSelection() {
+        return methodSelection;
+    }
+    
     /**
      * Valida que los resultados sean consistentes y físicamente posibles
      * Validates that results are consistent and physically possible
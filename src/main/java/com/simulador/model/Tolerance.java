@@ -0,0 +1,86 @@
+package com.simulador.model;
+
+/**
+ * Tolerancia de fabricación de un componente: distribución y desviación máxima en %
+ * Manufacturing tolerance of a component: distribution and maximum deviation in %
+ *
+ * En la distribución gaussiana el ±% corresponde a 3σ, de modo que el 99,7% de las
+ * muestras queda dentro de la banda nominal.
+ */
+public final class Tolerance {
+
+    /**
+     * Distribución del valor real alrededor del nominal
+     * Distribution of the actual value around the nominal one
+     */
+    public enum Distribution {
+        UNIFORM("Uniforme"),
+        GAUSSIAN("Gaussiana");
+
+        private final String displayName;
+
+        Distribution(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() { return displayName; }
+    }
+
+    public static final Tolerance NONE = new Tolerance(Distribution.UNIFORM, 0);
+
+    private final Distribution distribution;
+    private final double percent;
+
+    public Tolerance(Distribution distribution, double percent) {
+        if (distribution == null) {
+            throw new IllegalArgumentException("Distribution cannot be null");
+        }
+        if (percent < 0 || percent >= 100 || Double.isNaN(percent)) {
+            throw new IllegalArgumentException("Tolerance must be between 0 and 100 %");
+        }
+        this.distribution = distribution;
+        this.percent = percent;
+    }
+
+    public static Tolerance uniform(double percent) {
+        return new Tolerance(Distribution.UNIFORM, percent);
+    }
+
+    public static Tolerance gaussian(double percent) {
+        return new Tolerance(Distribution.GAUSSIAN, percent);
+    }
+
+    // Getters
+    public Distribution getDistribution() { return distribution; }
+    public double getPercent() { return percent; }
+
+    /**
+     * Desviación relativa máxima (±%/100)
+     * Maximum relative deviation (±%/100)
+     */
+    public double getRelativeDeviation() {
+        return percent / 100.0;
+    }
+
+    public boolean isExact() {
+        return percent == 0;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Tolerance that = (Tolerance) obj;
+        return Double.compare(that.percent, percent) == 0 && distribution == that.distribution;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * distribution.hashCode() + Double.hashCode(percent);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("±%.2f%% (%s)", percent, distribution.getDisplayName());
+    }
+}
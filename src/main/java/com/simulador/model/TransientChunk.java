@@ -0,0 +1,50 @@
+package com.simulador.model;
+
+/**
+ * Bloque de muestras consecutivas de una simulación transitoria en curso
+ * Block of consecutive samples from a running transient simulation
+ *
+ * Contiene un punto por paso aceptado del integrador. Sólo las primeras
+ * {@link #getLength()} posiciones son válidas (el último bloque puede quedar
+ * incompleto). Los arreglos se entregan sin copiar y no deben modificarse.
+ */
+public final class TransientChunk {
+    private final long sequence;
+    private final long firstSample;
+    private final int length;
+    private final double[] time;
+    private final double[] current;
+    private final double[] capacitorVoltage;
+
+    public TransientChunk(long sequence, long firstSample, int length,
+                          double[] time, double[] current, double[] capacitorVoltage) {
+        if (length < 0 || length > time.length
+                || current.length != time.length || capacitorVoltage.length != time.length) {
+            throw new IllegalArgumentException("Chunk arrays do not match the length");
+        }
+        this.sequence = sequence;
+        this.firstSample = firstSample;
+        this.length = length;
+        this.time = time;
+        this.current = current;
+        this.capacitorVoltage = capacitorVoltage;
+    }
+
+    // Getters
+    public long getSequence() { return sequence; }
+    public long getFirstSample() { return firstSample; }
+    public int getLength() { return length; }
+    public double[] getTime() { return time; }
+    public double[] getCurrent() { return current; }
+    public double[] getCapacitorVoltage() { return capacitorVoltage; }
+    public double getTime(int index) { return time[index]; }
+    public double getCurrent(int index) { return current[index]; }
+    public double getCapacitorVoltage(int index) { return capacitorVoltage[index]; }
+
+    @Override
+    public String toString() {
+        return String.format("TransientChunk[#%d, samples %d..%d, t=%.6g..%.6g s]",
+            sequence, firstSample, firstSample + length - 1,
+            length > 0 ? time[0] : 0.0, length > 0 ? time[length - 1] : 0.0);
+    }
+}
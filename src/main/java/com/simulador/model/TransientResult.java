@@ -0,0 +1,87 @@
+package com.simulador.model;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de una simulación en el dominio del tiempo: contiene las muestras
+ * de la respuesta transitoria junto con el régimen permanente extraído de ella
+ * Time-domain simulation result: holds the transient response samples together
+ * with the steady state extracted from them
+ */
+public class TransientResult extends SimulationResult {
+    private final double[] time;
+    private final double[] currentSamples;
+    private final double[] capacitorVoltageSamples;
+    private final long stepCount;
+    private final long rejectedStepCount;
+    private final double simulatedTime;
+    private final long computationTimeNanos;
+
+    /**
+     * Los arreglos de muestras pasan a ser propiedad del resultado (no se copian)
+     * Sample arrays become owned by the result (they are not copied)
+     */
+    public TransientResult(SimulationResult steadyState,
+                           double[] time, double[] currentSamples,
+                           double[] capacitorVoltageSamples,
+                           long stepCount, long rejectedStepCount,
+                           double simulatedTime, long computationTimeNanos) {
+        this(steadyState, time, currentSamples, capacitorVoltageSamples, stepCount,
+             rejectedStepCount, simulatedTime, computationTimeNanos, null);
+    }
+
+    /**
+     * Los arreglos de muestras pueden estar vacíos si sólo se pidieron las cifras
+     * Sample arrays may be empty when only the figures were requested
+     */
+    public TransientResult(SimulationResult steadyState,
+                           double[] time, double[] currentSamples,
+                           double[] capacitorVoltageSamples,
+                           long stepCount, long rejectedStepCount,
+                           double simulatedTime, long computationTimeNanos,
+                           WaveformMetrics waveformMetrics) {
+        super(steadyState.getImpedance(), steadyState.getCurrent(), steadyState.getPhaseAngle(),
+              steadyState.getActivePower(), steadyState.getReactivePower(),
+              steadyState.getApparentPower(), steadyState.getPowerFactor(), waveformMetrics);
+        this.time = time != null ? time : new double[0];
+        this.currentSamples = currentSamples != null ? currentSamples : new double[0];
+        this.capacitorVoltageSamples = capacitorVoltageSamples != null ? capacitorVoltageSamples : new double[0];
+        this.stepCount = stepCount;
+        this.rejectedStepCount = rejectedStepCount;
+        this.simulatedTime = simulatedTime;
+        this.computationTimeNanos = computationTimeNanos;
+    }
+
+    private TransientResult(TransientResult source, MethodSelection methodSelection) {
+        super(source, methodSelection);
+        this.time = source.time;
+        this.currentSamples = source.currentSamples;
+        this.capacitorVoltageSamples = source.capacitorVoltageSamples;
+        this.stepCount = source.stepCount;
+        this.rejectedStepCount = source.rejectedStepCount;
+        this.simulatedTime = source.simulatedTime;
+        this.computationTimeNanos = source.computationTimeNanos;
+    }
+
+    @Override
+    public TransientResult withMethodSelection(MethodSelection methodSelection) {
+        return new TransientResult(this, methodSelection);
+    }
+
+    // Getters
+    public double[] getTime() { return Arrays.copyOf(time, time.length); }
+    public double[] getCurrentSamples() { return Arrays.copyOf(currentSamples, currentSamples.length); }
+    public double[] getCapacitorVoltageSamples() { return Arrays.copyOf(capacitorVoltageSamples, capacitorVoltageSamples.length); }
+    public int getSampleCount() { return time.length; }
+    public long getStepCount() { return stepCount; }
+    public long getRejectedStepCount() { return rejectedStepCount; }
+    public double getSimulatedTime() { return simulatedTime; }
+    public long getComputationTimeNanos() { return computationTimeNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("%s[steps=%d, rejected=%d, samples=%d, t=%.6fs, wall=%.3fms]",
+            super.toString(), stepCount, rejectedStepCount, time.length, simulatedTime,
+            computationTimeNanos / 1e6);
+    }
+}
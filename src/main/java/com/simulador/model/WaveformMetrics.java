@@ -0,0 +1,87 @@
+package com.simulador.model;
+
+/**
+ * Cifras derivadas de una forma de onda transitoria, medidas durante la integración
+ * Figures derived from a transient waveform, measured during integration
+ *
+ * Los detectores sólo guardan unos pocos valores por paso, así que estas cifras están
+ * disponibles aunque no se conserve ninguna muestra. El sobreimpulso y el tiempo de
+ * establecimiento se refieren a la envolvente de la corriente (picos de cada semiciclo)
+ * frente a la amplitud del régimen permanente.
+ */
+public final class WaveformMetrics {
+    private final double peakCurrent;
+    private final double peakCurrentTime;
+    private final double peakCapacitorVoltage;
+    private final double peakCapacitorVoltageTime;
+    private final long zeroCrossingCount;
+    private final double lastZeroCrossingTime;
+    private final double zeroCrossingPhase;
+    private final double referenceAmplitude;
+    private final double overshoot;
+    private final double settlingBand;
+    private final double settlingTime;
+
+    public WaveformMetrics(double peakCurrent, double peakCurrentTime,
+                           double peakCapacitorVoltage, double peakCapacitorVoltageTime,
+                           long zeroCrossingCount, double lastZeroCrossingTime,
+                           double zeroCrossingPhase, double referenceAmplitude,
+                           double overshoot, double settlingBand, double settlingTime) {
+        this.peakCurrent = peakCurrent;
+        this.peakCurrentTime = peakCurrentTime;
+        this.peakCapacitorVoltage = peakCapacitorVoltage;
+        this.peakCapacitorVoltageTime = peakCapacitorVoltageTime;
+        this.zeroCrossingCount = zeroCrossingCount;
+        this.lastZeroCrossingTime = lastZeroCrossingTime;
+        this.zeroCrossingPhase = zeroCrossingPhase;
+        this.referenceAmplitude = referenceAmplitude;
+        this.overshoot = overshoot;
+        this.settlingBand = settlingBand;
+        this.settlingTime = settlingTime;
+    }
+
+    // Getters
+    public double getPeakCurrent() { return peakCurrent; }
+    public double getPeakCurrentTime() { return peakCurrentTime; }
+    public double getPeakCapacitorVoltage() { return peakCapacitorVoltage; }
+    public double getPeakCapacitorVoltageTime() { return peakCapacitorVoltageTime; }
+    public long getZeroCrossingCount() { return zeroCrossingCount; }
+    public double getLastZeroCrossingTime() { return lastZeroCrossingTime; }
+    public double getReferenceAmplitude() { return referenceAmplitude; }
+    public double getSettlingBand() { return settlingBand; }
+
+    /**
+     * Fase de la corriente respecto de la fuente según el último cruce por cero (rad)
+     * Phase of the current relative to the source from the last zero crossing (rad)
+     *
+     * En régimen permanente vale −φ, el opuesto del ángulo de la impedancia. NaN si
+     * la corriente nunca cruzó por cero.
+     */
+    public double getZeroCrossingPhase() { return zeroCrossingPhase; }
+
+    /**
+     * Sobreimpulso relativo del mayor pico de semiciclo sobre la amplitud permanente
+     * Relative overshoot of the largest half-cycle peak over the steady amplitude
+     */
+    public double getOvershoot() { return overshoot; }
+
+    /**
+     * Instante desde el cual todos los picos de semiciclo quedan dentro de la banda
+     * Time from which every half-cycle peak stays inside the band
+     *
+     * Infinito si el último semiciclo completo todavía estaba fuera de la banda.
+     */
+    public double getSettlingTime() { return settlingTime; }
+
+    public boolean isSettled() {
+        return settlingTime < Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "WaveformMetrics[Ipk=%.4gA@%.4gs, VCpk=%.4gV@%.4gs, crossings=%d, θ=%.4frad, overshoot=%.2f%%, ts(%.0f%%)=%.4gs]",
+            peakCurrent, peakCurrentTime, peakCapacitorVoltage, peakCapacitorVoltageTime,
+            zeroCrossingCount, zeroCrossingPhase, overshoot * 100, settlingBand * 100, settlingTime);
+    }
+}
@@ -0,0 +1,111 @@
+package com.simulador.model.dc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Circuito DC descrito por nodos para el análisis nodal modificado (MNA)
+ *
+ * El nodo 0 es tierra. Cada elemento conecta dos nodos distintos: resistores,
+ * fuentes de voltaje ideales (positivo en el primer nodo) y fuentes de corriente
+ * (la corriente sale del primer nodo, atraviesa la fuente y entra al segundo).
+ * La corriente de cada elemento se informa en el sentido del primer nodo al segundo.
+ */
+public final class DCNetlist {
+
+    public static final int GROUND = 0;
+
+    /**
+     * Tipos de elemento que admite el MNA
+     */
+    public enum Kind {
+        RESISTOR,
+        VOLTAGE_SOURCE,
+        CURRENT_SOURCE
+    }
+
+    /**
+     * Elemento conectado entre dos nodos
+     */
+    public static final class Element {
+        private final Kind kind;
+        private final int nodeA;
+        private final int nodeB;
+        private final double value;
+
+        private Element(Kind kind, int nodeA, int nodeB, double value) {
+            this.kind = kind;
+            this.nodeA = nodeA;
+            this.nodeB = nodeB;
+            this.value = value;
+        }
+
+        public Kind getKind() { return kind; }
+        public int getNodeA() { return nodeA; }
+        public int getNodeB() { return nodeB; }
+        public double getValue() { return value; }
+
+        @Override
+        public String toString() {
+            return kind + "(" + nodeA + ", " + nodeB + ") = " + value;
+        }
+    }
+
+    private final List<Element> elements = new ArrayList<>();
+    private int nodeCount = 1;
+    private int voltageSourceCount;
+
+    public DCNetlist addResistor(int nodeA, int nodeB, double resistance) {
+        if (!(resistance > 0) || Double.isInfinite(resistance)) {
+            throw new IllegalArgumentException("Resistance must be positive and finite");
+        }
+        return add(Kind.RESISTOR, nodeA, nodeB, resistance);
+    }
+
+    /**
+     * Fuente de voltaje ideal: V(positive) − V(negative) = voltage
+     */
+    public DCNetlist addVoltageSource(int positive, int negative, double voltage) {
+        if (!Double.isFinite(voltage)) {
+            throw new IllegalArgumentException("Source voltage must be finite");
+        }
+        voltageSourceCount++;
+        return add(Kind.VOLTAGE_SOURCE, positive, negative, voltage);
+    }
+
+    /**
+     * Fuente de corriente ideal: entrega {@code current} del nodo {@code from} al nodo {@code to}
+     */
+    public DCNetlist addCurrentSource(int from, int to, double current) {
+        if (!Double.isFinite(current)) {
+            throw new IllegalArgumentException("Source current must be finite");
+        }
+        return add(Kind.CURRENT_SOURCE, from, to, current);
+    }
+
+    private DCNetlist add(Kind kind, int nodeA, int nodeB, double value) {
+        if (nodeA < 0 || nodeB < 0) {
+            throw new IllegalArgumentException("Node numbers cannot be negative");
+        }
+        if (nodeA == nodeB) {
+            throw new IllegalArgumentException("Element must connect two different nodes");
+        }
+        elements.add(new Element(kind, nodeA, nodeB, value));
+        nodeCount = Math.max(nodeCount, Math.max(nodeA, nodeB) + 1);
+        return this;
+    }
+
+    // Getters
+    public int getNodeCount() { return nodeCount; }
+    public int getVoltageSourceCount() { return voltageSourceCount; }
+    public int getElementCount() { return elements.size(); }
+    public Element getElement(int index) { return elements.get(index); }
+    public List<Element> getElements() { return Collections.unmodifiableList(elements); }
+
+    @Override
+    public String toString() {
+        return String.format("DCNetlist[%d nodos, %d elementos, %d fuentes de voltaje]",
+            nodeCount, elements.size(), voltageSourceCount);
+    }
+}
@@ -0,0 +1,44 @@
+package com.simulador.model.dc;
+
+/**
+ * Solución DC de un netlist: tensiones de nodo y corriente de cada elemento
+ *
+ * Las tensiones se indexan por número de nodo (0 = tierra). La corriente de cada
+ * elemento va del primer nodo al segundo a través del elemento, así que la potencia
+ * absorbida es (V(A) − V(B))·I: negativa en las fuentes que entregan energía.
+ */
+public class DCNodalSolution {
+    private final double[] nodeVoltages;
+    private final double[] elementCurrents;
+    private final double[] elementPowers;
+    private final double deliveredPower;
+
+    /**
+     * Los arreglos pasan a ser propiedad de la solución (no se copian)
+     */
+    public DCNodalSolution(double[] nodeVoltages, double[] elementCurrents,
+                           double[] elementPowers, double deliveredPower) {
+        this.nodeVoltages = nodeVoltages;
+        this.elementCurrents = elementCurrents;
+        this.elementPowers = elementPowers;
+        this.deliveredPower = deliveredPower;
+    }
+
+    // Getters
+    public int getNodeCount() { return nodeVoltages.length; }
+    public int getElementCount() { return elementCurrents.length; }
+    public double getNodeVoltage(int node) { return nodeVoltages[node]; }
+    public double getElementCurrent(int element) { return elementCurrents[element]; }
+    public double getElementPower(int element) { return elementPowers[element]; }
+
+    /**
+     * Potencia neta entregada por las fuentes (igual a la disipada en los resistores)
+     */
+    public double getDeliveredPower() { return deliveredPower; }
+
+    @Override
+    public String toString() {
+        return String.format("DCNodalSolution[%d nodos, %d elementos, P=%.4fW]",
+            nodeVoltages.length, elementCurrents.length, deliveredPower);
+    }
+}
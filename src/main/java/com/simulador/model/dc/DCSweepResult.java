@@ -0,0 +1,53 @@
+package com.simulador.model.dc;
+
+/**
+ * Resultado columnar de un barrido DC
+ *
+ * Cada magnitud es una columna con un valor por punto del barrido: las corrientes se
+ * indexan [rama][punto] y los voltajes [componente][punto], con ramas y componentes en
+ * el mismo orden que {@link DCSimulationResult}. Los arreglos se comparten, no se copian.
+ */
+public class DCSweepResult {
+    private final DCComponentType sweptType;
+    private final double[] values;
+    private final double[][] branchCurrents;
+    private final double[][] componentVoltages;
+
+    public DCSweepResult(DCComponentType sweptType, double[] values,
+                         double[][] branchCurrents, double[][] componentVoltages) {
+        this.sweptType = sweptType;
+        this.values = values;
+        this.branchCurrents = branchCurrents;
+        this.componentVoltages = componentVoltages;
+    }
+
+    // Getters
+    public DCComponentType getSweptType() { return sweptType; }
+    public int getPointCount() { return values.length; }
+    public int getBranchCount() { return branchCurrents.length; }
+    public int getComponentCount() { return componentVoltages.length; }
+
+    /**
+     * Valor del componente barrido en cada punto
+     */
+    public double[] getValues() { return values; }
+
+    public double[][] getBranchCurrents() { return branchCurrents; }
+    public double[][] getComponentVoltages() { return componentVoltages; }
+
+    /**
+     * Corriente de una rama a lo largo del barrido
+     */
+    public double[] getBranchCurrent(int branch) { return branchCurrents[branch]; }
+
+    /**
+     * Voltaje de un componente a lo largo del barrido
+     */
+    public double[] getComponentVoltage(int component) { return componentVoltages[component]; }
+
+    @Override
+    public String toString() {
+        return String.format("DCSweepResult[%s, %d puntos, %d ramas, %d componentes]",
+            sweptType, values.length, branchCurrents.length, componentVoltages.length);
+    }
+}
@@ -1,6 +1,9 @@
 package com.simulador.ui;
 
+import com.simulador.engine.CircuitEngine;
 import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.FrequencySweepResult;
 import java.awt.*;
 import java.awt.geom.Path2D;
 import java.util.List;
@@ -11,35 +14,39 @@ import java.util.List;
  */
 public class FrequencyGraph extends BaseGraph {
     private List<CircuitComponent> components;
+    private CompiledCircuit circuit;
+    private FrequencySweepResult sweep;
     private Path2D.Double impedanceCurve;
     private double resonantFrequency;
 
+    // Rango del eje x (lineal) y mayor separación entre puntos del barrido
+    private static final double MIN_FREQUENCY = 1;
+    private static final double MAX_FREQUENCY = 1000;
+    private static final double MAX_STEP = 10;
+
     public FrequencyGraph(List<CircuitComponent> components) {
         this.components = components;
         this.impedanceCurve = new Path2D.Double();
-        calculateResonantFrequency();
+        compileCircuit();
     }
 
     @Override
     protected void drawGraph(Graphics2D g2d) {
         drawAxes(g2d, "Frecuencia (Hz)", "Impedancia (Ω)");
 
-        if (components == null || components.isEmpty()) {
+        if (circuit == null) {
             drawNoDataMessage(g2d);
             return;
         }
 
-        // Calcular curva de impedancia
-        double[] frequencies = new double[200];
-        double[] impedances = new double[200];
+        double[] frequencies = sweep.getFrequencies();
+        double[] impedances = sweep.getImpedance();
         double maxZ = 0;
         double minZ = Double.MAX_VALUE;
 
-        for (int i = 0; i < 200; i++) {
-            frequencies[i] = 1 + i * 5; // 1 Hz to 1000 Hz
-            impedances[i] = calculateImpedance(frequencies[i]);
-            maxZ = Math.max(maxZ, impedances[i]);
-            minZ = Math.min(minZ, impedances[i]);
+        for (double z : impedances) {
+            maxZ = Math.max(maxZ, z);
+            minZ = Math.min(minZ, z);
         }
 
         // Ajustar escala si es necesario
@@ -50,7 +57,7 @@ public class FrequencyGraph extends BaseGraph {
 
         drawGrid(g2d, 10, 8);
         drawYScale(g2d, minZ, maxZ, 8, "%.1f");
-        drawXScale(g2d, 1, 1000, 10, "%.0f");
+        drawXScale(g2d, MIN_FREQUENCY, MAX_FREQUENCY, 10, "%.0f");
 
         drawImpedanceCurve(g2d, frequencies, impedances, maxZ, minZ);
         drawResonanceInfo(g2d);
@@ -71,7 +78,8 @@ public class FrequencyGraph extends BaseGraph {
         boolean firstPoint = true;
 
         for (int i = 0; i < frequencies.length; i++) {
-            int x = padding + (int) ((frequencies[i] - 1) * graphWidth / 999);
+            int x = padding + (int) ((frequencies[i] - MIN_FREQUENCY) * graphWidth
+                    / (MAX_FREQUENCY - MIN_FREQUENCY));
             int y = height - padding - (int) ((impedances[i] - minZ) * graphHeight / (maxZ - minZ));
 
             if (firstPoint) {
@@ -97,44 +105,31 @@ public class FrequencyGraph extends BaseGraph {
         g2d.fill(fillArea);
     }
 
-    private double calculateImpedance(double freq) {
-        double totalR = 0, totalL = 0, totalC = 0;
-        for (CircuitComponent c : components) {
-            totalR += c.getResistance();
-            totalL += c.getInductance();
-            totalC += c.getCapacitance();
+    private void compileCircuit() {
+        if (components == null || components.isEmpty()) {
+            circuit = null;
+            sweep = null;
+            resonantFrequency = -1;
+            return;
         }
 
-        if (totalC <= 0)
-            totalC = 1e12;
+        circuit = CompiledCircuit.compile(components);
+        resonantFrequency = circuit.hasResonance() ? circuit.getResonantFrequency() : -1;
 
-        double w = 2 * Math.PI * freq;
-        double XL = w * totalL;
-        double XC = 1.0 / (w * totalC);
-        return Math.sqrt(totalR * totalR + Math.pow(XL - XC, 2));
-    }
-
-    private void calculateResonantFrequency() {
-        double totalL = 0, totalC = 0;
-        for (CircuitComponent c : components) {
-            totalL += c.getInductance();
-            totalC += c.getCapacitance();
-        }
-
-        if (totalL > 0 && totalC > 0 && totalC < 1e10) {
-            resonantFrequency = 1.0 / (2 * Math.PI * Math.sqrt(totalL * totalC));
-        } else {
-            resonantFrequency = -1;
-        }
+        // Se barre una vez por circuito, no en cada repintado. La grilla adaptativa se
+        // refina en log f; el eje es lineal, así que se siembra cada MAX_STEP Hz para
+        // que ninguna cuerda visible cubra más de un 1% del ancho
+        sweep = CircuitEngine.adaptiveSweep(circuit, 1.0, MIN_FREQUENCY, MAX_FREQUENCY, MAX_STEP);
     }
 
     private void drawResonanceInfo(Graphics2D g2d) {
-        if (resonantFrequency > 0 && resonantFrequency <= 1000) {
+        if (resonantFrequency > 0 && resonantFrequency <= MAX_FREQUENCY) {
             int width = getWidth();
             int height = getHeight();
             int graphWidth = width - 2 * padding;
 
-            int xRes = padding + (int) ((resonantFrequency - 1) * graphWidth / 999);
+            int xRes = padding + (int) ((resonantFrequency - MIN_FREQUENCY) * graphWidth
+                    / (MAX_FREQUENCY - MIN_FREQUENCY));
 
             // Línea vertical en frecuencia de resonancia
             g2d.setColor(new Color(0, 150, 0, 180));
@@ -145,7 +140,7 @@ public class FrequencyGraph extends BaseGraph {
     }
 
     private void drawInfoPanel(Graphics2D g2d) {
-        if (components == null || components.isEmpty()) {
+        if (circuit == null) {
             String[] infoLines = {
                     "No hay componentes en el circuito",
                     "Agregue componentes para ver",
@@ -155,12 +150,9 @@ public class FrequencyGraph extends BaseGraph {
             return;
         }
 
-        double totalR = 0, totalL = 0, totalC = 0;
-        for (CircuitComponent c : components) {
-            totalR += c.getResistance();
-            totalL += c.getInductance();
-            totalC += c.getCapacitance();
-        }
+        double totalR = circuit.getResistance();
+        double totalL = circuit.getInductance();
+        double totalC = circuit.getCapacitance();
 
         String[] infoLines;
         if (resonantFrequency > 0) {
@@ -169,7 +161,7 @@ public class FrequencyGraph extends BaseGraph {
                     String.format("Resistencia: %.2f Ω", totalR),
                     String.format("Inductancia: %.4f H", totalL),
                     String.format("Capacitancia: %.6f F", totalC),
-                    String.format("Ancho de Banda: %.1f Hz", calculateBandwidth())
+                    String.format("Ancho de Banda: %.1f Hz", circuit.getBandwidth())
             };
         } else {
             infoLines = new String[] {
@@ -183,22 +175,6 @@ public class FrequencyGraph extends BaseGraph {
         drawInfoPanel(g2d, "Parámetros del Circuito", infoLines);
     }
 
-    private double calculateBandwidth() {
-        if (resonantFrequency <= 0)
-            return 0;
-
-        double totalR = 0, totalL = 0;
-        for (CircuitComponent c : components) {
-            totalR += c.getResistance();
-            totalL += c.getInductance();
-        }
-
-        if (totalL > 0) {
-            return totalR / (2 * Math.PI * totalL);
-        }
-        return 0;
-    }
-
     private void drawNoDataMessage(Graphics2D g2d) {
         int width = getWidth();
         int height = getHeight();
@@ -218,7 +194,7 @@ public class FrequencyGraph extends BaseGraph {
 
     public void setComponents(List<CircuitComponent> components) {
         this.components = components;
-        calculateResonantFrequency();
+        compileCircuit();
         repaint();
     }
 }
\ No newline at end of file
@@ -36,7 +36,7 @@ public class GraphWindow extends JDialog {
     }
     
     private void initializeComponents() {
-        timeGraph = new TimeGraph(result);
+        timeGraph = new TimeGraph(result, components);
         frequencyGraph = new FrequencyGraph(components);
         phasorDiagram = new PhasorDiagram(result, components);
         waveformGraph = new WaveformGraph(result);
@@ -0,0 +1,226 @@
+package com.simulador.ui;
+
+import com.simulador.engine.ParameterGrid;
+import com.simulador.engine.SweepScale;
+import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.GridQuantity;
+import com.simulador.model.ParameterAxis;
+import com.simulador.model.ParameterGridResult;
+import com.simulador.model.SimulationResult;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Mapa de calor de la corriente en función de un componente y de la frecuencia
+ * Heatmap of the current as a function of one component and the frequency
+ *
+ * El eje vertical recorre una década por encima y por debajo del valor nominal en
+ * escala logarítmica; el horizontal, de 1 Hz a 1000 Hz como el gráfico de frecuencia.
+ * Si los valores abarcan más de dos décadas los colores siguen una escala logarítmica.
+ */
+public class HeatmapGraph extends BaseGraph {
+    private static final int GRID_ROWS = 240;
+    private static final int GRID_COLUMNS = 320;
+    private static final double F_START = 1;
+    private static final double F_STOP = 1000;
+    private static final double LOG_COLOR_RATIO = 100; // max/min a partir del cual se usa escala log
+    private static final int INFO_LINES = 5;
+
+    // Paleta de azul oscuro a rojo
+    private static final Color[] PALETTE = {
+            new Color(20, 30, 110), new Color(0, 140, 200), new Color(40, 190, 90),
+            new Color(250, 220, 40), new Color(220, 40, 30)
+    };
+
+    private SimulationResult result;
+    private List<CircuitComponent> components;
+    private ParameterGridResult grid;
+    private BufferedImage image;
+    private double nominalValue;
+    private double minValue;
+    private double maxValue;
+    private boolean logColors;
+
+    public HeatmapGraph(SimulationResult result, List<CircuitComponent> components) {
+        this.result = result;
+        this.components = components;
+        buildGrid();
+    }
+
+    @Override
+    protected void drawGraph(Graphics2D g2d) {
+        if (grid == null) {
+            drawNoDataMessage(g2d, "Ejecute una simulación primero");
+            return;
+        }
+
+        ParameterAxis axis = grid.getAxis();
+        drawAxes(g2d, "Frecuencia (Hz)", axis.getDisplayName() + " (" + axis.getUnit() + ")");
+
+        int width = getWidth();
+        int height = getHeight();
+        int graphWidth = width - 2 * padding;
+        int graphHeight = height - 2 * padding;
+
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(image, padding, padding, graphWidth, graphHeight, null);
+
+        drawXScale(g2d, F_START, F_STOP, 10, "%.0f");
+        drawLogYScale(g2d);
+        drawColorBar(g2d);
+        drawInfoPanel(g2d);
+    }
+
+    private void buildGrid() {
+        grid = null;
+        image = null;
+        if (result == null || components == null || components.isEmpty()) {
+            return;
+        }
+
+        CompiledCircuit circuit = CompiledCircuit.compile(components);
+        ParameterAxis axis;
+        if (circuit.hasResistance()) {
+            axis = ParameterAxis.RESISTANCE;
+            nominalValue = circuit.getResistance();
+        } else if (circuit.hasInductance()) {
+            axis = ParameterAxis.INDUCTANCE;
+            nominalValue = circuit.getInductance();
+        } else if (circuit.hasCapacitance()) {
+            axis = ParameterAxis.CAPACITANCE;
+            nominalValue = circuit.getCapacitance();
+        } else {
+            return;
+        }
+
+        // Voltaje de la simulación: V = S / I
+        double voltage = result.getCurrent() > 0
+                ? result.getApparentPower() / result.getCurrent() : 1.0;
+
+        ParameterGrid parameterGrid = new ParameterGrid(axis,
+                nominalValue / 10, nominalValue * 10, GRID_ROWS, SweepScale.LOGARITHMIC,
+                F_START, F_STOP, GRID_COLUMNS, SweepScale.LINEAR);
+        grid = parameterGrid.evaluate(circuit, voltage, GridQuantity.CURRENT);
+
+        double[] range = grid.getRange();
+        minValue = range[0];
+        maxValue = range[1];
+        logColors = minValue > 0 && maxValue / minValue > LOG_COLOR_RATIO;
+        image = renderImage();
+    }
+
+    private BufferedImage renderImage() {
+        int rows = grid.getRows();
+        int columns = grid.getColumns();
+        double[] data = grid.getData();
+
+        BufferedImage img = new BufferedImage(columns, rows, BufferedImage.TYPE_INT_RGB);
+        for (int r = 0; r < rows; r++) {
+            int y = rows - 1 - r; // el valor más pequeño abajo
+            int base = r * columns;
+            for (int c = 0; c < columns; c++) {
+                double v = data[base + c];
+                int rgb = Double.isFinite(v) ? colorAt(normalize(v)) : 0xFFFFFF;
+                img.setRGB(c, y, rgb);
+            }
+        }
+        return img;
+    }
+
+    private double normalize(double v) {
+        if (!(maxValue > minValue)) {
+            return 0;
+        }
+        if (logColors) {
+            return Math.log(v / minValue) / Math.log(maxValue / minValue);
+        }
+        return (v - minValue) / (maxValue - minValue);
+    }
+
+    private static int colorAt(double t) {
+        t = Math.max(0, Math.min(1, t));
+        double scaled = t * (PALETTE.length - 1);
+        int k = Math.min((int) scaled, PALETTE.length - 2);
+        double f = scaled - k;
+        Color a = PALETTE[k];
+        Color b = PALETTE[k + 1];
+        int red = (int) Math.round(a.getRed() + f * (b.getRed() - a.getRed()));
+        int green = (int) Math.round(a.getGreen() + f * (b.getGreen() - a.getGreen()));
+        int blue = (int) Math.round(a.getBlue() + f * (b.getBlue() - a.getBlue()));
+        return (red << 16) | (green << 8) | blue;
+    }
+
+    private void drawLogYScale(Graphics2D g2d) {
+        int height = getHeight();
+        int graphHeight = height - 2 * padding;
+        double[] values = grid.getValues();
+        double logMin = Math.log10(values[0]);
+        double logMax = Math.log10(values[values.length - 1]);
+
+        g2d.setFont(scaleFont);
+        g2d.setColor(axisColor);
+
+        int divisions = 8;
+        for (int i = 0; i <= divisions; i++) {
+            int y = height - padding - (i * graphHeight) / divisions;
+            double value = Math.pow(10, logMin + i * (logMax - logMin) / divisions);
+
+            g2d.drawLine(padding - 5, y, padding + 5, y);
+
+            String text = String.format("%.3g", value);
+            int textWidth = g2d.getFontMetrics().stringWidth(text);
+            g2d.drawString(text, padding - textWidth - 8, y + 4);
+        }
+    }
+
+    private void drawColorBar(Graphics2D g2d) {
+        int width = getWidth();
+        int height = getHeight();
+        int x = width - padding + 15;
+        int barWidth = 14;
+        // Debajo del panel de información
+        int top = 30 + 60 + INFO_LINES * 18 + 30;
+        int barHeight = height - padding - top;
+        if (barHeight < 20) {
+            return;
+        }
+
+        for (int i = 0; i < barHeight; i++) {
+            double t = 1.0 - (double) i / Math.max(1, barHeight - 1);
+            g2d.setColor(new Color(colorAt(t)));
+            g2d.fillRect(x, top + i, barWidth, 1);
+        }
+        g2d.setColor(axisColor);
+        g2d.setStroke(new BasicStroke(1));
+        g2d.drawRect(x, top, barWidth, barHeight);
+
+        g2d.setFont(scaleFont);
+        g2d.drawString(String.format("%.3g", maxValue), x - 10, top - 6);
+        g2d.drawString(String.format("%.3g", minValue), x - 10, height - padding + 16);
+    }
+
+    private void drawInfoPanel(Graphics2D g2d) {
+        ParameterAxis axis = grid.getAxis();
+        String[] infoLines = {
+                String.format("Magnitud: %s (%s)", grid.getQuantity().getDisplayName(),
+                        grid.getQuantity().getUnit()),
+                String.format("%s nominal: %.4g %s", axis.getDisplayName(), nominalValue, axis.getUnit()),
+                String.format("Máximo: %.4g %s", maxValue, grid.getQuantity().getUnit()),
+                String.format("Mínimo: %.4g %s", minValue, grid.getQuantity().getUnit()),
+                String.format("Grilla: %d × %d puntos%s", grid.getRows(), grid.getColumns(),
+                        logColors ? " (color log)" : "")
+        };
+
+        drawInfoPanel(g2d, "Mapa de Calor", infoLines);
+    }
+
+    public void setData(SimulationResult result, List<CircuitComponent> components) {
+        this.result = result;
+        this.components = components;
+        buildGrid();
+        repaint();
+    }
+}
@@ -1,6 +1,7 @@
 package com.simulador.ui;
 
 import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
 import com.simulador.model.SimulationResult;
 import java.awt.*;
 import java.awt.geom.*;
@@ -13,16 +14,18 @@ import java.util.List;
 public class PhasorDiagram extends BaseGraph {
     private SimulationResult result;
     private List<CircuitComponent> components;
+    private CompiledCircuit circuit;
 
     public PhasorDiagram(SimulationResult result, List<CircuitComponent> components) {
         this.result = result;
         this.components = components;
+        this.circuit = compile(components);
         setPreferredSize(new Dimension(800, 600));
     }
 
     @Override
     protected void drawGraph(Graphics2D g2d) {
-        if (result == null || components == null || components.isEmpty()) {
+        if (result == null || circuit == null) {
             drawNoDataMessage(g2d);
             return;
         }
@@ -99,21 +102,12 @@ public class PhasorDiagram extends BaseGraph {
     }
 
     private void drawPhasors(Graphics2D g2d, int centerX, int centerY, int radius) {
-        // Calcular valores de componentes
-        double totalR = 0, totalL = 0, totalC = 0;
-        for (CircuitComponent comp : components) {
-            totalR += comp.getResistance();
-            totalL += comp.getInductance();
-            totalC += comp.getCapacitance();
-        }
-        if (totalC <= 0)
-            totalC = 1e12;
-
+        // Un capacitor ausente es un cortocircuito (V_C = 0)
         double w = 2 * Math.PI * 60; // 60 Hz
         double I = result.getCurrent();
-        double VR = I * totalR;
-        double VL = I * w * totalL;
-        double VC = I / (w * totalC);
+        double VR = I * circuit.getResistance();
+        double VL = I * w * circuit.getInductance();
+        double VC = I * circuit.getInverseCapacitance() / w;
         double V = result.getApparentPower() / I;
 
         // Encontrar escala apropiada
@@ -231,22 +225,14 @@ public class PhasorDiagram extends BaseGraph {
     }
 
     private void drawInfoPanel(Graphics2D g2d) {
-        double totalR = 0, totalL = 0, totalC = 0;
-        for (CircuitComponent comp : components) {
-            totalR += comp.getResistance();
-            totalL += comp.getInductance();
-            totalC += comp.getCapacitance();
-        }
-
         double w = 2 * Math.PI * 60;
-        double XL = w * totalL;
-        double XC = 1.0 / (w * totalC);
-        double Z = Math.sqrt(totalR * totalR + Math.pow(XL - XC, 2));
+        double X = circuit.reactance(w);
+        double Z = circuit.impedance(w);
 
         String[] infoLines = {
                 String.format("Impedancia: %.2f Ω", Z),
-                String.format("Resistencia: %.2f Ω", totalR),
-                String.format("Reactancia: %.2f Ω", XL - XC),
+                String.format("Resistencia: %.2f Ω", circuit.getResistance()),
+                String.format("Reactancia: %.2f Ω", X),
                 String.format("Ángulo Fase: %.1f°", Math.toDegrees(result.getPhaseAngle())),
                 String.format("Factor Potencia: %.3f", result.getPowerFactor())
         };
@@ -295,6 +281,14 @@ public class PhasorDiagram extends BaseGraph {
     public void setData(SimulationResult result, List<CircuitComponent> components) {
         this.result = result;
         this.components = components;
+        this.circuit = compile(components);
         repaint();
     }
+
+    private static CompiledCircuit compile(List<CircuitComponent> components) {
+        if (components == null || components.isEmpty()) {
+            return null;
+        }
+        return CompiledCircuit.compile(components);
+    }
 }
\ No newline at end of file
@@ -5,7 +5,10 @@ import com.simulador.engine.CircuitEngine;
 import com.simulador.engine.SimulationStrategy;
 import com.simulador.model.CircuitComponent;
 import com.simulador.model.CircuitFactory;
+import com.simulador.model.CompiledCircuit;
 import com.simulador.model.SimulationResult;
+import com.simulador.model.MethodSelection;
+import com.simulador.model.TransientResult;
 import com.simulador.model.CircuitSimulationTask;
 import com.simulador.scheduler.FirstComeFirstServedScheduler;
 import com.simulador.scheduler.ProcessScheduler;
@@ -944,6 +947,8 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
             return DCAnalysisMethod.MESH_ANALYSIS;
         } else if (methodName.equals(languageManager.getTranslation("dc_method_nodal"))) {
             return DCAnalysisMethod.NODE_ANALYSIS;
+        } else if (methodName.equals(languageManager.getTranslation("dc_method_mna"))) {
+            return DCAnalysisMethod.MODIFIED_NODAL;
         } else if (methodName.equals(languageManager.getTranslation("dc_method_thevenin"))) {
             return DCAnalysisMethod.THEVENIN_THEOREM;
         } else if (methodName.equals(languageManager.getTranslation("dc_method_norton"))) {
@@ -1410,11 +1415,14 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
                 case 3:
                     currentGraph = new WaveformGraph(null);
                     break;
+                case 4:
+                    currentGraph = new HeatmapGraph(null, new ArrayList<>());
+                    break;
             }
         } else {
             switch (graphType) {
                 case 0:
-                    currentGraph = new TimeGraph(lastResult);
+                    currentGraph = new TimeGraph(lastResult, components);
                     break;
                 case 1:
                     currentGraph = new FrequencyGraph(components);
@@ -1425,6 +1433,9 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
                 case 3:
                     currentGraph = new WaveformGraph(lastResult);
                     break;
+                case 4:
+                    currentGraph = new HeatmapGraph(lastResult, components);
+                    break;
             }
         }
 
@@ -2632,6 +2643,20 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
                 sb.append(languageManager.getTranslation("apparent_power")).append(" ").append(df.format(simResult.getApparentPower())).append(" VA\n");
                 sb.append(languageManager.getTranslation("power_factor")).append(" ").append(df.format(simResult.getPowerFactor())).append("\n\n");
 
+                if (simResult instanceof TransientResult) {
+                    TransientResult transientResult = (TransientResult) simResult;
+                    sb.append(languageManager.getFormattedTranslation("transient_stats",
+                            transientResult.getStepCount(), transientResult.getRejectedStepCount(),
+                            transientResult.getComputationTimeNanos() / 1e6)).append("\n\n");
+                }
+
+                MethodSelection selection = simResult.getMethodSelection();
+                if (selection != null) {
+                    sb.append(languageManager.getFormattedTranslation("auto_selection",
+                            selection.getMethod(), selection.getEstimatedEvaluations(),
+                            selection.getEstimatedError())).append("\n\n");
+                }
+
                 double phaseDeg = Math.toDegrees(simResult.getPhaseAngle());
                 String circuitType;
                 if (phaseDeg > 0) {
@@ -2689,15 +2714,16 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
 
     private void updateAnalysisPanel(SimulationResult result) {
         // (Este método se mantiene igual que antes, pero ahora su texto inicial se setea en updateLanguage)
-        if (analysisArea == null) return;
+        if (analysisArea == null || components.isEmpty()) return;
         
         StringBuilder analysis = new StringBuilder();
         analysis.append(languageManager.getTranslation("rlc_analysis_placeholder_title")).append("\n\n");
         
         // Análisis básico del circuito
-        double totalR = components.stream().mapToDouble(CircuitComponent::getResistance).sum();
-        double totalL = components.stream().mapToDouble(CircuitComponent::getInductance).sum();
-        double totalC = components.stream().mapToDouble(CircuitComponent::getCapacitance).sum();
+        CompiledCircuit circuit = CompiledCircuit.compile(components);
+        double totalR = circuit.getResistance();
+        double totalL = circuit.getInductance();
+        double totalC = circuit.getCapacitance();
         
         analysis.append("PARÁMETROS DEL CIRCUITO:\n");
         analysis.append(String.format("- Resistencia total: %.2f Ω\n", totalR));
@@ -3064,7 +3090,7 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
         languageManager.updateToolTipText(frequencyField, "rlc_frequency_tooltip");
         
         updateCardTitle(rlcMethodCard, "rlc_simulation_method");
-        languageManager.updateComboBox(methodCombo, new String[]{"analytical", "euler", "runge_kutta"});
+        languageManager.updateComboBox(methodCombo, new String[]{"analytical", "euler", "runge_kutta", "dormand_prince", "implicit", "nodal", "auto"});
         languageManager.updateToolTipText(methodCombo, "rlc_method_tooltip");
         
         updateCardTitle(rlcPresetCard, "rlc_presets");
@@ -3112,7 +3138,7 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
         languageManager.updateToolTipText(addDCButton, "dc_add_tooltip");
         
         updateCardTitle(dcMethodCard, "dc_analysis_method");
-        languageManager.updateComboBox(dcMethodCombo, new String[]{"dc_method_ohm", "dc_method_kirchhoff", "dc_method_mesh", "dc_method_nodal", "dc_method_thevenin", "dc_method_norton", "dc_method_source"});
+        languageManager.updateComboBox(dcMethodCombo, new String[]{"dc_method_ohm", "dc_method_kirchhoff", "dc_method_mesh", "dc_method_nodal", "dc_method_mna", "dc_method_thevenin", "dc_method_norton", "dc_method_source"});
         languageManager.updateToolTipText(dcMethodCombo, "dc_method_tooltip");
 
         updateCardTitle(dcActionCard, "dc_actions");
@@ -3146,7 +3172,7 @@ public class RLCSimulator extends JPanel implements SimulationObserver {
         circuitTabs.setTitleAt(1, languageManager.getTranslation("rlc_tab_results"));
         circuitTabs.setTitleAt(2, languageManager.getTranslation("rlc_tab_analysis"));
         languageManager.updateComponentText(rlcGraphTypeLabel, "rlc_graph_type");
-        languageManager.updateComboBox(graphTypeCombo, new String[]{"rlc_graph_time", "rlc_graph_frequency", "rlc_graph_phasor", "rlc_graph_waveforms"});
+        languageManager.updateComboBox(graphTypeCombo, new String[]{"rlc_graph_time", "rlc_graph_frequency", "rlc_graph_phasor", "rlc_graph_waveforms", "rlc_graph_heatmap"});
         updateInitialResultsText(); // Actualiza placeholders
 
         // --- Panel DC (Derecha) ---
@@ -1,20 +1,36 @@
 package com.simulador.ui;
 
+import com.simulador.engine.TransientResponse;
+import com.simulador.model.CircuitComponent;
+import com.simulador.model.CompiledCircuit;
 import com.simulador.model.SimulationResult;
 import java.awt.*;
 import java.awt.geom.Path2D;
+import java.util.List;
 
 /**
  * Gráfico de dominio de tiempo para corriente del circuito
  * Time domain graph for circuit current
+ *
+ * Muestra la respuesta al escalón de la tensión de la simulación, evaluada en forma
+ * cerrada con un punto por píxel sobre la duración de establecimiento del circuito.
  */
 public class TimeGraph extends BaseGraph {
     private SimulationResult result;
+    private List<CircuitComponent> components;
+    private TransientResponse response;
     private Path2D.Double currentCurve;
+    private double[] samples = new double[0];
 
     public TimeGraph(SimulationResult result) {
+        this(result, null);
+    }
+
+    public TimeGraph(SimulationResult result, List<CircuitComponent> components) {
         this.result = result;
+        this.components = components;
         this.currentCurve = new Path2D.Double();
+        buildResponse();
         setPreferredSize(new Dimension(800, 550));
     }
 
@@ -33,17 +49,34 @@ public class TimeGraph extends BaseGraph {
             return;
         }
 
-        double maxCurrent = Math.abs(result.getCurrent()) * 1.5;
+        if (response == null) {
+            drawNoDataMessage(g2d, "La respuesta transitoria requiere resistencia o inductancia");
+            return;
+        }
+
+        // Un punto por píxel: la respuesta se evalúa en O(1) en cada instante
+        double totalTime = response.getSuggestedDuration();
+        int points = Math.max(2, getWidth() - 2 * padding + 1);
+        if (samples.length != points) {
+            samples = new double[points];
+        }
+        response.sampleCurrent(0, totalTime, samples);
+
+        double maxCurrent = 0;
+        for (double value : samples) {
+            if (Double.isFinite(value)) {
+                maxCurrent = Math.max(maxCurrent, Math.abs(value));
+            }
+        }
+        maxCurrent *= 1.2;
         if (maxCurrent < 0.001)
             maxCurrent = 0.001;
 
         drawYScale(g2d, -maxCurrent, maxCurrent, 8, "%.3f");
-
-        double totalTime = 0.05;
-        drawXScale(g2d, 0, totalTime, 10, "%.3f");
+        drawXScale(g2d, 0, totalTime, 10, "%.3g");
 
         drawCurrentCurve(g2d, maxCurrent, totalTime);
-        drawInfoPanel(g2d);
+        drawInfoPanel(g2d, maxCurrent / 1.2);
         drawLegend(g2d);
     }
 
@@ -57,14 +90,13 @@ public class TimeGraph extends BaseGraph {
         g2d.setStroke(new BasicStroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
 
         currentCurve.reset();
-        int points = 500;
+        int points = samples.length;
         boolean firstPoint = true;
 
         for (int i = 0; i < points; i++) {
-            double t = (i * totalTime) / points;
-            double current = calculateInstantaneousCurrent(t);
+            double current = samples[i];
 
-            int x = padding + (int) (t * graphWidth / totalTime);
+            int x = padding + (int) ((long) i * graphWidth / (points - 1));
             int y = height - padding - (int) ((current + maxCurrent) * graphHeight / (2 * maxCurrent));
 
             if (firstPoint) {
@@ -97,34 +129,53 @@ public class TimeGraph extends BaseGraph {
         g2d.fill(fillArea);
     }
 
-    private void drawInfoPanel(Graphics2D g2d) {
+    private void drawInfoPanel(Graphics2D g2d, double peakCurrent) {
+        double settling = response.getSettlingTime();
+        double wd = response.getDampedAngularFrequency();
         String[] infoLines = {
-                String.format("Corriente Pico: %.3f A", result.getCurrent()),
-                String.format("Fase: %.1f°", Math.toDegrees(result.getPhaseAngle())),
-                String.format("Impedancia: %.2f Ω", result.getImpedance()),
-                "Frecuencia: 60 Hz",
-                String.format("Potencia Activa: %.2f W", result.getActivePower())
+                String.format("Respuesta: %s", response.getDamping().getDisplayName()),
+                String.format("Escalón: %.2f V", response.getAmplitude()),
+                String.format("Corriente Pico: %.4g A", peakCurrent),
+                wd > 0 ? String.format("ωd: %.4g rad/s (%.4g Hz)", wd, wd / (2 * Math.PI))
+                       : String.format("Tasa de decaimiento: %.4g 1/s", response.getDecayRate()),
+                Double.isFinite(settling) ? String.format("Establecimiento (2%%): %.4g s", settling)
+                                          : "Establecimiento: no decae"
         };
 
         drawInfoPanel(g2d, "Información de Corriente", infoLines);
     }
 
     private void drawLegend(Graphics2D g2d) {
-        String[] legendLabels = { "Corriente del Circuito" };
+        String[] legendLabels = { "Corriente (respuesta al escalón)" };
         Color[] legendColors = { new Color(0, 100, 255) };
         drawLegend(g2d, legendLabels, legendColors, 30, 60);
     }
 
-    private double calculateInstantaneousCurrent(double time) {
-        double amplitude = result.getCurrent();
-        double frequency = 60.0;
-        double phase = result.getPhaseAngle();
-
-        return amplitude * Math.sin(2 * Math.PI * frequency * time + phase);
+    private void buildResponse() {
+        response = null;
+        if (result == null || components == null || components.isEmpty()) {
+            return;
+        }
+        CompiledCircuit circuit = CompiledCircuit.compile(components);
+        if (!circuit.hasResistance() && !circuit.hasInductance()) {
+            return;
+        }
+        // Tensión de la simulación: V = S / I
+        double voltage = result.getCurrent() > 0
+                ? result.getApparentPower() / result.getCurrent() : 1.0;
+        response = TransientResponse.of(circuit, TransientResponse.Excitation.STEP, voltage);
     }
 
     public void setResult(SimulationResult result) {
         this.result = result;
+        buildResponse();
+        repaint();
+    }
+
+    public void setData(SimulationResult result, List<CircuitComponent> components) {
+        this.result = result;
+        this.components = components;
+        buildResponse();
         repaint();
     }
-}
\ No newline at end of file
+}
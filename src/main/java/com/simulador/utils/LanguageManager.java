@@ -61,6 +61,10 @@ public class LanguageManager {
             Map.entry("analytical", "Analítico"),
             Map.entry("euler", "Euler"),
             Map.entry("runge_kutta", "Runge-Kutta4"),
+            Map.entry("dormand_prince", "Dormand-Prince (adaptativo)"),
+            Map.entry("implicit", "Implícito (trapecio)"),
+            Map.entry("nodal", "Nodal (MNA, equivalente serie)"),
+            Map.entry("auto", "Automático"),
             Map.entry("rlc_voltage_tooltip", "Voltaje entre 0.1 y 1000 V"),
             Map.entry("rlc_frequency_tooltip", "Frecuencia entre 0.1 y 10000 Hz"),
             Map.entry("rlc_method_tooltip", "Método de cálculo para la simulación"),
@@ -98,6 +102,7 @@ public class LanguageManager {
             Map.entry("dc_method_kirchhoff", "Leyes de Kirchhoff"),
             Map.entry("dc_method_mesh", "Análisis de Mallas"),
             Map.entry("dc_method_nodal", "Análisis Nodal"),
+            Map.entry("dc_method_mna", "Nodal Modificado (MNA)"),
             Map.entry("dc_method_thevenin", "Teorema de Thevenin"),
             Map.entry("dc_method_norton", "Teorema de Norton"),
             Map.entry("dc_method_source", "Transformación de Fuentes"),
@@ -141,6 +146,7 @@ public class LanguageManager {
             Map.entry("rlc_graph_frequency", "Respuesta en Frecuencia"),
             Map.entry("rlc_graph_phasor", "Diagrama Fasorial"),
             Map.entry("rlc_graph_waveforms", "Formas de Onda"),
+            Map.entry("rlc_graph_heatmap", "Mapa de Calor"),
             Map.entry("rlc_results_placeholder_title", "=== Simulador Avanzado de Circuitos RLC ==="),
             Map.entry("rlc_results_placeholder_inst", "Instrucciones:"),
             Map.entry("rlc_analysis_placeholder_title", "=== ANÁLISIS DETALLADO DEL CIRCUITO ==="),
@@ -212,6 +218,8 @@ public class LanguageManager {
             Map.entry("proc_start_error", "Error al iniciar planificación: %s"),
             Map.entry("sim_in_progress", "Simulación en progreso..."),
             Map.entry("sim_complete", "Simulación completada exitosamente"),
+            Map.entry("transient_stats", "Pasos: %d (rechazados: %d) en %.3f ms"),
+            Map.entry("auto_selection", "Método elegido: %s (≈%d evaluaciones, error estimado %.1e)"),
             Map.entry("sim_error_generic", "Error en la simulación: %s"),
             Map.entry("sim_error_details", "Error en simulación. Por favor, verifique los parámetros e intente nuevamente.\n\nDetalles del error: %s"),
             Map.entry("history_export_error_empty", "No hay datos en el historial para exportar."),
@@ -266,6 +274,10 @@ public class LanguageManager {
             Map.entry("analytical", "Analítico"),
             Map.entry("euler", "Euler"),
             Map.entry("runge_kutta", "Runge-Kutta4"),
+            Map.entry("dormand_prince", "Dormand-Prince (adaptativo)"),
+            Map.entry("implicit", "Implícito (trapézio)"),
+            Map.entry("nodal", "Nodal (MNA, equivalente série)"),
+            Map.entry("auto", "Automático"),
             Map.entry("rlc_voltage_tooltip", "Tensão entre 0.1 e 1000 V"),
             Map.entry("rlc_frequency_tooltip", "Frequência entre 0.1 e 10000 Hz"),
             Map.entry("rlc_method_tooltip", "Método de cálculo para a simulação"),
@@ -303,6 +315,7 @@ public class LanguageManager {
             Map.entry("dc_method_kirchhoff", "Leis de Kirchhoff"),
             Map.entry("dc_method_mesh", "Análise de Malhas"),
             Map.entry("dc_method_nodal", "Análise Nodal"),
+            Map.entry("dc_method_mna", "Nodal Modificado (MNA)"),
             Map.entry("dc_method_thevenin", "Teorema de Thevenin"),
             Map.entry("dc_method_norton", "Teorema de Norton"),
             Map.entry("dc_method_source", "Transformação de Fontes"),
@@ -346,6 +359,7 @@ public class LanguageManager {
             Map.entry("rlc_graph_frequency", "Resposta em Frequência"),
             Map.entry("rlc_graph_phasor", "Diagrama Fasorial"),
             Map.entry("rlc_graph_waveforms", "Formas de Onda"),
+            Map.entry("rlc_graph_heatmap", "Mapa de Calor"),
             Map.entry("rlc_results_placeholder_title", "=== Simulador Avançado de Circuitos RLC ==="),
             Map.entry("rlc_results_placeholder_inst", "Instruções:"),
             Map.entry("rlc_analysis_placeholder_title", "=== ANÁLISE DETALHADA DO CIRCUITO ==="),
@@ -417,6 +431,8 @@ public class LanguageManager {
             Map.entry("proc_start_error", "Erro ao iniciar agendamento: %s"),
             Map.entry("sim_in_progress", "Simulação em andamento..."),
             Map.entry("sim_complete", "Simulação concluída com sucesso"),
+            Map.entry("transient_stats", "Passos: %d (rejeitados: %d) em %.3f ms"),
+            Map.entry("auto_selection", "Método escolhido: %s (≈%d avaliações, erro estimado %.1e)"),
             Map.entry("sim_error_generic", "Erro na simulação: %s"),
             Map.entry("sim_error_details", "Erro na simulação. Por favor, verifique os parâmetros e tente novamente.\n\nDetalhes do erro: %s"),
             Map.entry("history_export_error_empty", "Não há dados no histórico para exportar."),
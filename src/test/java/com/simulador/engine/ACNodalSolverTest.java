@@ -0,0 +1,69 @@
+package com.simulador.engine;
+
+import com.simulador.model.ACNetlist;
+import com.simulador.model.ACNodalSolution;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del análisis nodal complejo, en especial cerca de resonancia
+ * Tests for the complex nodal analysis, especially near resonance
+ */
+public class ACNodalSolverTest {
+
+    private static final double L = 10e-3;
+    private static final double C = 1e-6;
+    private static final double R = 10;
+    private static final double F0 = 1 / (2 * Math.PI * Math.sqrt(L * C));
+
+    // Fuente → L → C → R → tierra: el orden de mínimo grado pivotea sobre yL + yC
+    private static ACNetlist seriesResonator() {
+        return new ACNetlist().addInductor(1, 2, L).addCapacitor(2, 3, C).addResistor(3, 0, R).setSource(1);
+    }
+
+    private static void assertCurrent(ACNodalSolution solution, double frequency) {
+        double w = 2 * Math.PI * frequency;
+        double x = w * L - 1 / (w * C);
+        double d = R * R + x * x;
+        assertEquals(R / d, solution.getSourceCurrentReal(), 1e-12);
+        assertEquals(-x / d, solution.getSourceCurrentImaginary(), 1e-12);
+    }
+
+    @Test
+    public void solvesExactlyAtResonance() {
+        ACNodalSolver solver = new ACNodalSolver(seriesResonator());
+        ACNodalSolution solution = solver.solve(1, F0);
+        assertEquals(0.1, solution.getSourceCurrentReal(), 1e-12);
+        assertEquals(0, solution.getSourceCurrentImaginary(), 1e-12);
+
+        MutableComplex z = new MutableComplex();
+        solver.inputImpedance(F0, z);
+        assertEquals(R, z.getReal(), 1e-9);
+        assertEquals(0, z.getImaginary(), 1e-9);
+    }
+
+    @Test
+    public void staysAccurateNextToResonance() {
+        ACNodalSolver solver = new ACNodalSolver(seriesResonator());
+        double f = F0 * (1 + 1e-12);
+        ACNodalSolution solution = solver.solve(1, f);
+        assertCurrent(solution, f);
+        // La parte imaginaria es del orden de 1e-12: un pivote cancelado daría ~1e-6
+        assertTrue(Math.abs(solution.getSourceCurrentImaginary()) < 1e-11);
+    }
+
+    @Test
+    public void matchesClosedFormAcrossTheBand() {
+        ACNodalSolver solver = new ACNodalSolver(seriesResonator());
+        for (double f : new double[] { 10, 500, F0 * 0.999, F0, F0 * 1.001, 5000, 1e5 }) {
+            assertCurrent(solver.solve(1, f), f);
+        }
+    }
+
+    @Test
+    public void sweepHasNoNaNAtTheResonanceSeed() {
+        ACNodalSolver solver = new ACNodalSolver(seriesResonator());
+        double[] impedance = solver.sweep(1, F0 / 2, F0 * 2, 3, SweepScale.LOGARITHMIC).getImpedance();
+        assertEquals(R, impedance[1], 1e-9);
+    }
+}
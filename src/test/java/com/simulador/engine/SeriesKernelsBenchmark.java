@@ -0,0 +1,83 @@
+package com.simulador.engine;
+
+import com.simulador.model.GridQuantity;
+import java.util.SplittableRandom;
+
+/**
+ * Comparación escalar vs. SIMD de los núcleos del RLC serie (un solo hilo)
+ * Scalar vs. SIMD comparison of the series RLC kernels (single thread)
+ *
+ * No es una prueba unitaria. Se ejecuta con el módulo de vectores habilitado:
+ *   java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes \
+ *        com.simulador.engine.SeriesKernelsBenchmark [puntos]
+ */
+public class SeriesKernelsBenchmark {
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 30;
+
+    public static void main(String[] args) {
+        int points = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 16;
+        if (!SeriesKernels.isVectorAvailable()) {
+            System.out.println("Vector API no disponible: ejecute con --add-modules jdk.incubator.vector");
+            return;
+        }
+        SeriesKernels.setVectorEnabled(true);
+        System.out.printf("%s, %d carriles, %d puntos%n",
+                          SeriesKernels.getBackendName(), SeriesKernels.getLaneCount(), points);
+
+        double[] f = SweepScale.LOGARITHMIC.samples(1, 1e6, points);
+        double[][] sweepOut = new double[7][points];
+        double[] w = new double[points];
+        double[] inverseW = new double[points];
+        for (int k = 0; k < points; k++) {
+            w[k] = 2 * Math.PI * f[k];
+            inverseW[k] = 1.0 / w[k];
+        }
+        double[] row = new double[points];
+
+        SplittableRandom random = new SplittableRandom(42);
+        double[] r = new double[points], l = new double[points], c = new double[points];
+        for (int k = 0; k < points; k++) {
+            r[k] = 100 * (1 + 0.05 * (2 * random.nextDouble() - 1));
+            l[k] = 0.1 * (1 + 0.1 * (2 * random.nextDouble() - 1));
+            c[k] = k % 97 == 0 ? 0 : 1e-5 * (1 + 0.2 * (2 * random.nextDouble() - 1));
+        }
+        double[] i = new double[points], pf = new double[points], f0 = new double[points];
+
+        report("Barrido (Z, I, φ, P, Q, S, fp)", points, () ->
+            SeriesKernels.sweep(10, 0.1, 1e5, 120, f, 0, points, sweepOut[0], sweepOut[1],
+                                sweepOut[2], sweepOut[3], sweepOut[4], sweepOut[5], sweepOut[6]));
+        report("Fila de grilla (|Z|)", points, () ->
+            SeriesKernels.gridRow(GridQuantity.IMPEDANCE, 120, 10, 0.1, 1e5, w, inverseW,
+                                  0, points, row, 0));
+        report("Fila de grilla (I)", points, () ->
+            SeriesKernels.gridRow(GridQuantity.CURRENT, 120, 10, 0.1, 1e5, w, inverseW,
+                                  0, points, row, 0));
+        report("Monte Carlo (I, fp, f0)", points, () ->
+            SeriesKernels.evaluate(2 * Math.PI * 60, 120, r, l, c, 0, points, i, pf, f0));
+    }
+
+    private static void report(String name, int points, Runnable kernel) {
+        double scalar = measure(false, kernel);
+        double vector = measure(true, kernel);
+        System.out.printf("%-32s escalar %7.3f ns/pt   SIMD %7.3f ns/pt   x%.2f%n",
+                          name, scalar / points, vector / points, scalar / vector);
+    }
+
+    // Mejor tiempo de las rondas medidas (ns)
+    private static double measure(boolean vector, Runnable kernel) {
+        SeriesKernels.setVectorEnabled(vector);
+        for (int k = 0; k < WARMUP_ROUNDS; k++) {
+            kernel.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int k = 0; k < MEASURED_ROUNDS; k++) {
+            long start = System.nanoTime();
+            kernel.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        SeriesKernels.setVectorEnabled(true);
+        return best;
+    }
+}
@@ -0,0 +1,121 @@
+package com.simulador.engine;
+
+import com.simulador.model.CompiledCircuit;
+import com.simulador.model.TransientChunk;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del modo streaming: contrapresión y ejecutores
+ * Tests for streaming mode: backpressure and executors
+ */
+public class TransientStreamTest {
+
+    private static final CompiledCircuit CIRCUIT = CompiledCircuit.of(10, 0.1, 1e-5);
+
+    /**
+     * Suscriptor que verifica que los bloques lleguen completos y en orden
+     * Subscriber checking that chunks arrive complete and in order
+     */
+    private static final class OrderedSubscriber implements Flow.Subscriber<TransientChunk> {
+        private final long delayMillis;
+        private Flow.Subscription subscription;
+        private long nextSequence;
+        private long nextSample;
+        private double lastTime = Double.NEGATIVE_INFINITY;
+        private boolean ordered = true;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        OrderedSubscriber(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(delayMillis > 0 ? 1 : Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(TransientChunk chunk) {
+            ordered &= chunk.getSequence() == nextSequence++ && chunk.getFirstSample() == nextSample;
+            for (int k = 0; k < chunk.getLength(); k++) {
+                ordered &= chunk.getTime(k) > lastTime;
+                lastTime = chunk.getTime(k);
+            }
+            nextSample += chunk.getLength();
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void fastAndSlowSubscribersSeeEverySampleInOrder() throws Exception {
+        TransientStream stream = new RungeKutta4Strategy().stream(CIRCUIT, 10, 60, 2.0, 256, 2, null);
+        OrderedSubscriber fast = new OrderedSubscriber(0);
+        OrderedSubscriber slow = new OrderedSubscriber(1);
+        stream.subscribe(fast);
+        stream.subscribe(slow);
+
+        stream.start().get(20, TimeUnit.SECONDS);
+        long published = stream.getPublishedSamples();
+        while (!(fast.completed && slow.completed) && fast.error == null && slow.error == null) {
+            Thread.sleep(5);
+        }
+        assertNull(fast.error);
+        assertNull(slow.error);
+        assertTrue(published > 256 * 2);
+        assertTrue(fast.ordered);
+        assertTrue(slow.ordered);
+        assertEquals(published, fast.nextSample);
+        assertEquals(published, slow.nextSample);
+    }
+
+    @Test(timeout = 30000)
+    public void singleThreadDeliveryExecutorDoesNotDeadlock() throws Exception {
+        ExecutorService delivery = Executors.newSingleThreadExecutor();
+        try {
+            TransientStream stream = new RungeKutta4Strategy()
+                .stream(CIRCUIT, 10, 60, 5.0, 256, 2, delivery);
+            OrderedSubscriber subscriber = new OrderedSubscriber(0);
+            stream.subscribe(subscriber);
+            CompletableFuture<?> run = stream.start();
+            run.get(20, TimeUnit.SECONDS);
+            assertTrue(subscriber.ordered);
+        } finally {
+            delivery.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void integrationOnTheDeliveryExecutorIsRejected() {
+        ExecutorService delivery = Executors.newSingleThreadExecutor();
+        try {
+            new RungeKutta4Strategy().stream(CIRCUIT, 10, 60, 1.0, 256, 2, delivery).start(delivery);
+        } finally {
+            delivery.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.simulador.engine.dc;
+
+import com.simulador.model.dc.DCNetlist;
+import com.simulador.model.dc.DCNodalSolution;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de las correcciones de Woodbury contra una resolución desde cero
+ */
+public class DCNodalSolverTest {
+
+    private static DCNetlist withValues(DCNetlist netlist, double[] values) {
+        DCNetlist copy = new DCNetlist();
+        for (int e = 0; e < netlist.getElementCount(); e++) {
+            DCNetlist.Element element = netlist.getElement(e);
+            switch (element.getKind()) {
+                case RESISTOR:
+                    copy.addResistor(element.getNodeA(), element.getNodeB(), values[e]);
+                    break;
+                case VOLTAGE_SOURCE:
+                    copy.addVoltageSource(element.getNodeA(), element.getNodeB(), values[e]);
+                    break;
+                default:
+                    copy.addCurrentSource(element.getNodeA(), element.getNodeB(), values[e]);
+                    break;
+            }
+        }
+        return copy;
+    }
+
+    private static void assertSameSolution(DCNodalSolution expected, DCNodalSolution actual) {
+        for (int node = 1; node < expected.getNodeCount(); node++) {
+            assertEquals(expected.getNodeVoltage(node), actual.getNodeVoltage(node), 1e-9);
+        }
+        for (int e = 0; e < expected.getElementCount(); e++) {
+            assertEquals(expected.getElementCurrent(e), actual.getElementCurrent(e), 1e-9);
+        }
+    }
+
+    private static void checkUpdatesMatchFreshSolves(int width) {
+        Random random = new Random(width);
+        DCNetlist netlist = SparseLUTest.mesh(width, random);
+        int m = netlist.getElementCount();
+        double[] values = new double[m];
+        for (int e = 0; e < m; e++) {
+            values[e] = netlist.getElement(e).getValue();
+        }
+
+        DCNodalSolver solver = new DCNodalSolver(netlist);
+        solver.solve();
+        assertEquals(1, solver.getFactorizationCount());
+
+        // Cambia de a un resistor distinto hasta pasar MAX_UPDATES
+        int changes = DCNodalSolver.MAX_UPDATES + 3;
+        for (int c = 0; c < changes; c++) {
+            int e = 3 * c;
+            assertEquals(DCNetlist.Kind.RESISTOR, netlist.getElement(e).getKind());
+            values[e] *= 1.5 + random.nextDouble();
+            solver.setValue(e, values[e]);
+            DCNodalSolution updated = solver.solve();
+            assertSameSolution(new DCNodalSolver(withValues(netlist, values)).solve(), updated);
+            if (c < DCNodalSolver.MAX_UPDATES) {
+                assertEquals(1, solver.getFactorizationCount());
+                assertEquals(c + 1, solver.getUpdateRank());
+            }
+        }
+        assertEquals(2, solver.getFactorizationCount());
+        assertEquals(changes - DCNodalSolver.MAX_UPDATES - 1, solver.getUpdateRank());
+    }
+
+    @Test
+    public void woodburyMatchesFreshSolveInBandMode() {
+        checkUpdatesMatchFreshSolves(10);
+    }
+
+    @Test
+    public void woodburyMatchesFreshSolveInSparseMode() {
+        checkUpdatesMatchFreshSolves(32);
+    }
+
+    @Test
+    public void sourceChangesReuseTheFactorization() {
+        DCNetlist netlist = SparseLUTest.mesh(10, new Random(3));
+        DCNodalSolver solver = new DCNodalSolver(netlist);
+        solver.solve();
+        int source = netlist.getElementCount() - 1;
+        assertEquals(DCNetlist.Kind.VOLTAGE_SOURCE, netlist.getElement(source).getKind());
+        solver.setValue(source, -7);
+        solver.solve();
+        assertEquals(1, solver.getFactorizationCount());
+        assertEquals(0, solver.getUpdateRank());
+    }
+
+    @Test
+    public void restoringAResistanceDropsItsCorrection() {
+        DCNetlist netlist = SparseLUTest.mesh(10, new Random(4));
+        DCNodalSolver solver = new DCNodalSolver(netlist);
+        DCNodalSolution original = solver.solve();
+        double value = solver.getValue(0);
+        solver.setValue(0, 2 * value);
+        solver.solve();
+        assertEquals(1, solver.getUpdateRank());
+        solver.setValue(0, value);
+        assertEquals(0, solver.getUpdateRank());
+        assertSameSolution(original, solver.solve());
+    }
+
+    @Test
+    public void copiesShareStructureButNotWorkspace() {
+        DCNetlist netlist = SparseLUTest.mesh(32, new Random(6));
+        DCNodalSolver prototype = new DCNodalSolver(netlist);
+        DCNodalSolver copy = new DCNodalSolver(prototype);
+        assertTrue(copy.isSparse());
+        assertFalse(copy.isFactored());
+
+        DCNodalSolution original = prototype.solve();
+        copy.setValue(0, 5 * copy.getValue(0));
+        copy.solve();
+        assertSameSolution(original, prototype.solve());
+        assertEquals(1, prototype.getFactorizationCount());
+        assertEquals(1, copy.getFactorizationCount());
+    }
+}
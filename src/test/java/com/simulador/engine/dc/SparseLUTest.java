@@ -0,0 +1,160 @@
+package com.simulador.engine.dc;
+
+import com.simulador.model.dc.DCNetlist;
+import com.simulador.model.dc.DCNodalSolution;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de la LU dispersa y de su acuerdo con la LU en banda y con eliminación densa
+ */
+public class SparseLUTest {
+
+    /**
+     * Malla W×W de resistores con una fuente de voltaje a tierra, otra flotante entre
+     * dos esquinas y una fuente de corriente hacia el centro
+     */
+    static DCNetlist mesh(int w, Random random) {
+        DCNetlist netlist = new DCNetlist();
+        for (int i = 0; i < w; i++) {
+            for (int j = 0; j < w; j++) {
+                int node = 1 + i * w + j;
+                if (j + 1 < w) netlist.addResistor(node, node + 1, 1 + random.nextInt(100));
+                if (i + 1 < w) netlist.addResistor(node, node + w, 1 + random.nextInt(100));
+            }
+        }
+        netlist.addVoltageSource(1, DCNetlist.GROUND, 10);
+        netlist.addResistor(w * w, DCNetlist.GROUND, 3);
+        netlist.addCurrentSource(DCNetlist.GROUND, w * w / 2, 0.1);
+        netlist.addVoltageSource(w, w * w - w + 1, 2);
+        return netlist;
+    }
+
+    /**
+     * Tensiones de nodo por eliminación gaussiana densa sobre el sistema MNA
+     */
+    static double[] denseVoltages(DCNetlist netlist) {
+        int nodes = netlist.getNodeCount() - 1;
+        int n = nodes + netlist.getVoltageSourceCount();
+        double[][] a = new double[n][n + 1];
+        int k = nodes;
+        for (DCNetlist.Element e : netlist.getElements()) {
+            int p = e.getNodeA() - 1, q = e.getNodeB() - 1;
+            switch (e.getKind()) {
+                case RESISTOR:
+                    double g = 1 / e.getValue();
+                    if (p >= 0) a[p][p] += g;
+                    if (q >= 0) a[q][q] += g;
+                    if (p >= 0 && q >= 0) { a[p][q] -= g; a[q][p] -= g; }
+                    break;
+                case VOLTAGE_SOURCE:
+                    if (p >= 0) { a[p][k] += 1; a[k][p] += 1; }
+                    if (q >= 0) { a[q][k] -= 1; a[k][q] -= 1; }
+                    a[k++][n] = e.getValue();
+                    break;
+                default:
+                    if (p >= 0) a[p][n] -= e.getValue();
+                    if (q >= 0) a[q][n] += e.getValue();
+                    break;
+            }
+        }
+        double[] x = gauss(a);
+        double[] voltages = new double[nodes + 1];
+        System.arraycopy(x, 0, voltages, 1, nodes);
+        return voltages;
+    }
+
+    private static double[] gauss(double[][] a) {
+        int n = a.length;
+        for (int c = 0; c < n; c++) {
+            int p = c;
+            for (int r = c + 1; r < n; r++) {
+                if (Math.abs(a[r][c]) > Math.abs(a[p][c])) p = r;
+            }
+            double[] t = a[c]; a[c] = a[p]; a[p] = t;
+            for (int r = c + 1; r < n; r++) {
+                double l = a[r][c] / a[c][c];
+                if (l != 0) {
+                    for (int j = c; j <= n; j++) a[r][j] -= l * a[c][j];
+                }
+            }
+        }
+        double[] x = new double[n];
+        for (int r = n - 1; r >= 0; r--) {
+            double sum = a[r][n];
+            for (int j = r + 1; j < n; j++) sum -= a[r][j] * x[j];
+            x[r] = sum / a[r][r];
+        }
+        return x;
+    }
+
+    private static void assertVoltages(double[] expected, DCNodalSolution solution) {
+        for (int node = 1; node < expected.length; node++) {
+            assertEquals(expected[node], solution.getNodeVoltage(node), 1e-10);
+        }
+    }
+
+    @Test
+    public void bandedAndSparseAgreeWithDenseElimination() {
+        Random random = new Random(7);
+        DCNetlist narrow = mesh(12, random);
+        DCNodalSolver banded = new DCNodalSolver(narrow);
+        assertFalse(banded.isSparse());
+        assertVoltages(denseVoltages(narrow), banded.solve());
+
+        DCNetlist wide = mesh(32, random);
+        DCNodalSolver sparse = new DCNodalSolver(wide);
+        assertTrue(sparse.isSparse());
+        assertVoltages(denseVoltages(wide), sparse.solve());
+    }
+
+    @Test
+    public void refactorKeepsPivotsAndSolvesNewValues() {
+        Random random = new Random(11);
+        int n = 200;
+        SparseMatrix.Builder builder = new SparseMatrix.Builder(n);
+        for (int i = 0; i < n; i++) {
+            builder.add(i, i, 4 + random.nextDouble());
+            for (int t = 0; t < 3; t++) {
+                builder.add(i, random.nextInt(n), random.nextDouble() - 0.5);
+            }
+        }
+        SparseMatrix a = builder.build();
+        SparseLU lu = SparseLU.factor(a, SparseLU.analyze(a));
+
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) expected[i] = Math.sin(i);
+        double[] b = new double[n];
+        double[] x = new double[n];
+        for (int round = 0; round < 2; round++) {
+            a.multiply(expected, b);
+            lu.solve(b, x);
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i], x[i], 1e-12);
+            }
+            // Mismos no nulos, otros valores: los pivotes de la primera factorización alcanzan
+            double[] values = a.getValues();
+            for (int p = 0; p < values.length; p++) values[p] *= 1 + 0.1 * random.nextDouble();
+            assertTrue(lu.refactor(a));
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void voltageSourceLoopIsSingularInBandMode() {
+        DCNetlist loop = new DCNetlist()
+            .addVoltageSource(1, DCNetlist.GROUND, 10)
+            .addVoltageSource(1, DCNetlist.GROUND, 5)
+            .addResistor(1, DCNetlist.GROUND, 100);
+        new DCNodalSolver(loop).solve();
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void voltageSourceLoopIsSingularInSparseMode() {
+        DCNetlist loop = mesh(32, new Random(5));
+        loop.addVoltageSource(1, DCNetlist.GROUND, 10);
+        DCNodalSolver solver = new DCNodalSolver(loop);
+        assertTrue(solver.isSparse());
+        solver.solve();
+    }
+}